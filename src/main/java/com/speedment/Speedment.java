@@ -25,6 +25,7 @@ import com.speedment.component.EntityManager;
 import com.speedment.component.EventComponent;
 import com.speedment.component.ManagerComponent;
 import com.speedment.component.PasswordComponent;
+import com.speedment.component.PipelineOptimizerComponent;
 import com.speedment.component.PrimaryKeyFactoryComponent;
 import com.speedment.component.ProjectComponent;
 import com.speedment.component.StreamSupplierComponent;
@@ -191,4 +192,8 @@ public interface Speedment {
     default DocumentPropertyComponent getDocumentPropertyComponent() {
         return get(DocumentPropertyComponent.class);
     }
+
+    default PipelineOptimizerComponent getPipelineOptimizerComponent() {
+        return get(PipelineOptimizerComponent.class);
+    }
 }
@@ -24,6 +24,7 @@ package com.speedment.component;
 import com.speedment.Speedment;
 import com.speedment.annotation.Api;
 import com.speedment.exception.SpeedmentException;
+import com.speedment.manager.UnitOfWork;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -71,6 +72,14 @@ public interface EntityManager extends Component {
      */
     <ENTITY> void remove(ENTITY entity) throws SpeedmentException;
 
+    /**
+     * Creates a new {@link UnitOfWork} that collects operations on entities
+     * of any managed type and executes them in a single transaction.
+     *
+     * @return a new unit of work
+     */
+    UnitOfWork newUnitOfWork();
+
     /**
      * Returns the default EntityManager from the Platform. This method is there
      * for JPA compatibility.
@@ -0,0 +1,68 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.component;
+
+import com.speedment.annotation.Api;
+import com.speedment.stream.Pipeline;
+import com.speedment.stream.PipelineRule;
+import java.util.stream.Stream;
+
+/**
+ * This Component interface is used to rewrite stream pipelines before they
+ * are executed. The component holds an ordered set of 
+ * {@link PipelineRule PipelineRules} that are applied until the pipeline 
+ * reaches a fixed point. By installing additional rules, custom optimizations
+ * can be plugged into every stream supplier that uses this component.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface PipelineOptimizerComponent extends Component {
+
+    @Override
+    default Class<PipelineOptimizerComponent> getComponentClass() {
+        return PipelineOptimizerComponent.class;
+    }
+
+    /**
+     * Installs the provided rule after the rules that are already installed.
+     *
+     * @param rule  the rule to install
+     */
+    void install(PipelineRule rule);
+
+    /**
+     * Returns the installed rules in the order they are applied.
+     *
+     * @return the installed rules
+     */
+    Stream<PipelineRule> rules();
+
+    /**
+     * Applies the installed rules to the provided pipeline until none of 
+     * them changes it any more. The pipeline is rewritten in place.
+     *
+     * @param <P>             the pipeline type
+     * @param pipeline        the pipeline to optimize
+     * @param orderSensitive  if the terminal operation that will be executed
+     *                        depends on the encounter order of the elements
+     * @return                the provided pipeline
+     */
+    <P extends Pipeline> P optimize(P pipeline, boolean orderSensitive);
+
+}
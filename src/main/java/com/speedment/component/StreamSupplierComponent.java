@@ -21,7 +21,13 @@ import com.speedment.field.trait.ComparableFieldTrait;
 import com.speedment.field.trait.FieldTrait;
 import com.speedment.field.trait.ReferenceFieldTrait;
 import com.speedment.stream.StreamDecorator;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import java.util.stream.Stream;
 
 /**
@@ -55,6 +61,29 @@ public interface StreamSupplierComponent extends Component {
                 .findAny();
     }
 
+    /**
+     * Finds the entities where the provided field matches any of the provided
+     * values, mapped by the value of the field. If several entities match the
+     * same value, then an arbitrary one of them is kept.
+     *
+     * @param <ENTITY> entity type
+     * @param <D> the database type
+     * @param <V> the value type
+     * @param <F> the field type
+     * @param entityClass the entity class
+     * @param field the field to match
+     * @param values the values to match
+     * @return the matching entities mapped by the value of the field
+     */
+    default <ENTITY, D, V extends Comparable<? super V>, F extends FieldTrait & ReferenceFieldTrait<ENTITY, D, V> & ComparableFieldTrait<ENTITY, D, V>>
+            Map<V, ENTITY> findAll(Class<ENTITY> entityClass, F field, Collection<? extends V> values) {
+        final Set<V> keys = new HashSet<>(values);
+        keys.remove(null);
+        return stream(entityClass, StreamDecorator.IDENTITY)
+                .filter(field.in(keys))
+                .collect(toMap(field::get, identity(), (a, b) -> a));
+    }
+
     /**
      * Returns if this stream component will return the same stream result over
      * time (immutable or analytics type of data).
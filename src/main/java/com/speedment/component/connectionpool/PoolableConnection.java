@@ -18,6 +18,7 @@ package com.speedment.component.connectionpool;
 
 import com.speedment.annotation.Api;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 /**
@@ -46,4 +47,27 @@ public interface PoolableConnection extends Connection {
 
     void setOnClose(Runnable onClose);
 
+    /**
+     * Returns a prepared statement for the provided SQL that is cached by this
+     * connection, preparing it first if needed. Since a connection is only
+     * leased to one user at a time, the statement is reused by subsequent 
+     * leases of the same connection.
+     * <p>
+     * The statement is owned by this connection and must not be closed by 
+     * the caller. It is closed when the connection is closed for real (see 
+     * {@link #rawClose()}) or when it is evicted from the cache.
+     * <p>
+     * The default implementation does not cache anything and simply returns
+     * {@link #prepareStatement(String)}. Such a statement is not owned by the
+     * connection, so callers that can not tell whether the connection caches
+     * statements should use {@link #prepareStatement(String)} instead.
+     *
+     * @param sql  the SQL of the statement
+     * @return     the cached statement
+     * @throws SQLException  if the statement can not be prepared
+     */
+    default PreparedStatement prepareCachedStatement(String sql) throws SQLException {
+        return prepareStatement(sql);
+    }
+
 }
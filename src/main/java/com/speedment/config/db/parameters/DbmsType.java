@@ -29,6 +29,7 @@ import com.speedment.internal.core.config.dbms.DbmsTypeImpl;
 import com.speedment.manager.SpeedmentPredicateView;
 import static com.speedment.stream.MapStream.comparing;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -170,6 +171,115 @@ public interface DbmsType {
      */
     String getInitialQuery();
 
+    /**
+     * Returns how the position of {@code null} values is expressed when an
+     * {@code ORDER BY} clause is rendered for this database type.
+     *
+     * @return how the null order is expressed in an {@code ORDER BY} clause
+     */
+    SortByNullOrderInsertion getSortByNullOrderInsertion();
+
+    /**
+     * Returns to what extent this database type supports {@code LIMIT} and
+     * {@code OFFSET}.
+     *
+     * @return the skip/limit support for this database type
+     */
+    SkipLimitSupport getSkipLimitSupport();
+
+    /**
+     * Returns how this database type must be instructed to stream the rows of
+     * a result set when a fetch size has been requested.
+     *
+     * @return the result set streaming mode for this database type
+     */
+    ResultSetStreamingMode getResultSetStreamingMode();
+
+    /**
+     * Returns how this database type binds a collection of values that a
+     * column should be matched against.
+     *
+     * @return the in list binding for this database type
+     */
+    InListBinding getInListBinding();
+
+    /**
+     * Returns what this database type must do with a statement that is still
+     * producing rows when the stream that reads them is closed.
+     *
+     * @return the statement cancellation for this database type
+     */
+    StatementCancellation getStatementCancellation();
+
+    /**
+     * Returns if this database type can insert several rows using a single
+     * statement.
+     *
+     * @return the multi-row insert support for this database type
+     */
+    MultiRowInsertSupport getMultiRowInsertSupport();
+
+    /**
+     * Returns how this database type inserts a row or updates the existing row
+     * with the same key, using a single statement.
+     *
+     * @return the upsert support for this database type
+     */
+    UpsertSupport getUpsertSupport();
+
+    /**
+     * Returns a new SQL query that is the given query with a {@code LIMIT}
+     * and/or {@code OFFSET} clause appended. The values of the clause are
+     * added to the provided list of parameters. If this database type does
+     * not support the requested clause (see {@link #getSkipLimitSupport()}),
+     * the original query is returned.
+     * <p>
+     * A skip of {@code 0} means that no rows shall be skipped and a limit of
+     * {@code Long.MAX_VALUE} means that the number of rows is not limited.
+     *
+     * @param originalSql  the query to restrict
+     * @param params       the parameters of the query, to add values to
+     * @param skip         the number of rows to skip
+     * @param limit        the maximum number of rows to return
+     * @return             the restricted query
+     */
+    String applySkipLimit(String originalSql, List<Object> params, long skip, long limit);
+
+    /**
+     * Returns a new SQL insert command that inserts the given number of rows
+     * using the same columns as the given single row insert command. The 
+     * {@code VALUES} tuple of the given command may be followed by other 
+     * clauses, and the parameters of the returned command are the parameters
+     * of each row, in order. If
+     * this database type does not support multi-row inserts (see 
+     * {@link #getMultiRowInsertSupport()}) or if only one row is requested,
+     * the original command is returned.
+     *
+     * @param singleRowSql  the insert command of a single row
+     * @param rows          the number of rows to insert
+     * @return              the multi-row insert command
+     */
+    String applyMultiRowInsert(String singleRowSql, int rows);
+
+    /**
+     * Returns a new SQL command that is the given insert command followed by 
+     * a clause that updates the existing row instead, if a row with the same 
+     * key already exists. The names of the columns are given unquoted. The
+     * parameters of the returned command are the parameters of the insert.
+     * <p>
+     * If this database type does not support upserts (see 
+     * {@link #getUpsertSupport()}), an {@code UnsupportedOperationException}
+     * is thrown.
+     *
+     * @param insertSql         the insert command of a single row
+     * @param keyColumns        the names of the primary key columns
+     * @param updateColumns     the names of the columns to update
+     * @param generatedColumns  the names of the generated columns that are 
+     *                          not given a value by the insert
+     * @return                  the upsert command
+     */
+    String applyUpsert(String insertSql, List<String> keyColumns, List<String> updateColumns, List<String> generatedColumns);
+
     /**
      * Creates and returns a new DbmsType builder. The builder is initialized
      * with default values for some optional parameters.
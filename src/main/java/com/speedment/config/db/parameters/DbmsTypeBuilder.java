@@ -215,6 +215,75 @@ public interface DbmsTypeBuilder {
          */
         Optionals withInitialQuery(String initialQuery);
 
+        /**
+         * Enters how the position of {@code null} values shall be expressed
+         * when an {@code ORDER BY} clause is rendered. The default value is
+         * {@link SortByNullOrderInsertion#PRE}.
+         *
+         * @param sortByNullOrderInsertion how the null order is expressed
+         * @return a builder
+         */
+        Optionals withSortByNullOrderInsertion(SortByNullOrderInsertion sortByNullOrderInsertion);
+
+        /**
+         * Enters to what extent {@code LIMIT} and {@code OFFSET} are supported
+         * by this type of Dbms. The default value is
+         * {@link SkipLimitSupport#NONE}.
+         *
+         * @param skipLimitSupport the skip/limit support
+         * @return a builder
+         */
+        Optionals withSkipLimitSupport(SkipLimitSupport skipLimitSupport);
+
+        /**
+         * Enters how this type of Dbms must be instructed to stream the rows
+         * of a result set when a fetch size has been requested. The default
+         * value is {@link ResultSetStreamingMode#FETCH_SIZE}.
+         *
+         * @param resultSetStreamingMode the result set streaming mode
+         * @return a builder
+         */
+        Optionals withResultSetStreamingMode(ResultSetStreamingMode resultSetStreamingMode);
+
+        /**
+         * Enters how this type of Dbms binds a collection of values that a
+         * column should be matched against. The default value is
+         * {@link InListBinding#PARAMETER_LIST}.
+         *
+         * @param inListBinding the in list binding
+         * @return a builder
+         */
+        Optionals withInListBinding(InListBinding inListBinding);
+
+        /**
+         * Enters what this type of Dbms must do with a statement that is 
+         * still producing rows when the stream that reads them is closed. The
+         * default value is {@link StatementCancellation#CLOSE}.
+         *
+         * @param statementCancellation the statement cancellation
+         * @return a builder
+         */
+        Optionals withStatementCancellation(StatementCancellation statementCancellation);
+
+        /**
+         * Enters if this type of Dbms can insert several rows using a single
+         * statement. The default value is {@link MultiRowInsertSupport#NONE}.
+         *
+         * @param multiRowInsertSupport the multi-row insert support
+         * @return a builder
+         */
+        Optionals withMultiRowInsertSupport(MultiRowInsertSupport multiRowInsertSupport);
+
+        /**
+         * Enters how this type of Dbms inserts a row or updates the existing
+         * row with the same key, using a single statement. The default value
+         * is {@link UpsertSupport#NONE}.
+         *
+         * @param upsertSupport the upsert support
+         * @return a builder
+         */
+        Optionals withUpsertSupport(UpsertSupport upsertSupport);
+
         /**
          * Creates and returns a new DbmsType instance with the given
          * parameters.
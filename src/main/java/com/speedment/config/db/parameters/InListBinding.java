@@ -0,0 +1,63 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.config.db.parameters;
+
+import com.speedment.annotation.Api;
+
+/**
+ * Describes how a {@link DbmsType} binds a collection of values that a column
+ * should be matched against, for example when entities are looked up by a
+ * collection of keys. Larger collections are split into chunks of at most
+ * {@link #getMaxChunkSize()} values so that the number of parameters of a
+ * single statement stays within the limits of the driver.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public enum InListBinding {
+
+    /**
+     * Each value is bound as a separate parameter in a clause on the form
+     * {@code column IN (?, ?, ...)}. This is the default.
+     */
+    PARAMETER_LIST(1_000),
+
+    /**
+     * All values are bound as a single SQL array parameter in a clause on the
+     * form {@code column = ANY(?)}. The statement text is then the same
+     * regardless of the number of values. This is the case for PostgreSQL.
+     */
+    ARRAY_PARAMETER(10_000);
+
+    private final int maxChunkSize;
+
+    private InListBinding(int maxChunkSize) {
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    /**
+     * Returns the maximum number of values that should be bound in a single
+     * statement.
+     *
+     * @return the maximum number of values per statement
+     */
+    public int getMaxChunkSize() {
+        return maxChunkSize;
+    }
+
+}
@@ -0,0 +1,77 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.config.db.parameters;
+
+import com.speedment.annotation.Api;
+
+/**
+ * Describes if a {@link DbmsType} can insert several rows using a single
+ * statement on the form {@code INSERT INTO t (a, b) VALUES (?, ?), (?, ?)}.
+ * Larger sets of rows are split into several statements so that each of them
+ * stays within {@link #getMaxParameters()} parameters and roughly
+ * {@link #getMaxStatementLength()} characters.
+ *
+ * @author pemi
+ * @since 2.3
+ * @see DbmsType#applyMultiRowInsert(String, int)
+ */
+@Api(version = "2.3")
+public enum MultiRowInsertSupport {
+
+    /**
+     * Several rows may be listed after {@code VALUES}. The limits are chosen
+     * to stay below both the parameter limit of the PostgreSQL driver and the
+     * smallest default packet size of MySQL and MariaDB. This is supported by
+     * MySQL, MariaDB and PostgreSQL.
+     */
+    VALUES_LIST(32_767, 1 << 20),
+
+    /**
+     * Only one row may be listed after {@code VALUES}. Several rows are
+     * inserted using JDBC batches instead. This is the default.
+     */
+    NONE(0, 0);
+
+    private final int maxParameters;
+    private final int maxStatementLength;
+
+    private MultiRowInsertSupport(int maxParameters, int maxStatementLength) {
+        this.maxParameters      = maxParameters;
+        this.maxStatementLength = maxStatementLength;
+    }
+
+    /**
+     * Returns the maximum number of parameters that a single multi-row insert
+     * statement may have.
+     *
+     * @return the maximum number of parameters per statement
+     */
+    public int getMaxParameters() {
+        return maxParameters;
+    }
+
+    /**
+     * Returns the approximate maximum length of a single multi-row insert
+     * statement, including the length of the values that are bound to it.
+     *
+     * @return the maximum length per statement
+     */
+    public int getMaxStatementLength() {
+        return maxStatementLength;
+    }
+
+}
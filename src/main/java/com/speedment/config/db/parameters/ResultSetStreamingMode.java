@@ -0,0 +1,56 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.config.db.parameters;
+
+import com.speedment.annotation.Api;
+
+/**
+ * Describes how a {@link DbmsType} must be instructed to stream the rows of a
+ * large result set from the database instead of reading all of them into the
+ * memory of the JVM at once. The mode is only used when a positive fetch size
+ * has been requested for a stream, for example using
+ * {@link com.speedment.stream.StreamDecorator#fetchSize(int)}.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public enum ResultSetStreamingMode {
+
+    /**
+     * The requested fetch size is set on the statement and the driver is 
+     * trusted to honor it. This is the default.
+     */
+    FETCH_SIZE,
+
+    /**
+     * The statement is created as {@code TYPE_FORWARD_ONLY} and 
+     * {@code CONCUR_READ_ONLY} with a fetch size of {@code Integer.MIN_VALUE},
+     * which makes the driver stream the rows one by one regardless of the 
+     * requested fetch size. This is the case for MySQL and MariaDB.
+     */
+    MIN_VALUE_FETCH_SIZE,
+
+    /**
+     * The requested fetch size is only honored by the driver if the statement
+     * is executed within a transaction. Auto commit is therefore turned off 
+     * while the result set is open and is restored when the stream is closed.
+     * This is the case for PostgreSQL.
+     */
+    NON_AUTO_COMMIT_CURSOR;
+
+}
@@ -0,0 +1,52 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.config.db.parameters;
+
+import com.speedment.annotation.Api;
+
+/**
+ * Describes to what extent a {@link DbmsType} supports that the number of rows
+ * returned by a query is restricted using {@code LIMIT} and {@code OFFSET}.
+ *
+ * @author pemi
+ * @since 2.3
+ * @see DbmsType#applySkipLimit(String, java.util.List, long, long)
+ */
+@Api(version = "2.3")
+public enum SkipLimitSupport {
+
+    /**
+     * {@code LIMIT} and {@code OFFSET} may be used independently of each
+     * other, for example {@code OFFSET ?} without a limit. This is supported by
+     * PostgreSQL.
+     */
+    STANDARD,
+    
+    /**
+     * {@code OFFSET} may only be used together with {@code LIMIT}. If only an
+     * offset is requested, the largest possible limit is rendered. This is the
+     * case for MySQL and MariaDB.
+     */
+    OFFSET_REQUIRES_LIMIT,
+    
+    /**
+     * {@code LIMIT} and {@code OFFSET} are not supported. All rows are read
+     * from the database and skipped or limited in the JVM.
+     */
+    NONE;
+
+}
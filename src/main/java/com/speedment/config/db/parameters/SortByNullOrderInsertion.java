@@ -0,0 +1,44 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.config.db.parameters;
+
+import com.speedment.annotation.Api;
+
+/**
+ * Describes how a {@link DbmsType} expresses the position of {@code null}
+ * values when rendering an {@code ORDER BY} clause.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public enum SortByNullOrderInsertion {
+
+    /**
+     * The null order is expressed by an extra sort key that is inserted before
+     * the column, for example {@code `col` IS NULL DESC, `col` ASC}. This is
+     * the only way to express the null order in MySQL and MariaDB.
+     */
+    PRE,
+    
+    /**
+     * The null order is expressed by a suffix to the sort key, for example
+     * {@code "col" ASC NULLS FIRST}. This is supported by PostgreSQL.
+     */
+    POST;
+
+}
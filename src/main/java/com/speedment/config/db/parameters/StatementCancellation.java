@@ -0,0 +1,48 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.config.db.parameters;
+
+import com.speedment.annotation.Api;
+
+/**
+ * Describes what a {@link DbmsType} must do with a statement that is still 
+ * producing rows when the stream that reads them is closed, for example 
+ * after a short-circuiting operation such as {@code findFirst()}. This only
+ * matters when the rows are streamed from the database, which is the case
+ * when a positive fetch size has been requested for the stream.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public enum StatementCancellation {
+
+    /**
+     * The statement is just closed. Depending on the driver, the remaining 
+     * rows may then be read and discarded before the connection can be used
+     * again. This is the default.
+     */
+    CLOSE,
+
+    /**
+     * {@link java.sql.Statement#cancel()} is called before the statement is
+     * closed, so that the database stops producing the remaining rows. This 
+     * is the case for MySQL, MariaDB and PostgreSQL.
+     */
+    CANCEL;
+
+}
@@ -0,0 +1,69 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.config.db.parameters;
+
+import com.speedment.annotation.Api;
+
+/**
+ * Describes how a {@link DbmsType} inserts a row or updates the existing row
+ * with the same key, using a single statement.
+ *
+ * @author pemi
+ * @since 2.3
+ * @see DbmsType#applyUpsert(String, java.util.List, java.util.List, java.util.List)
+ */
+@Api(version = "2.3")
+public enum UpsertSupport {
+
+    /**
+     * The insert is followed by {@code ON DUPLICATE KEY UPDATE}. The generated
+     * key of a single row is read back using {@code LAST_INSERT_ID(column)},
+     * but the keys of a batch of rows can not be mapped back to the rows. This
+     * is the case for MySQL and MariaDB.
+     */
+    ON_DUPLICATE_KEY_UPDATE(false),
+
+    /**
+     * The insert is followed by {@code ON CONFLICT (key) DO UPDATE}. The 
+     * affected rows are returned in order, also for a batch of rows. This is
+     * supported by PostgreSQL.
+     */
+    ON_CONFLICT_DO_UPDATE(true),
+
+    /**
+     * There is no such statement. The row is first updated and then inserted
+     * if no row was updated, which is not atomic. This is the default.
+     */
+    NONE(false);
+
+    private final boolean batchGeneratedKeys;
+
+    private UpsertSupport(boolean batchGeneratedKeys) {
+        this.batchGeneratedKeys = batchGeneratedKeys;
+    }
+
+    /**
+     * Returns if the generated keys of a batch of upserted rows can be mapped
+     * back to the rows, in order.
+     *
+     * @return if the generated keys of a batch can be used
+     */
+    public boolean hasBatchGeneratedKeys() {
+        return batchGeneratedKeys;
+    }
+
+}
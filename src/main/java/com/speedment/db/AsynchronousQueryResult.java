@@ -48,4 +48,62 @@ public interface AsynchronousQueryResult<T> extends HasParallelStrategy, AutoClo
 
     void setRsMapper(Function<ResultSet, T> rsMapper);
 
+    /**
+     * Returns the number of rows that shall be fetched from the database at a
+     * time. A value of {@code 0} means that the driver default is used, which
+     * for some drivers means that the entire result set is read into memory.
+     *
+     * @return the fetch size
+     */
+    int getFetchSize();
+
+    /**
+     * Sets the number of rows that shall be fetched from the database at a
+     * time. A positive value makes the result set stream its rows in the way 
+     * specified by 
+     * {@link com.speedment.config.db.parameters.DbmsType#getResultSetStreamingMode()}.
+     * A value of {@code 0} means that the driver default is used.
+     *
+     * @param fetchSize the fetch size
+     */
+    void setFetchSize(int fetchSize);
+
+    /**
+     * Returns the maximum number of rows that a separate reader thread may 
+     * read and map ahead of the consumer of the stream. A value of {@code 0}
+     * means that rows are read by the consumer itself.
+     *
+     * @return the read-ahead buffer size
+     */
+    int getReadAheadSize();
+
+    /**
+     * Sets the maximum number of rows that a separate reader thread may read
+     * and map ahead of the consumer of the stream. A positive value makes the
+     * stream fetch and map rows on a dedicated thread. A value of {@code 0}
+     * means that rows are read by the consumer itself.
+     *
+     * @param readAheadSize the read-ahead buffer size
+     */
+    void setReadAheadSize(int readAheadSize);
+
+    /**
+     * Returns the number of seconds that the query may execute before it is
+     * cancelled by the driver. A value of {@code 0} means that there is no
+     * limit.
+     *
+     * @return the query timeout in seconds
+     */
+    int getQueryTimeout();
+
+    /**
+     * Sets the number of seconds that the query may execute before it is
+     * cancelled by the driver. A value of {@code 0} means that there is no
+     * limit.
+     *
+     * @param queryTimeout the query timeout in seconds
+     * @see java.sql.Statement#setQueryTimeout(int)
+     */
+    void setQueryTimeout(int queryTimeout);
+
 }
@@ -21,13 +21,16 @@ import com.speedment.config.db.Dbms;
 import com.speedment.config.db.Project;
 import com.speedment.config.db.Schema;
 import com.speedment.db.trait.HasCreateFromConnectionMethods;
+import com.speedment.exception.SpeedmentException;
 import com.speedment.field.trait.FieldTrait;
 import com.speedment.field.trait.ReferenceFieldTrait;
 import com.speedment.util.ProgressMeasure;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -130,6 +133,49 @@ public interface DbmsHandler extends HasCreateFromConnectionMethods {
      */
     public <T> Stream<T> executeQuery(String sql, List<?> values, SqlFunction<ResultSet, T> rsMapper);
 
+    /**
+     * Eagerly executes a SQL query just like 
+     * {@link #executeQuery(String, List, SqlFunction)}, except that an 
+     * {@link SQLException} is thrown to the caller instead of being logged as
+     * an error. This is intended for queries that the database may reject 
+     * without anything being wrong, for example an {@code EXPLAIN} of a 
+     * statement that the database can not explain.
+     * <p>
+     * The default implementation delegates to 
+     * {@link #executeQuery(String, List, SqlFunction)}.
+     *
+     * @param <T> the type of the objects in the stream to return
+     * @param sql the non-null SQL command to execute
+     * @param values non-null values to use for "?" parameters in the sql
+     * command
+     * @param rsMapper the non-null mapper to use when iterating over the
+     * {@link ResultSet}
+     * @return a stream of the mapped objects
+     * @throws SQLException if the query fails
+     */
+    default <T> Stream<T> executeQueryChecked(String sql, List<?> values, SqlFunction<ResultSet, T> rsMapper) throws SQLException {
+        return executeQuery(sql, values, rsMapper);
+    }
+
+    /**
+     * Eagerly executes a SQL query that returns at most one row of interest 
+     * and maps the first row (if any) using the provided mapper. This is 
+     * intended for frequent point lookups by a unique key, so an 
+     * implementation may cache the prepared statement of the query and reuse
+     * it for subsequent calls with the same SQL.
+     *
+     * @param <T> the type of the object to return
+     * @param sql the non-null SQL command to execute
+     * @param values non-null values to use for "?" parameters in the sql
+     * command
+     * @param rsMapper the non-null mapper to use for the first row of the
+     * {@link ResultSet}
+     * @return the mapped first row or empty if no row was returned
+     */
+    default <T> Optional<T> executeLookup(String sql, List<?> values, SqlFunction<ResultSet, T> rsMapper) {
+        return executeQuery(sql, values, rsMapper).findFirst();
+    }
+
     /**
      * Lazily Executes a SQL query and subsequently maps each row in the
      * {@link ResultSet} using a provided mapper and return a stream of the
@@ -181,6 +227,36 @@ public interface DbmsHandler extends HasCreateFromConnectionMethods {
         final Consumer<List<Long>> generatedKeyConsumer
     ) throws SQLException;
 
+    /**
+     * Executes the same SQL insert command once for every provided row of 
+     * values, as a single batch within a single transaction. The generated 
+     * key(s) of all the rows (if any) will be fed to the provided Consumer in
+     * the order of the rows.
+     * <p>
+     * The default implementation executes the rows one by one using 
+     * {@link #executeInsert(String, List, List, Consumer)}.
+     *
+     * @param <F> dynamic type
+     * @param sql the non-null SQL command to execute
+     * @param rows a non-null list of the values of each row
+     * @param generatedKeyFields list of the generated fields
+     * @param generatedKeyConsumer the non-null consumer of the generated keys
+     * of all the rows
+     * @throws SQLException if an error occurs
+     */
+    default <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> void executeInsertBatch(
+        final String sql,
+        final List<? extends List<?>> rows,
+        final List<F> generatedKeyFields,
+        final Consumer<List<Long>> generatedKeyConsumer
+    ) throws SQLException {
+        final List<Long> generatedKeys = new ArrayList<>();
+        for (final List<?> values : rows) {
+            executeInsert(sql, values, generatedKeyFields, generatedKeys::addAll);
+        }
+        generatedKeyConsumer.accept(generatedKeys);
+    }
+
 //    /**
 //     * Executes an SQL update command. Generated key(s) following an insert
 //     * command (if any) will be feed to the provided {code Consumer}.
@@ -220,6 +296,42 @@ public interface DbmsHandler extends HasCreateFromConnectionMethods {
      */
     public void executeDelete(final String sql, final List<?> values) throws SQLException;
 
+    /**
+     * Executes an SQL update command that may affect any number of rows and
+     * returns the number of affected rows.
+     * <p>
+     * The default implementation throws a {@link SpeedmentException} since 
+     * the number of affected rows is not known to this interface.
+     *
+     * @param sql the non-null SQL command to execute
+     * @param values a non-null list
+     * @return the number of updated rows
+     * @throws SQLException if an error occurs
+     */
+    default long executeBulkUpdate(final String sql, final List<?> values) throws SQLException {
+        throw new SpeedmentException(
+            getClass().getSimpleName() + " does not support bulk updates."
+        );
+    }
+
+    /**
+     * Executes an SQL delete command that may affect any number of rows and
+     * returns the number of affected rows.
+     * <p>
+     * The default implementation throws a {@link SpeedmentException} since 
+     * the number of affected rows is not known to this interface.
+     *
+     * @param sql the non-null SQL command to execute
+     * @param values a non-null list
+     * @return the number of removed rows
+     * @throws SQLException if an error occurs
+     */
+    default long executeBulkDelete(final String sql, final List<?> values) throws SQLException {
+        throw new SpeedmentException(
+            getClass().getSimpleName() + " does not support bulk deletes."
+        );
+    }
+
     /**
      * Returns a string with information on the current dbms.
      *
@@ -0,0 +1,42 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.field.methods;
+
+import com.speedment.annotation.Api;
+import com.speedment.field.trait.ReferenceFieldTrait;
+
+/**
+ * Represents a get-operation with all the metadata contained. Since the field
+ * is known, a {@code map(...)} operation using a {@code FieldGetter} can be 
+ * rendered to SQL as a selection of a single column.
+ * 
+ * @param <ENTITY>  entity type
+ * @param <V>       column value type
+ * 
+ * @author  pemi
+ * @since   2.3
+ */
+@Api(version = "2.3")
+public interface FieldGetter<ENTITY, V> extends Getter<ENTITY, V> {
+
+    /**
+     * Returns the field that this getter gets.
+     * 
+     * @return  the field
+     */
+    ReferenceFieldTrait<ENTITY, ?, V> getField();
+}
@@ -0,0 +1,60 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.field.methods;
+
+import com.speedment.annotation.Api;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.field.NumberFieldGetterImpl;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@code ToIntFunction} that returns the value of a particular numeric field
+ * in an entity. Since the field is known, a {@code mapToInt(...)} operation
+ * using a {@code ToIntFieldGetter} can be rendered to SQL, for example as a
+ * part of an aggregate function such as {@code SUM}.
+ * <p>
+ * <b>Example:</b>
+ * <code>orders.stream().mapToInt(ToIntFieldGetter.of(Order.AMOUNT)).sum()</code>
+ * 
+ * @param <ENTITY>  the entity type
+ * 
+ * @author  pemi
+ * @since   2.3
+ */
+@Api(version = "2.3")
+public interface ToIntFieldGetter<ENTITY> extends ToIntFunction<ENTITY> {
+
+    /**
+     * Returns the field that this getter gets.
+     * 
+     * @return  the field
+     */
+    ReferenceFieldTrait<ENTITY, ?, ? extends Number> getField();
+    
+    /**
+     * Creates and returns a new {@code ToIntFieldGetter} for the provided
+     * field. The value of the field is converted to a {@code int} using
+     * {@link Number#intValue()}.
+     * 
+     * @param <ENTITY>  the entity type
+     * @param field     the field to get
+     * @return          a new getter
+     */
+    static <ENTITY> ToIntFieldGetter<ENTITY> of(ReferenceFieldTrait<ENTITY, ?, ? extends Number> field) {
+        return new NumberFieldGetterImpl<>(field);
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.field.methods;
+
+import com.speedment.annotation.Api;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.field.TupleGetterImpl;
+import com.speedment.util.tuple.Tuple2OfNullables;
+import com.speedment.util.tuple.Tuple3OfNullables;
+import com.speedment.util.tuple.Tuple4OfNullables;
+import com.speedment.util.tuple.TupleOfNullables;
+import java.sql.ResultSet;
+import static java.util.Arrays.asList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Represents a get-operation of several fields at once that returns the 
+ * values as a tuple. Since the fields are known, a {@code map(...)} operation
+ * using a {@code TupleGetter} can be rendered to SQL as a selection of the
+ * corresponding columns only, so that no entity has to be created.
+ * <p>
+ * The values of the tuple are nullable, since the columns may contain 
+ * {@code null} values.
+ *
+ * @param <ENTITY>  entity type
+ * @param <T>       tuple type
+ *
+ * @author  pemi
+ * @since   2.3
+ */
+@Api(version = "2.3")
+public interface TupleGetter<ENTITY, T extends TupleOfNullables> extends Function<ENTITY, T> {
+
+    /**
+     * Returns the fields that this getter gets, in tuple order.
+     *
+     * @return  the fields
+     */
+    List<ReferenceFieldTrait<ENTITY, ?, ?>> getFields();
+
+    /**
+     * Creates and returns a mapper that builds a tuple directly from a row of
+     * a {@code ResultSet}, using one column mapper per field in tuple order.
+     *
+     * @param columnMappers  the column mappers, one per field
+     * @return               the row mapper
+     */
+    Function<ResultSet, T> rowMapper(List<? extends Function<ResultSet, ?>> columnMappers);
+
+    static <ENTITY, T0, T1> TupleGetter<ENTITY, Tuple2OfNullables<T0, T1>> of(
+            ReferenceFieldTrait<ENTITY, ?, T0> f0, 
+            ReferenceFieldTrait<ENTITY, ?, T1> f1) {
+        
+        return new TupleGetterImpl<>(asList(f0, f1));
+    }
+
+    static <ENTITY, T0, T1, T2> TupleGetter<ENTITY, Tuple3OfNullables<T0, T1, T2>> of(
+            ReferenceFieldTrait<ENTITY, ?, T0> f0, 
+            ReferenceFieldTrait<ENTITY, ?, T1> f1, 
+            ReferenceFieldTrait<ENTITY, ?, T2> f2) {
+        
+        return new TupleGetterImpl<>(asList(f0, f1, f2));
+    }
+
+    static <ENTITY, T0, T1, T2, T3> TupleGetter<ENTITY, Tuple4OfNullables<T0, T1, T2, T3>> of(
+            ReferenceFieldTrait<ENTITY, ?, T0> f0, 
+            ReferenceFieldTrait<ENTITY, ?, T1> f1, 
+            ReferenceFieldTrait<ENTITY, ?, T2> f2, 
+            ReferenceFieldTrait<ENTITY, ?, T3> f3) {
+        
+        return new TupleGetterImpl<>(asList(f0, f1, f2, f3));
+    }
+}
@@ -17,6 +17,8 @@
 package com.speedment.internal.comparator;
 
 import com.speedment.field.trait.FieldTrait;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.comparator.impl.NullOrder;
 import java.util.Comparator;
 
 /**
@@ -34,6 +36,13 @@ public interface SpeedmentComparator<ENTITY, V> extends Comparator<ENTITY> {
      */
     FieldTrait getField();
 
+    /**
+     * Gets the reference trait of the field.
+     *
+     * @return the reference trait of the field
+     */
+    ReferenceFieldTrait<ENTITY, ?, V> getReferenceField();
+
     /**
      * Returns if this Comparator is reversed.
      *
@@ -41,4 +50,21 @@ public interface SpeedmentComparator<ENTITY, V> extends Comparator<ENTITY> {
      */
     boolean isReversed();
 
+    /**
+     * Returns how {@code null} values are ordered by this Comparator. The
+     * returned value does not take {@link #isReversed()} into account.
+     *
+     * @return how {@code null} values are ordered
+     */
+    NullOrder getNullOrder();
+
+    /**
+     * Returns a new SpeedmentComparator that imposes the reverse ordering of
+     * this Comparator. This Comparator is not modified.
+     *
+     * @return a reversed version of this Comparator
+     */
+    @Override
+    SpeedmentComparator<ENTITY, V> reversed();
+
 }
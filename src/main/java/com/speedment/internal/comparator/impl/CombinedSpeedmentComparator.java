@@ -0,0 +1,107 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.comparator.impl;
+
+import com.speedment.internal.comparator.SpeedmentComparator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Comparator} that is composed of a chain of
+ * {@link SpeedmentComparator SpeedmentComparators} where each subsequent
+ * comparator is used to break ties of the previous ones. Since every part of
+ * the chain is known to reference a field, the chain can be rendered as a
+ * multi-column {@code ORDER BY} clause.
+ *
+ * @author pemi
+ * @param <ENTITY> entity type
+ */
+public final class CombinedSpeedmentComparator<ENTITY> implements Comparator<ENTITY> {
+
+    private final List<SpeedmentComparator<ENTITY, ?>> comparators;
+
+    public CombinedSpeedmentComparator(SpeedmentComparator<ENTITY, ?> first) {
+        this.comparators = new ArrayList<>();
+        this.comparators.add(requireNonNull(first));
+    }
+
+    private CombinedSpeedmentComparator(List<SpeedmentComparator<ENTITY, ?>> comparators) {
+        this.comparators = requireNonNull(comparators);
+    }
+
+    /**
+     * Creates and returns a {@link Stream} of all the comparators in this
+     * chain, in order of precedence.
+     *
+     * @return a stream of all the comparators in this chain
+     */
+    public Stream<SpeedmentComparator<ENTITY, ?>> stream() {
+        return comparators.stream();
+    }
+
+    @Override
+    public int compare(ENTITY o1, ENTITY o2) {
+        for (final SpeedmentComparator<ENTITY, ?> comparator : comparators) {
+            final int result = comparator.compare(o1, o2);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public Comparator<ENTITY> reversed() {
+        final List<SpeedmentComparator<ENTITY, ?>> reversedComparators = new ArrayList<>(comparators.size());
+        for (final SpeedmentComparator<ENTITY, ?> comparator : comparators) {
+            reversedComparators.add(comparator.reversed());
+        }
+        return new CombinedSpeedmentComparator<>(reversedComparators);
+    }
+
+    @Override
+    public Comparator<ENTITY> thenComparing(Comparator<? super ENTITY> other) {
+        requireNonNull(other);
+        if (other instanceof SpeedmentComparator) {
+            final List<SpeedmentComparator<ENTITY, ?>> result = new ArrayList<>(comparators);
+            result.add(castToSpeedmentComparator(other));
+            return new CombinedSpeedmentComparator<>(result);
+        }
+        if (other instanceof CombinedSpeedmentComparator) {
+            @SuppressWarnings("unchecked")
+            final CombinedSpeedmentComparator<ENTITY> otherCombined = (CombinedSpeedmentComparator<ENTITY>) other;
+            final List<SpeedmentComparator<ENTITY, ?>> result = new ArrayList<>(comparators);
+            result.addAll(otherCombined.comparators);
+            return new CombinedSpeedmentComparator<>(result);
+        }
+        return Comparator.super.thenComparing(other);
+    }
+
+    @Override
+    public String toString() {
+        return "{comparators=" + comparators + "}";
+    }
+
+    private static <ENTITY> SpeedmentComparator<ENTITY, ?> castToSpeedmentComparator(Comparator<? super ENTITY> comparator) {
+        @SuppressWarnings("unchecked")
+        final SpeedmentComparator<ENTITY, ?> result = (SpeedmentComparator<ENTITY, ?>) comparator;
+        return result;
+    }
+}
@@ -33,12 +33,17 @@ public class SpeedmentComparatorImpl<ENTITY, D, V extends Comparable<? super V>>
     private final FieldTrait field;
     private final ReferenceFieldTrait<ENTITY, D, V> referenceField;
     private final NullOrder nullOrder;
-    private boolean reversed;
+    private final boolean reversed;
 
     public SpeedmentComparatorImpl(FieldTrait field, ReferenceFieldTrait<ENTITY, D, V> referenceField, NullOrder nullOrder) {
-        this.field = field;
-        this.referenceField = referenceField;
-        this.nullOrder = nullOrder;
+        this(field, referenceField, nullOrder, false);
+    }
+
+    private SpeedmentComparatorImpl(FieldTrait field, ReferenceFieldTrait<ENTITY, D, V> referenceField, NullOrder nullOrder, boolean reversed) {
+        this.field = requireNonNull(field);
+        this.referenceField = requireNonNull(referenceField);
+        this.nullOrder = requireNonNull(nullOrder);
+        this.reversed = reversed;
     }
 
     @Override
@@ -46,15 +51,33 @@ public class SpeedmentComparatorImpl<ENTITY, D, V extends Comparable<? super V>>
         return field;
     }
 
+    @Override
+    public ReferenceFieldTrait<ENTITY, D, V> getReferenceField() {
+        return referenceField;
+    }
+
     @Override
     public boolean isReversed() {
         return reversed;
     }
 
     @Override
-    public Comparator<ENTITY> reversed() {
-        reversed = !reversed;
-        return this;
+    public NullOrder getNullOrder() {
+        return nullOrder;
+    }
+
+    @Override
+    public SpeedmentComparator<ENTITY, V> reversed() {
+        return new SpeedmentComparatorImpl<>(field, referenceField, nullOrder, !reversed);
+    }
+
+    @Override
+    public Comparator<ENTITY> thenComparing(Comparator<? super ENTITY> other) {
+        requireNonNull(other);
+        if (other instanceof SpeedmentComparator || other instanceof CombinedSpeedmentComparator) {
+            return new CombinedSpeedmentComparator<ENTITY>(this).thenComparing(other);
+        }
+        return SpeedmentComparator.super.thenComparing(other);
     }
 
     @Override
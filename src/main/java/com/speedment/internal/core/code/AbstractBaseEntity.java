@@ -22,6 +22,7 @@ import com.speedment.db.MetaResult;
 import com.speedment.encoder.JsonEncoder;
 import com.speedment.exception.SpeedmentException;
 import com.speedment.manager.Manager;
+import java.util.BitSet;
 import static java.util.Objects.requireNonNull;
 import java.util.function.Consumer;
 
@@ -32,6 +33,8 @@ import java.util.function.Consumer;
  */
 public abstract class AbstractBaseEntity<ENTITY> implements Entity<ENTITY> {
 
+    private final BitSet dirtyFields = new BitSet();
+
     /**
      * Returns the Speedment instance. This method will be implemented by the
      * instantiating class using an anonymous class and should therefore not be
@@ -88,6 +91,57 @@ public abstract class AbstractBaseEntity<ENTITY> implements Entity<ENTITY> {
     
     protected abstract Class<ENTITY> entityClass();
 
+    /**
+     * Returns if the setters of this entity mark the fields that they set as
+     * changed. Only then can the manager write the changed fields alone, so 
+     * entities that do not track their changes are always written in full.
+     * Generated entities override this method to return {@code true}.
+     * <p>
+     * This method is used by the manager of the entity and should not be 
+     * called by user code.
+     * 
+     * @return  if the changes of this entity are tracked
+     */
+    public boolean tracksDirtyFields_() {
+        return false;
+    }
+
+    /**
+     * Returns the indexes of the fields that have been set since this entity
+     * was loaded from or last written to the database. The index of a field is
+     * its position in {@link Manager#fields()}. The returned set is a copy.
+     * <p>
+     * This method is used by the manager of the entity and should not be 
+     * called by user code.
+     * 
+     * @return  the indexes of the fields that have been set
+     */
+    public final BitSet dirtyFields_() {
+        return (BitSet) dirtyFields.clone();
+    }
+
+    /**
+     * Marks all fields of this entity as unchanged. This is done by the 
+     * manager of the entity when it has been loaded from or written to the
+     * database.
+     * <p>
+     * This method is used by the manager of the entity and should not be 
+     * called by user code.
+     */
+    public final void clearDirtyFields_() {
+        dirtyFields.clear();
+    }
+
+    /**
+     * Marks the field with the given index as changed. This method is called
+     * by the generated setters.
+     * 
+     * @param fieldIndex  the position of the field in {@link Manager#fields()}
+     */
+    protected final void setDirty_(int fieldIndex) {
+        dirtyFields.set(fieldIndex);
+    }
+
     @SuppressWarnings("unchecked")
     private ENTITY selfAsEntity() {
         return (ENTITY) this;
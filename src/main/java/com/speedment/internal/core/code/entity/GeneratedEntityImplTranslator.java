@@ -26,6 +26,7 @@ import com.speedment.codegen.model.Generic;
 import com.speedment.codegen.model.Import;
 import com.speedment.codegen.model.Method;
 import com.speedment.codegen.model.Type;
+import com.speedment.config.db.Column;
 import com.speedment.config.db.Table;
 import com.speedment.exception.SpeedmentException;
 import static com.speedment.internal.codegen.model.constant.DefaultAnnotationUsage.OVERRIDE;
@@ -97,13 +98,20 @@ public final class GeneratedEntityImplTranslator extends EntityAndManagerTransla
              * Setters
              */
             .forEveryColumn((clazz, col) -> {
-                clazz
-                    .add(Method.of(SETTER_METHOD_PREFIX + getSupport().typeName(col), getSupport().entityType())
-                        .public_().final_()
-                        .add(OVERRIDE)
-                        .add(fieldFor(col))
-                        .add("this." + getSupport().variableName(col) + " = " + getSupport().variableName(col) + ";")
-                        .add("return this;"));
+                final Method setter = Method.of(SETTER_METHOD_PREFIX + getSupport().typeName(col), getSupport().entityType())
+                    .public_().final_()
+                    .add(OVERRIDE)
+                    .add(fieldFor(col))
+                    .add("this." + getSupport().variableName(col) + " = " + getSupport().variableName(col) + ";");
+                
+                // Track which columns that have changed so that update() 
+                // only needs to write those.
+                final int fieldIndex = fieldIndexOf(col);
+                if (fieldIndex >= 0) {
+                    setter.add("setDirty_(" + fieldIndex + ");");
+                }
+                
+                clazz.add(setter.add("return this;"));
             })
             /**
              * Add streamers from back pointing foreign keys
@@ -168,6 +176,9 @@ public final class GeneratedEntityImplTranslator extends EntityAndManagerTransla
                     .add(hashCodeMethod())
                     .add(Method.of("entityClass", Type.of(java.lang.Class.class).add(Generic.of().add(getSupport().entityType()))).public_().add(OVERRIDE)
                         .add("return " + getSupport().entityName() + ".class;")
+                    )
+                    .add(Method.of("tracksDirtyFields_", BOOLEAN_PRIMITIVE).public_().add(OVERRIDE)
+                        .add("return true;")
                     );
 
                 /**
@@ -201,6 +212,22 @@ public final class GeneratedEntityImplTranslator extends EntityAndManagerTransla
 
     }
 
+    /**
+     * Returns the position of the given column among the fields of the
+     * generated manager, or {@code -1} if the column is not represented by a
+     * field.
+     * 
+     * @param column  the column
+     * @return        the field index
+     */
+    private int fieldIndexOf(Column column) {
+        final List<String> names = columns()
+            .map(Column::getName)
+            .collect(Collectors.toList());
+        
+        return names.indexOf(column.getName());
+    }
+
     protected Method toString(File file) {
         file.add(Import.of(Type.of(StringJoiner.class)));
         file.add(Import.of(Type.of(Objects.class)));
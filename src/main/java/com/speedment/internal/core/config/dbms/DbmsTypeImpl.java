@@ -30,6 +30,13 @@ import com.speedment.config.db.parameters.DbmsTypeBuilder.WithDriverManagerName;
 import com.speedment.config.db.parameters.DbmsTypeBuilder.WithDriverName;
 import com.speedment.config.db.parameters.DbmsTypeBuilder.WithName;
 import com.speedment.config.db.parameters.DbmsTypeBuilder.WithSpeedmentPredicateView;
+import com.speedment.config.db.parameters.InListBinding;
+import com.speedment.config.db.parameters.MultiRowInsertSupport;
+import com.speedment.config.db.parameters.ResultSetStreamingMode;
+import com.speedment.config.db.parameters.SkipLimitSupport;
+import com.speedment.config.db.parameters.SortByNullOrderInsertion;
+import com.speedment.config.db.parameters.StatementCancellation;
+import com.speedment.config.db.parameters.UpsertSupport;
 import com.speedment.db.ConnectionUrlGenerator;
 import com.speedment.db.DatabaseNamingConvention;
 import com.speedment.db.DbmsHandler;
@@ -39,10 +46,13 @@ import com.speedment.manager.SpeedmentPredicateView;
 import java.util.Collections;
 import static java.util.Collections.unmodifiableSet;
 import java.util.HashSet;
+import java.util.List;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.function.BiFunction;
+import static java.util.stream.Collectors.joining;
 
 /**
  *
@@ -64,6 +74,13 @@ public final class DbmsTypeImpl implements DbmsType {
     private final SpeedmentPredicateView speedmentPredicateView;
     private final String defaultDbmsName;
     private final String initialQuery;
+    private final SortByNullOrderInsertion sortByNullOrderInsertion;
+    private final SkipLimitSupport skipLimitSupport;
+    private final ResultSetStreamingMode resultSetStreamingMode;
+    private final InListBinding inListBinding;
+    private final StatementCancellation statementCancellation;
+    private final MultiRowInsertSupport multiRowInsertSupport;
+    private final UpsertSupport upsertSupport;
 
     private DbmsTypeImpl(
             String name,
@@ -79,7 +96,14 @@ public final class DbmsTypeImpl implements DbmsType {
             Set<TypeInfoMetaData> dataTypes,
             SpeedmentPredicateView speedmentPredicateView,
             String defaultDbmsName,
-            String intitialQuery
+            String intitialQuery,
+            SortByNullOrderInsertion sortByNullOrderInsertion,
+            SkipLimitSupport skipLimitSupport,
+            ResultSetStreamingMode resultSetStreamingMode,
+            InListBinding inListBinding,
+            StatementCancellation statementCancellation,
+            MultiRowInsertSupport multiRowInsertSupport,
+            UpsertSupport upsertSupport
     ) {
         this.name                   = requireNonNull(name);
         this.driverManagerName      = requireNonNull(driverManagerName);
@@ -95,6 +119,13 @@ public final class DbmsTypeImpl implements DbmsType {
         this.speedmentPredicateView = requireNonNull(speedmentPredicateView);
         this.defaultDbmsName        = defaultDbmsName;
         this.initialQuery           = intitialQuery;
+        this.sortByNullOrderInsertion = requireNonNull(sortByNullOrderInsertion);
+        this.skipLimitSupport       = requireNonNull(skipLimitSupport);
+        this.resultSetStreamingMode = requireNonNull(resultSetStreamingMode);
+        this.inListBinding          = requireNonNull(inListBinding);
+        this.statementCancellation  = requireNonNull(statementCancellation);
+        this.multiRowInsertSupport  = requireNonNull(multiRowInsertSupport);
+        this.upsertSupport          = requireNonNull(upsertSupport);
     }
 
     public static WithName builder() {
@@ -190,6 +221,157 @@ public final class DbmsTypeImpl implements DbmsType {
         return initialQuery;
     }
 
+    @Override
+    public SortByNullOrderInsertion getSortByNullOrderInsertion() {
+        return sortByNullOrderInsertion;
+    }
+
+    @Override
+    public SkipLimitSupport getSkipLimitSupport() {
+        return skipLimitSupport;
+    }
+
+    @Override
+    public ResultSetStreamingMode getResultSetStreamingMode() {
+        return resultSetStreamingMode;
+    }
+
+    @Override
+    public InListBinding getInListBinding() {
+        return inListBinding;
+    }
+
+    @Override
+    public StatementCancellation getStatementCancellation() {
+        return statementCancellation;
+    }
+
+    @Override
+    public MultiRowInsertSupport getMultiRowInsertSupport() {
+        return multiRowInsertSupport;
+    }
+
+    @Override
+    public UpsertSupport getUpsertSupport() {
+        return upsertSupport;
+    }
+
+    @Override
+    public String applySkipLimit(String originalSql, List<Object> params, long skip, long limit) {
+        requireNonNull(originalSql);
+        requireNonNull(params);
+        
+        final boolean hasSkip  = skip > 0;
+        final boolean hasLimit = limit < Long.MAX_VALUE;
+        
+        if (skipLimitSupport == SkipLimitSupport.NONE || !(hasSkip || hasLimit)) {
+            return originalSql;
+        }
+        
+        final StringBuilder sql = new StringBuilder(originalSql);
+        
+        if (hasLimit || skipLimitSupport == SkipLimitSupport.OFFSET_REQUIRES_LIMIT) {
+            sql.append(" LIMIT ?");
+            params.add(limit);
+        }
+        
+        if (hasSkip) {
+            sql.append(" OFFSET ?");
+            params.add(skip);
+        }
+        
+        return sql.toString();
+    }
+
+    @Override
+    public String applyMultiRowInsert(String singleRowSql, int rows) {
+        requireNonNull(singleRowSql);
+        
+        final int valuesIndex = singleRowSql.lastIndexOf(" VALUES (");
+        
+        if (multiRowInsertSupport == MultiRowInsertSupport.NONE || rows <= 1 || valuesIndex < 0) {
+            return singleRowSql;
+        }
+        
+        // Find the end of the tuple, since it may be followed by other clauses
+        final int tupleStart = valuesIndex + " VALUES ".length();
+        int tupleEnd = tupleStart;
+        for (int depth = 0; tupleEnd < singleRowSql.length(); tupleEnd++) {
+            final char c = singleRowSql.charAt(tupleEnd);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                tupleEnd++;
+                break;
+            }
+        }
+        
+        final String tuple = singleRowSql.substring(tupleStart, tupleEnd);
+        final StringBuilder sql = new StringBuilder(singleRowSql.length() + (tuple.length() + 1) * (rows - 1));
+        sql.append(singleRowSql, 0, tupleEnd);
+        
+        for (int i = 1; i < rows; i++) {
+            sql.append(',').append(tuple);
+        }
+        
+        return sql.append(singleRowSql, tupleEnd, singleRowSql.length()).toString();
+    }
+
+    @Override
+    public String applyUpsert(String insertSql, List<String> keyColumns, List<String> updateColumns, List<String> generatedColumns) {
+        requireNonNull(insertSql);
+        requireNonNull(keyColumns);
+        requireNonNull(updateColumns);
+        requireNonNull(generatedColumns);
+        
+        final StringBuilder sql = new StringBuilder(insertSql);
+        final StringJoiner assignments = new StringJoiner(",");
+        
+        switch (upsertSupport) {
+            case ON_DUPLICATE_KEY_UPDATE : {
+                updateColumns.stream()
+                    .map(namingConvention::encloseField)
+                    .forEachOrdered(c -> assignments.add(c + " = VALUES(" + c + ")"));
+                
+                // Makes the key of an updated row the generated key
+                generatedColumns.stream()
+                    .limit(1)
+                    .map(namingConvention::encloseField)
+                    .forEachOrdered(c -> assignments.add(c + " = LAST_INSERT_ID(" + c + ")"));
+                
+                if (assignments.length() == 0) {
+                    keyColumns.stream()
+                        .limit(1)
+                        .map(namingConvention::encloseField)
+                        .forEachOrdered(c -> assignments.add(c + " = " + c));
+                }
+                
+                return sql.append(" ON DUPLICATE KEY UPDATE ").append(assignments).toString();
+            }
+            
+            case ON_CONFLICT_DO_UPDATE : {
+                sql.append(" ON CONFLICT (").append(keyColumns.stream()
+                    .map(namingConvention::encloseField)
+                    .collect(joining(","))
+                ).append(")");
+                
+                if (updateColumns.isEmpty()) {
+                    return sql.append(" DO NOTHING").toString();
+                }
+                
+                updateColumns.stream()
+                    .map(namingConvention::encloseField)
+                    .forEachOrdered(c -> assignments.add(c + " = EXCLUDED." + c));
+                
+                return sql.append(" DO UPDATE SET ").append(assignments).toString();
+            }
+            
+            default : throw new UnsupportedOperationException(
+                "The dbms type " + name + " does not support upserts."
+            );
+        }
+    }
+
     private static class Builder implements DbmsTypeBuilder.Builder   {
 
         // Mandatory
@@ -209,6 +391,13 @@ public final class DbmsTypeImpl implements DbmsType {
         private Set<TypeInfoMetaData> dataTypes;
         private String defaultDbmsName;
         private String initialQuery;
+        private SortByNullOrderInsertion sortByNullOrderInsertion;
+        private SkipLimitSupport skipLimitSupport;
+        private ResultSetStreamingMode resultSetStreamingMode;
+        private InListBinding inListBinding;
+        private StatementCancellation statementCancellation;
+        private MultiRowInsertSupport multiRowInsertSupport;
+        private UpsertSupport upsertSupport;
 
         public Builder() {
             resultSetTableSchema = "TABLE_SCHEMA";
@@ -217,6 +406,13 @@ public final class DbmsTypeImpl implements DbmsType {
             dataTypes = Collections.emptySet();
             defaultDbmsName = null;
             initialQuery = "select 1 from dual";
+            sortByNullOrderInsertion = SortByNullOrderInsertion.PRE;
+            skipLimitSupport = SkipLimitSupport.NONE;
+            resultSetStreamingMode = ResultSetStreamingMode.FETCH_SIZE;
+            inListBinding = InListBinding.PARAMETER_LIST;
+            statementCancellation = StatementCancellation.CLOSE;
+            multiRowInsertSupport = MultiRowInsertSupport.NONE;
+            upsertSupport = UpsertSupport.NONE;
         }
 
         @Override
@@ -304,6 +500,48 @@ public final class DbmsTypeImpl implements DbmsType {
             return this;
         }
 
+        @Override
+        public Optionals withSortByNullOrderInsertion(SortByNullOrderInsertion sortByNullOrderInsertion) {
+            this.sortByNullOrderInsertion = requireNonNull(sortByNullOrderInsertion);
+            return this;
+        }
+
+        @Override
+        public Optionals withSkipLimitSupport(SkipLimitSupport skipLimitSupport) {
+            this.skipLimitSupport = requireNonNull(skipLimitSupport);
+            return this;
+        }
+
+        @Override
+        public Optionals withResultSetStreamingMode(ResultSetStreamingMode resultSetStreamingMode) {
+            this.resultSetStreamingMode = requireNonNull(resultSetStreamingMode);
+            return this;
+        }
+
+        @Override
+        public Optionals withInListBinding(InListBinding inListBinding) {
+            this.inListBinding = requireNonNull(inListBinding);
+            return this;
+        }
+
+        @Override
+        public Optionals withStatementCancellation(StatementCancellation statementCancellation) {
+            this.statementCancellation = requireNonNull(statementCancellation);
+            return this;
+        }
+
+        @Override
+        public Optionals withMultiRowInsertSupport(MultiRowInsertSupport multiRowInsertSupport) {
+            this.multiRowInsertSupport = requireNonNull(multiRowInsertSupport);
+            return this;
+        }
+
+        @Override
+        public Optionals withUpsertSupport(UpsertSupport upsertSupport) {
+            this.upsertSupport = requireNonNull(upsertSupport);
+            return this;
+        }
+
         @Override
         public DbmsType build() {
             return new DbmsTypeImpl(
@@ -320,7 +558,14 @@ public final class DbmsTypeImpl implements DbmsType {
                     dataTypes,
                     speedmentPredicateView,
                     defaultDbmsName,
-                    initialQuery
+                    initialQuery,
+                    sortByNullOrderInsertion,
+                    skipLimitSupport,
+                    resultSetStreamingMode,
+                    inListBinding,
+                    statementCancellation,
+                    multiRowInsertSupport,
+                    upsertSupport
             );
 
         }
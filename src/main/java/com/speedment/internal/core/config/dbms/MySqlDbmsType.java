@@ -18,6 +18,11 @@ package com.speedment.internal.core.config.dbms;
 
 import com.speedment.config.db.Dbms;
 import com.speedment.config.db.parameters.DbmsType;
+import com.speedment.config.db.parameters.MultiRowInsertSupport;
+import com.speedment.config.db.parameters.ResultSetStreamingMode;
+import com.speedment.config.db.parameters.SkipLimitSupport;
+import com.speedment.config.db.parameters.StatementCancellation;
+import com.speedment.config.db.parameters.UpsertSupport;
 import com.speedment.db.ConnectionUrlGenerator;
 import com.speedment.db.DatabaseNamingConvention;
 import com.speedment.internal.core.db.AbstractDatabaseNamingConvention;
@@ -53,6 +58,11 @@ public final class MySqlDbmsType {
 
         // Optional parameters
         .withInitialQuery("select version() as `MySQL version`")
+        .withSkipLimitSupport(SkipLimitSupport.OFFSET_REQUIRES_LIMIT)
+        .withResultSetStreamingMode(ResultSetStreamingMode.MIN_VALUE_FETCH_SIZE)
+        .withStatementCancellation(StatementCancellation.CANCEL)
+        .withMultiRowInsertSupport(MultiRowInsertSupport.VALUES_LIST)
+        .withUpsertSupport(UpsertSupport.ON_DUPLICATE_KEY_UPDATE)
         .build();
     
     private final static class MySqlNamingConvention extends AbstractDatabaseNamingConvention {
@@ -18,6 +18,13 @@ package com.speedment.internal.core.config.dbms;
 
 import com.speedment.config.db.Dbms;
 import com.speedment.config.db.parameters.DbmsType;
+import com.speedment.config.db.parameters.InListBinding;
+import com.speedment.config.db.parameters.MultiRowInsertSupport;
+import com.speedment.config.db.parameters.ResultSetStreamingMode;
+import com.speedment.config.db.parameters.SkipLimitSupport;
+import com.speedment.config.db.parameters.SortByNullOrderInsertion;
+import com.speedment.config.db.parameters.StatementCancellation;
+import com.speedment.config.db.parameters.UpsertSupport;
 import com.speedment.db.ConnectionUrlGenerator;
 import com.speedment.db.DatabaseNamingConvention;
 import com.speedment.db.metadata.TypeInfoMetaData;
@@ -57,6 +64,13 @@ public final class PostgresDbmsType {
         .withInitialQuery("select version() as \"PostgreSQL version\"")
         .withResultSetTableSchema("TABLE_SCHEM")
         .withDataTypes(dataTypes())
+        .withSortByNullOrderInsertion(SortByNullOrderInsertion.POST)
+        .withSkipLimitSupport(SkipLimitSupport.STANDARD)
+        .withResultSetStreamingMode(ResultSetStreamingMode.NON_AUTO_COMMIT_CURSOR)
+        .withStatementCancellation(StatementCancellation.CANCEL)
+        .withMultiRowInsertSupport(MultiRowInsertSupport.VALUES_LIST)
+        .withUpsertSupport(UpsertSupport.ON_CONFLICT_DO_UPDATE)
+        .withInListBinding(InListBinding.ARRAY_PARAMETER)
         .build();
 
     private final static class PostgresNamingConvention extends AbstractDatabaseNamingConvention {
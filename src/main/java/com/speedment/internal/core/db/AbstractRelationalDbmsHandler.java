@@ -31,6 +31,7 @@ import com.speedment.config.db.Table;
 import com.speedment.config.db.mapper.TypeMapper;
 import com.speedment.config.db.mutator.ForeignKeyColumnMutator;
 import com.speedment.config.db.parameters.DbmsType;
+import com.speedment.config.db.parameters.MultiRowInsertSupport;
 import com.speedment.config.db.parameters.OrderType;
 import com.speedment.config.db.trait.HasMainInterface;
 import com.speedment.config.db.trait.HasName;
@@ -51,6 +52,7 @@ import com.speedment.internal.core.manager.sql.SqlDeleteStatement;
 import com.speedment.internal.core.manager.sql.SqlInsertStatement;
 import com.speedment.internal.core.manager.sql.SqlStatement;
 import com.speedment.internal.core.manager.sql.SqlUpdateStatement;
+import com.speedment.internal.core.pool.impl.PoolableConnectionImpl;
 import com.speedment.internal.core.runtime.typemapping.StandardJavaTypeMapping;
 import static com.speedment.internal.core.stream.OptionalUtil.unwrap;
 import com.speedment.internal.logging.Logger;
@@ -657,12 +659,32 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
     public <T> Stream<T> executeQuery(String sql, List<?> values, SqlFunction<ResultSet, T> rsMapper) {
         requireNonNulls(sql, values, rsMapper);
 
+        try {
+            return query(sql, values, rsMapper);
+        } catch (SQLException sqle) {
+            LOGGER.error(sqle, "Error querying " + sql);
+            throw new SpeedmentException(sqle);
+        }
+    }
+
+    @Override
+    public <T> Stream<T> executeQueryChecked(String sql, List<?> values, SqlFunction<ResultSet, T> rsMapper) throws SQLException {
+        requireNonNulls(sql, values, rsMapper);
+        return query(sql, values, rsMapper);
+    }
+
+    private <T> Stream<T> query(String sql, List<?> values, SqlFunction<ResultSet, T> rsMapper) throws SQLException {
         try (
             final Connection connection = getConnection(dbms);
             final PreparedStatement ps = connection.prepareStatement(sql)) {
             int i = 1;
             for (final Object o : values) {
-                ps.setObject(i++, o);
+                if (o instanceof ArrayParameter) {
+                    final ArrayParameter array = (ArrayParameter) o;
+                    ps.setArray(i++, connection.createArrayOf(array.getTypeName(), array.getElements()));
+                } else {
+                    ps.setObject(i++, o);
+                }
             }
             try (final ResultSet rs = ps.executeQuery()) {
 
@@ -673,12 +695,43 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
                 }
                 return streamBuilder.build();
             }
+        }
+    }
+
+    @Override
+    public <T> Optional<T> executeLookup(String sql, List<?> values, SqlFunction<ResultSet, T> rsMapper) {
+        requireNonNulls(sql, values, rsMapper);
+
+        try (final Connection connection = getConnection(dbms)) {
+            // Only the statements of our own pool are owned by the connection.
+            if (connection instanceof PoolableConnectionImpl) {
+                final PreparedStatement ps = ((PoolableConnectionImpl) connection).prepareCachedStatement(sql);
+                return executeLookup(ps, values, rsMapper);
+            } else {
+                try (final PreparedStatement ps = connection.prepareStatement(sql)) {
+                    return executeLookup(ps, values, rsMapper);
+                }
+            }
         } catch (SQLException sqle) {
             LOGGER.error(sqle, "Error querying " + sql);
             throw new SpeedmentException(sqle);
         }
     }
 
+    private static <T> Optional<T> executeLookup(PreparedStatement ps, List<?> values, SqlFunction<ResultSet, T> rsMapper) throws SQLException {
+        int i = 1;
+        for (final Object o : values) {
+            ps.setObject(i++, o);
+        }
+        try (final ResultSet rs = ps.executeQuery()) {
+            if (rs.next()) {
+                return Optional.ofNullable(rsMapper.apply(rs));
+            } else {
+                return Optional.empty();
+            }
+        }
+    }
+
     @Override
     public <T> AsynchronousQueryResult<T> executeQueryAsync(
         String sql, List<?> values, Function<ResultSet, T> rsMapper) {
@@ -687,7 +740,9 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
             Objects.requireNonNull(sql),
             Objects.requireNonNull(values),
             Objects.requireNonNull(rsMapper),
-            () -> getConnection(dbms)
+            () -> getConnection(dbms),
+            dbmsTypeOf(speedment, dbms).getResultSetStreamingMode(),
+            dbmsTypeOf(speedment, dbms).getStatementCancellation()
         );
     }
 
@@ -709,10 +764,141 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
         execute(singletonList(sqlDeleteStatement));
     }
 
+    @Override
+    public long executeBulkUpdate(String sql, List<?> values) throws SQLException {
+        final SqlUpdateStatement sqlUpdateStatement = new SqlUpdateStatement(sql, values);
+        execute(singletonList(sqlUpdateStatement));
+        return sqlUpdateStatement.getAffectedRows();
+    }
+
+    @Override
+    public long executeBulkDelete(String sql, List<?> values) throws SQLException {
+        final SqlDeleteStatement sqlDeleteStatement = new SqlDeleteStatement(sql, values);
+        execute(singletonList(sqlDeleteStatement));
+        return sqlDeleteStatement.getAffectedRows();
+    }
+
+    @Override
+    public <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> void executeInsertBatch(
+        String sql, List<? extends List<?>> rows, List<F> generatedKeyFields, Consumer<List<Long>> generatedKeyConsumer) throws SQLException {
+        
+        requireNonNulls(sql, rows, generatedKeyFields, generatedKeyConsumer);
+        if (rows.isEmpty()) {
+            return;
+        }
+        
+        final DbmsType dbmsType = dbmsTypeOf(speedment, dbms);
+        if (rows.size() > 1 && dbmsType.getMultiRowInsertSupport() != MultiRowInsertSupport.NONE) {
+            executeMultiRowInsert(dbmsType, sql, rows, generatedKeyFields, generatedKeyConsumer);
+            return;
+        }
+        
+        final List<Long> generatedKeys = new ArrayList<>();
+        final int autoGeneratedKeys = generatedKeyFields.isEmpty() 
+            ? Statement.NO_GENERATED_KEYS 
+            : Statement.RETURN_GENERATED_KEYS;
+        
+        try (final Connection conn = getConnection(dbms)) {
+            conn.setAutoCommit(false);
+            try (final PreparedStatement ps = conn.prepareStatement(sql, autoGeneratedKeys)) {
+                for (final List<?> values : rows) {
+                    int i = 1;
+                    for (final Object o : values) {
+                        ps.setObject(i++, o);
+                    }
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                
+                if (autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS) {
+                    try (final ResultSet rs = ps.getGeneratedKeys()) {
+                        while (rs.next()) {
+                            generatedKeys.add(rs.getLong(1));
+                        }
+                    }
+                }
+                
+                conn.commit();
+            } catch (SQLException sqle) {
+                LOGGER.error(sqle, "Error executing batch of " + rows.size() + " rows: " + sql);
+                conn.rollback();
+                throw sqle;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+        
+        generatedKeyConsumer.accept(generatedKeys);
+    }
+
+    private <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> void executeMultiRowInsert(
+        DbmsType dbmsType, String sql, List<? extends List<?>> rows, List<F> generatedKeyFields, Consumer<List<Long>> generatedKeyConsumer) throws SQLException {
+        
+        final MultiRowInsertSupport support = dbmsType.getMultiRowInsertSupport();
+        final List<SqlInsertStatement> statements = new ArrayList<>();
+        final List<Long> generatedKeys = new ArrayList<>();
+        
+        // Split the rows so that each statement stays within the parameter 
+        // and packet limits of the driver.
+        int from = 0;
+        while (from < rows.size()) {
+            int to = from;
+            int parameters = 0;
+            long length = sql.length();
+            
+            while (to < rows.size()) {
+                final List<?> row = rows.get(to);
+                final long rowLength = estimatedLength(row);
+                if (to > from && (
+                    parameters + row.size() > support.getMaxParameters() 
+                    || length + rowLength > support.getMaxStatementLength())) {
+                    break;
+                }
+                parameters += row.size();
+                length += rowLength;
+                to++;
+            }
+            
+            final List<? extends List<?>> chunk = rows.subList(from, to);
+            final List<Object> values = new ArrayList<>(parameters);
+            chunk.forEach(values::addAll);
+            
+            statements.add(new SqlInsertStatement(
+                dbmsType.applyMultiRowInsert(sql, chunk.size()), 
+                values, 
+                chunk.size(), 
+                generatedKeyFields, 
+                generatedKeys::addAll
+            ));
+            
+            from = to;
+        }
+        
+        execute(statements);
+        generatedKeyConsumer.accept(generatedKeys);
+    }
+
+    private static long estimatedLength(List<?> row) {
+        long length = 3; // The parenthesis and the separating comma
+        for (final Object o : row) {
+            if (o == null) {
+                length += 5;
+            } else if (o instanceof CharSequence) {
+                length += ((CharSequence) o).length() + 3;
+            } else if (o instanceof byte[]) {
+                length += ((byte[]) o).length * 2 + 4;
+            } else {
+                length += 21;
+            }
+        }
+        return length;
+    }
+
     protected void execute(List<? extends SqlStatement> sqlStatementList) throws SQLException {
         requireNonNull(sqlStatementList);
         int retryCount = 5;
         boolean transactionCompleted = false;
+        SQLException lastException = null;
 
         do {
             SqlStatement lastSqlStatement = null;
@@ -720,8 +906,19 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
             try {
                 conn = getConnection(dbms);
                 conn.setAutoCommit(false);
-                for (final SqlStatement sqlStatement : sqlStatementList) {
+                for (int i = 0; i < sqlStatementList.size(); i++) {
+                    final SqlStatement sqlStatement = sqlStatementList.get(i);
                     lastSqlStatement = sqlStatement;
+
+                    // Consecutive statements with the same shape are sent to
+                    // the database as one batch.
+                    final int end = sameShapeEnd(sqlStatementList, i);
+                    if (end - i > 1) {
+                        handleSqlStatementBatch(conn, sqlStatementList.subList(i, end));
+                        i = end - 1;
+                        continue;
+                    }
+
                     switch (sqlStatement.getType()) {
                         case INSERT: {
                             final SqlInsertStatement s = (SqlInsertStatement) sqlStatement;
@@ -752,6 +949,7 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
                 final String sqlState = sqlEx.getSQLState();
 
                 if ("08S01".equals(sqlState) || "40001".equals(sqlState)) {
+                    lastException = sqlEx;
                     retryCount--;
                 } else {
                     retryCount = 0;
@@ -784,8 +982,90 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
             }
         } while (!transactionCompleted && (retryCount > 0));
 
-        if (transactionCompleted) {
-            postSuccessfulTransaction(sqlStatementList);
+        // All the retries failed with a transient error
+        if (!transactionCompleted) {
+            throw lastException;
+        }
+
+        postSuccessfulTransaction(sqlStatementList);
+    }
+
+    /**
+     * Executes the provided statements in one transaction. Consecutive 
+     * statements with the same SQL are executed as a batch. Generated keys 
+     * are handed to the statements once the transaction has been committed.
+     *
+     * @param sqlStatementList  the statements to execute
+     * @throws SQLException     if the transaction could not be completed
+     */
+    public void executeTransaction(List<? extends SqlStatement> sqlStatementList) throws SQLException {
+        execute(sqlStatementList);
+    }
+
+    private static int sameShapeEnd(List<? extends SqlStatement> sqlStatementList, int from) {
+        final SqlStatement first = sqlStatementList.get(from);
+        if (!isBatchable(first)) {
+            return from + 1;
+        }
+
+        int end = from + 1;
+        while (end < sqlStatementList.size()) {
+            final SqlStatement next = sqlStatementList.get(end);
+            if (next.getType() != first.getType()
+                || !next.getSql().equals(first.getSql())
+                || !isBatchable(next)) {
+                break;
+            }
+            end++;
+        }
+        return end;
+    }
+
+    private static boolean isBatchable(SqlStatement sqlStatement) {
+        return !(sqlStatement instanceof SqlInsertStatement)
+            || ((SqlInsertStatement) sqlStatement).getRowCount() == 1;
+    }
+
+    protected void handleSqlStatementBatch(final Connection conn, final List<? extends SqlStatement> sqlStatements) throws SQLException {
+        final boolean insert = sqlStatements.get(0) instanceof SqlInsertStatement;
+        final int autoGeneratedKeys = insert
+            ? Statement.RETURN_GENERATED_KEYS
+            : Statement.NO_GENERATED_KEYS;
+
+        try (final PreparedStatement ps = conn.prepareStatement(sqlStatements.get(0).getSql(), autoGeneratedKeys)) {
+            for (final SqlStatement sqlStatement : sqlStatements) {
+                int i = 1;
+                for (Object o : sqlStatement.getValues()) {
+                    ps.setObject(i++, o);
+                }
+                ps.addBatch();
+            }
+
+            final int[] counts = ps.executeBatch();
+            for (int i = 0; i < counts.length && i < sqlStatements.size(); i++) {
+                if (counts[i] >= 0) { // Statement.SUCCESS_NO_INFO is negative
+                    sqlStatements.get(i).setAffectedRows(counts[i]);
+                }
+            }
+
+            if (insert) {
+                final List<Long> generatedKeys = new ArrayList<>();
+                try (final ResultSet rs = ps.getGeneratedKeys()) {
+                    while (rs.next()) {
+                        generatedKeys.add(rs.getLong(1));
+                    }
+                }
+
+                // The keys can only be mapped back to the statements if there
+                // is exactly one key for each statement.
+                for (int i = 0; i < sqlStatements.size(); i++) {
+                    final SqlInsertStatement s = (SqlInsertStatement) sqlStatements.get(i);
+                    s.clearGeneratedKeys();
+                    if (generatedKeys.size() == sqlStatements.size()) {
+                        s.addGeneratedKey(generatedKeys.get(i));
+                    }
+                }
+            }
         }
     }
 
@@ -797,11 +1077,21 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
             }
             ps.executeUpdate();
 
+            // Keys that remain from a previous attempt of the transaction are
+            // discarded.
+            sqlStatement.clearGeneratedKeys();
             try (final ResultSet generatedKeys = ps.getGeneratedKeys()) {
                 while (generatedKeys.next()) {
                     sqlStatement.addGeneratedKey(generatedKeys.getLong(1));
                 }
             }
+
+            // The keys of a multi-row insert can only be mapped back to the
+            // rows if there is exactly one key for each row.
+            if (sqlStatement.getRowCount() > 1 
+                && sqlStatement.getGeneratedKeys().size() != sqlStatement.getRowCount()) {
+                sqlStatement.clearGeneratedKeys();
+            }
         }
     }
 
@@ -819,7 +1109,7 @@ public abstract class AbstractRelationalDbmsHandler implements DbmsHandler {
             for (Object o : sqlStatement.getValues()) {
                 ps.setObject(i++, o);
             }
-            ps.executeUpdate();
+            sqlStatement.setAffectedRows(ps.executeUpdate());
         }
     }
 
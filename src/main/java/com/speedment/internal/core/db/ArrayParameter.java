@@ -0,0 +1,58 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A statement parameter that is bound as a SQL array. The array is created
+ * with {@link java.sql.Connection#createArrayOf(String, Object[])} on the
+ * same connection as the statement is executed on, since the driver needs
+ * the SQL type of the elements to bind the array.
+ *
+ * @author pemi
+ */
+public final class ArrayParameter {
+
+    private final String typeName;
+    private final Object[] elements;
+
+    /**
+     * Creates a new array parameter.
+     * 
+     * @param typeName  the SQL type name of the elements, for example 
+     *                  {@code bigint}
+     * @param elements  the elements
+     */
+    public ArrayParameter(String typeName, Object[] elements) {
+        this.typeName = requireNonNull(typeName);
+        this.elements = requireNonNull(elements);
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public Object[] getElements() {
+        return elements;
+    }
+
+    @Override
+    public String toString() {
+        return typeName + "[" + elements.length + "]";
+    }
+}
@@ -21,8 +21,12 @@
  */
 package com.speedment.internal.core.db;
 
+import com.speedment.component.connectionpool.PoolableConnection;
+import com.speedment.config.db.parameters.ResultSetStreamingMode;
+import com.speedment.config.db.parameters.StatementCancellation;
 import com.speedment.db.AsynchronousQueryResult;
 import com.speedment.exception.SpeedmentException;
+import com.speedment.internal.core.stream.ReadAheadIterator;
 import com.speedment.internal.core.stream.StreamUtil;
 import com.speedment.internal.logging.Logger;
 import com.speedment.internal.logging.LoggerManager;
@@ -31,6 +35,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Iterator;
 import java.util.List;
 import static java.util.Objects.requireNonNull;
 import java.util.function.Function;
@@ -50,10 +55,18 @@ public final class AsynchronousQueryResultImpl<T> implements AsynchronousQueryRe
     private List<?> values;
     private Function<ResultSet, T> rsMapper;
     private final Supplier<Connection> connectionSupplier;
+    private final ResultSetStreamingMode streamingMode;
+    private final StatementCancellation cancellation;
     private ParallelStrategy parallelStrategy;
+    private int fetchSize;
+    private int readAheadSize;
+    private int queryTimeout;
+    private ReadAheadIterator<T> readAheadIterator;
     private Connection connection;
+    private boolean restoreAutoCommit;
     private PreparedStatement ps;
     private ResultSet rs;
+    private volatile boolean exhausted;
     private State state;
 
     public enum State {
@@ -65,11 +78,24 @@ public final class AsynchronousQueryResultImpl<T> implements AsynchronousQueryRe
         final List<?> values,
         final Function<ResultSet, T> rsMapper,
         Supplier<Connection> connectionSupplier
+    ) {
+        this(sql, values, rsMapper, connectionSupplier, ResultSetStreamingMode.FETCH_SIZE, StatementCancellation.CLOSE);
+    }
+
+    public AsynchronousQueryResultImpl(
+        final String sql,
+        final List<?> values,
+        final Function<ResultSet, T> rsMapper,
+        Supplier<Connection> connectionSupplier,
+        ResultSetStreamingMode streamingMode,
+        StatementCancellation cancellation
     ) {
         setSql(sql); // requireNonNull in setter
         setValues(values);
         setRsMapper(rsMapper);
         this.connectionSupplier = requireNonNull(connectionSupplier);
+        this.streamingMode = requireNonNull(streamingMode);
+        this.cancellation = requireNonNull(cancellation);
         parallelStrategy = ParallelStrategy.DEFAULT;
         setState(State.INIT);
         debug();
@@ -80,7 +106,10 @@ public final class AsynchronousQueryResultImpl<T> implements AsynchronousQueryRe
         setState(State.ESTABLISH);
         try {
             connection = connectionSupplier.get();
-            ps = connection.prepareStatement(getSql());
+            ps = prepareStatement();
+            if (queryTimeout > 0) {
+                ps.setQueryTimeout(queryTimeout);
+            }
             int i = 1;
             for (final Object o : getValues()) {
                 ps.setObject(i++, o);
@@ -89,20 +118,176 @@ public final class AsynchronousQueryResultImpl<T> implements AsynchronousQueryRe
             rs = ps.executeQuery();
         } catch (SQLException sqle) {
             LOGGER.error(sqle, "Error executing " + getSql() + ", values=" + getValues());
+            // The stream is never returned, so the connection must be 
+            // restored and released here
+            close();
             throw new SpeedmentException(sqle);
         }
         setState(State.OPEN);
-        return StreamUtil.asStream(rs, getRsMapper(), parallelStrategy);
+        final Iterator<T> iterator = trackExhaustion(StreamUtil.asIterator(rs, getRsMapper()));
+        if (readAheadSize > 0) {
+            readAheadIterator = new ReadAheadIterator<>(iterator, readAheadSize);
+            return StreamUtil.asStream(readAheadIterator, parallelStrategy);
+        }
+        return StreamUtil.asStream(iterator, parallelStrategy);
+    }
+
+    /**
+     * Returns an iterator that remembers when the provided iterator over the
+     * result set has run out of rows, so that {@link #close()} knows if the
+     * statement may still be producing rows.
+     * 
+     * @param iterator  the iterator over the result set
+     * @return          the tracking iterator
+     */
+    private Iterator<T> trackExhaustion(Iterator<T> iterator) {
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                final boolean result = iterator.hasNext();
+                if (!result) {
+                    exhausted = true;
+                }
+                return result;
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    /**
+     * Prepares the statement of this query. If a fetch size is set, the 
+     * statement is prepared in accordance with the streaming mode of the
+     * database type so that rows are streamed rather than read into memory
+     * all at once.
+     * 
+     * @return the prepared statement
+     * @throws SQLException if the statement can not be prepared
+     */
+    private PreparedStatement prepareStatement() throws SQLException {
+        if (fetchSize <= 0) {
+            return connection.prepareStatement(getSql());
+        }
+        
+        final PreparedStatement result;
+        switch (streamingMode) {
+            case MIN_VALUE_FETCH_SIZE : {
+                result = connection.prepareStatement(getSql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                result.setFetchSize(Integer.MIN_VALUE);
+                break;
+            }
+            case NON_AUTO_COMMIT_CURSOR : {
+                if (connection.getAutoCommit()) {
+                    connection.setAutoCommit(false);
+                    restoreAutoCommit = true;
+                }
+                result = connection.prepareStatement(getSql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                result.setFetchSize(fetchSize);
+                break;
+            }
+            default : {
+                result = connection.prepareStatement(getSql());
+                result.setFetchSize(fetchSize);
+            }
+        }
+        return result;
     }
 
     @Override
     public void close() {
+        if (getState() == State.CLOSED) {
+            return;
+        }
+        
+        // Cancel first, since a read-ahead thread may be blocked waiting for
+        // the next row and would otherwise not leave the ResultSet
+        final boolean cancelled = cancelIfStreaming();
+        if (readAheadIterator != null) {
+            readAheadIterator.close(); // Must leave the ResultSet before it is closed
+            readAheadIterator = null;
+        }
         closeSilently(rs);
         closeSilently(ps);
+        if (restoreAutoCommit) {
+            restoreAutoCommit();
+        }
+        if (cancelled) {
+            resetConnection();
+        }
         closeSilently(connection);
         setState(State.CLOSED);
     }
 
+    /**
+     * Cancels the statement of this query if it may still be producing rows
+     * that are streamed from the database and the database type is to be 
+     * instructed to stop producing them. Otherwise, closing the result set 
+     * could mean that all the remaining rows are read and discarded.
+     * 
+     * @return {@code true} if the statement was cancelled
+     */
+    private boolean cancelIfStreaming() {
+        if (getState() != State.OPEN 
+            || exhausted 
+            || fetchSize <= 0 
+            || cancellation != StatementCancellation.CANCEL) {
+            return false;
+        }
+        
+        try {
+            ps.cancel();
+            LOGGER.debug("cancelled sql:%s", getSql());
+            return true;
+        } catch (SQLException sqle) {
+            LOGGER.error(sqle, "Error cancelling " + getSql());
+            // Just log the error. No re-throw
+            return false;
+        }
+    }
+
+    /**
+     * Clears the state that a cancelled statement may have left on the 
+     * connection, so that it can be reused by others. If that fails, a 
+     * pooled connection is closed for real so that it is discarded by the 
+     * pool instead of being reused.
+     */
+    private void resetConnection() {
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            }
+            connection.clearWarnings();
+        } catch (SQLException sqle) {
+            LOGGER.error(sqle, "Error resetting cancelled connection " + connection);
+            if (connection instanceof PoolableConnection) {
+                try {
+                    ((PoolableConnection) connection).rawClose();
+                } catch (SQLException sqle2) {
+                    LOGGER.error(sqle2, "Error discarding connection " + connection);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ends the read-only transaction that was started by 
+     * {@link #prepareStatement()} and turns auto commit back on, so that the
+     * connection can be reused by others.
+     */
+    private void restoreAutoCommit() {
+        try {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        } catch (SQLException sqle) {
+            LOGGER.error(sqle, "Error restoring auto commit for " + connection);
+            // Just log the error. No re-throw
+        }
+        restoreAutoCommit = false;
+    }
+
     protected void closeSilently(final AutoCloseable closeable) {
         try {
             if (closeable != null) {
@@ -169,6 +354,45 @@ public final class AsynchronousQueryResultImpl<T> implements AsynchronousQueryRe
     public void setParallelStrategy(ParallelStrategy parallelStrategy) {
         this.parallelStrategy = parallelStrategy;
     }
+
+    @Override
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    @Override
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("The fetch size must not be negative, was " + fetchSize + ".");
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public int getReadAheadSize() {
+        return readAheadSize;
+    }
+
+    @Override
+    public void setReadAheadSize(int readAheadSize) {
+        if (readAheadSize < 0) {
+            throw new IllegalArgumentException("The read-ahead size must not be negative, was " + readAheadSize + ".");
+        }
+        this.readAheadSize = readAheadSize;
+    }
+
+    @Override
+    public int getQueryTimeout() {
+        return queryTimeout;
+    }
+
+    @Override
+    public void setQueryTimeout(int queryTimeout) {
+        if (queryTimeout < 0) {
+            throw new IllegalArgumentException("The query timeout must not be negative, was " + queryTimeout + ".");
+        }
+        this.queryTimeout = queryTimeout;
+    }
     
 
 }
@@ -0,0 +1,50 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.field;
+
+import com.speedment.field.methods.FieldGetter;
+import com.speedment.field.methods.Getter;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import static java.util.Objects.requireNonNull;
+
+/**
+ *
+ * @author pemi
+ * @param <ENTITY> entity type
+ * @param <V> value type
+ */
+public final class FieldGetterImpl<ENTITY, V> implements FieldGetter<ENTITY, V> {
+
+    private final ReferenceFieldTrait<ENTITY, ?, V> field;
+    private final Getter<ENTITY, V> getter;
+
+    public FieldGetterImpl(ReferenceFieldTrait<ENTITY, ?, V> field, Getter<ENTITY, V> getter) {
+        this.field = requireNonNull(field);
+        this.getter = requireNonNull(getter);
+    }
+
+    @Override
+    public ReferenceFieldTrait<ENTITY, ?, V> getField() {
+        return field;
+    }
+
+    @Override
+    public V apply(ENTITY entity) {
+        return getter.apply(entity);
+    }
+
+}
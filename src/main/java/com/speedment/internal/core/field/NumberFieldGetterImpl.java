@@ -0,0 +1,61 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.field;
+
+import com.speedment.field.methods.ToDoubleFieldGetter;
+import com.speedment.field.methods.ToIntFieldGetter;
+import com.speedment.field.methods.ToLongFieldGetter;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import static java.util.Objects.requireNonNull;
+
+/**
+ *
+ * @author pemi
+ * @param <ENTITY> entity type
+ */
+public final class NumberFieldGetterImpl<ENTITY> implements 
+    ToIntFieldGetter<ENTITY>, 
+    ToLongFieldGetter<ENTITY>, 
+    ToDoubleFieldGetter<ENTITY> {
+
+    private final ReferenceFieldTrait<ENTITY, ?, ? extends Number> field;
+
+    public NumberFieldGetterImpl(ReferenceFieldTrait<ENTITY, ?, ? extends Number> field) {
+        this.field = requireNonNull(field);
+    }
+
+    @Override
+    public ReferenceFieldTrait<ENTITY, ?, ? extends Number> getField() {
+        return field;
+    }
+
+    @Override
+    public int applyAsInt(ENTITY entity) {
+        return field.get(requireNonNull(entity)).intValue();
+    }
+
+    @Override
+    public long applyAsLong(ENTITY entity) {
+        return field.get(requireNonNull(entity)).longValue();
+    }
+
+    @Override
+    public double applyAsDouble(ENTITY entity) {
+        return field.get(requireNonNull(entity)).doubleValue();
+    }
+
+}
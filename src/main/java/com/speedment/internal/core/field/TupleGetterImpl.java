@@ -0,0 +1,101 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.field;
+
+import com.speedment.field.methods.TupleGetter;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import static com.speedment.util.NullUtil.requireNonNullElements;
+import com.speedment.util.tuple.TupleOfNullables;
+import com.speedment.util.tuple.Tuples;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import static java.util.Collections.unmodifiableList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.function.Function;
+
+/**
+ *
+ * @author pemi
+ * @param <ENTITY> entity type
+ * @param <T> tuple type
+ */
+public final class TupleGetterImpl<ENTITY, T extends TupleOfNullables> implements TupleGetter<ENTITY, T> {
+
+    private final List<ReferenceFieldTrait<ENTITY, ?, ?>> fields;
+    private final List<Function<ENTITY, ?>> getters;
+
+    public TupleGetterImpl(List<? extends ReferenceFieldTrait<ENTITY, ?, ?>> fields) {
+        requireNonNullElements(fields);
+        if (fields.size() < 2 || fields.size() > 4) {
+            throw new IllegalArgumentException(
+                "A tuple getter must have 2 to 4 fields, not " + fields.size() + "."
+            );
+        }
+        this.fields = unmodifiableList(new ArrayList<>(fields));
+        this.getters = new ArrayList<>(fields.size());
+        fields.forEach(f -> getters.add(f.getter()));
+    }
+
+    @Override
+    public List<ReferenceFieldTrait<ENTITY, ?, ?>> getFields() {
+        return fields;
+    }
+
+    @Override
+    public T apply(ENTITY entity) {
+        return tupleOf(getters, entity);
+    }
+
+    @Override
+    public Function<ResultSet, T> rowMapper(List<? extends Function<ResultSet, ?>> columnMappers) {
+        requireNonNull(columnMappers);
+        if (columnMappers.size() != fields.size()) {
+            throw new IllegalArgumentException(
+                "Expected " + fields.size() + " column mappers, not " + columnMappers.size() + "."
+            );
+        }
+        
+        final List<Function<ResultSet, ?>> mappers = new ArrayList<>(columnMappers);
+        return rs -> tupleOf(mappers, rs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S, T extends TupleOfNullables> T tupleOf(List<? extends Function<S, ?>> mappers, S source) {
+        switch (mappers.size()) {
+            case 2 : return (T) Tuples.ofNullables(
+                mappers.get(0).apply(source), 
+                mappers.get(1).apply(source)
+            );
+            case 3 : return (T) Tuples.ofNullables(
+                mappers.get(0).apply(source), 
+                mappers.get(1).apply(source), 
+                mappers.get(2).apply(source)
+            );
+            case 4 : return (T) Tuples.ofNullables(
+                mappers.get(0).apply(source), 
+                mappers.get(1).apply(source), 
+                mappers.get(2).apply(source), 
+                mappers.get(3).apply(source)
+            );
+            default : throw new UnsupportedOperationException(
+                "Unsupported number of fields " + mappers.size() + "."
+            );
+        }
+    }
+
+}
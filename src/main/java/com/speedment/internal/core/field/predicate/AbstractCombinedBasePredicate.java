@@ -130,7 +130,7 @@ public abstract class AbstractCombinedBasePredicate<ENTITY> extends AbstractBase
         @Override
         public boolean test(ENTITY t) {
             requireNonNull(t);
-            return stream().allMatch(p -> p.test(t));
+            return isNegated() != stream().allMatch(p -> p.test(t));
         }
 
         @Override
@@ -155,7 +155,7 @@ public abstract class AbstractCombinedBasePredicate<ENTITY> extends AbstractBase
         @Override
         public boolean test(ENTITY t) {
             requireNonNull(t);
-            return stream().anyMatch(p -> p.test(t));
+            return isNegated() != stream().anyMatch(p -> p.test(t));
         }
 
         @Override
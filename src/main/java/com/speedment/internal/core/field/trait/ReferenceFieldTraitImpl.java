@@ -26,6 +26,7 @@ import com.speedment.field.methods.Setter;
 import com.speedment.field.predicate.SpeedmentPredicate;
 import com.speedment.field.trait.FieldTrait;
 import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.field.FieldGetterImpl;
 import com.speedment.internal.core.field.FieldSetterImpl;
 import com.speedment.internal.core.field.predicate.impl.reference.IsNotNullPredicate;
 import com.speedment.internal.core.field.predicate.impl.reference.IsNullPredicate;
@@ -47,7 +48,7 @@ public class ReferenceFieldTraitImpl<ENTITY, D, V> implements ReferenceFieldTrai
 
     public ReferenceFieldTraitImpl(FieldTrait field, Getter<ENTITY, V> getter, Setter<ENTITY, V> setter, TypeMapper<D, V> typeMapper) {
         this.field = requireNonNull(field);
-        this.getter = requireNonNull(getter);
+        this.getter = new FieldGetterImpl<>(this, getter);
         this.setter = requireNonNull(setter);
         this.typeMapper = requireNonNull(typeMapper);
     }
@@ -25,6 +25,8 @@ import com.speedment.internal.core.runtime.AbstractLifecycle;
 import com.speedment.internal.util.Lazy;
 import com.speedment.manager.Manager;
 import com.speedment.stream.StreamDecorator;
+import java.util.Collection;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -66,6 +68,17 @@ public abstract class AbstractManager<ENTITY> extends AbstractLifecycle<Manager<
                 .findAny(getEntityClass(), field, value);
     }
 
+    @Override
+    public <D, V extends Comparable<? super V>, 
+    F extends FieldTrait & ReferenceFieldTrait<ENTITY, D, V> & ComparableFieldTrait<ENTITY, D, V>> 
+    Map<V, ENTITY> findAll(F field, Collection<? extends V> values) {
+        
+        requireNonNull(field);
+        requireNonNull(values);
+        return speedment.getStreamSupplierComponent()
+                .findAll(getEntityClass(), field, values);
+    }
+
     @Override
     public Speedment speedment() {
         return speedment;
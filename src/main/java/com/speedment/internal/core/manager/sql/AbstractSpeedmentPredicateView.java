@@ -26,16 +26,23 @@ import static com.speedment.field.predicate.PredicateType.NOT_EQUAL_IGNORE_CASE;
 import static com.speedment.field.predicate.PredicateType.NOT_IN;
 import static com.speedment.field.predicate.PredicateType.NOT_STARTS_WITH;
 import com.speedment.field.predicate.SpeedmentPredicate;
+import com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate;
 import static com.speedment.internal.core.field.predicate.PredicateUtil.getFirstOperandAsRaw;
 import static com.speedment.internal.core.field.predicate.PredicateUtil.getFirstOperandAsRawSet;
 import static com.speedment.internal.core.field.predicate.PredicateUtil.getSecondOperandAsRaw;
 import static com.speedment.internal.core.field.predicate.PredicateUtil.getThirdOperandAsInclusion;
 import com.speedment.manager.SpeedmentPredicateView;
 import com.speedment.manager.SqlPredicateFragment;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import static java.util.Objects.requireNonNull;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
 /**
  *
@@ -62,6 +69,115 @@ public abstract class AbstractSpeedmentPredicateView implements SpeedmentPredica
         return render(requireNonNull(model));
     }
 
+    @Override
+    public Optional<SqlPredicateFragment> transform(
+            Predicate<?> predicate, 
+            Function<SpeedmentPredicate<?, ?, ?>, SqlPredicateFragment> leafTransformer) {
+        
+        requireNonNull(predicate);
+        requireNonNull(leafTransformer);
+        return renderTree(predicate, leafTransformer).map(RenderedPredicate::getFragment);
+    }
+
+    /**
+     * Renders the provided predicate tree. {@link SpeedmentPredicate} leaves 
+     * are rendered using the provided leaf transformer and AND/OR 
+     * combinations are rendered within parentheses. A negated combination is 
+     * rendered using {@code NOT}.
+     * <p>
+     * Parts of an AND combination that can not be rendered are left out, 
+     * which makes the rendered predicate match a superset of the rows. Such 
+     * a superset can be used as a part of an OR combination but not within a 
+     * {@code NOT}, so in that case nothing is rendered.
+     *
+     * @param predicate        the predicate to render
+     * @param leafTransformer  the transformer to use for SpeedmentPredicates
+     * @return                 the rendered predicate or empty
+     */
+    protected Optional<RenderedPredicate> renderTree(
+            Predicate<?> predicate, 
+            Function<SpeedmentPredicate<?, ?, ?>, SqlPredicateFragment> leafTransformer) {
+        
+        if (predicate instanceof SpeedmentPredicate) {
+            return Optional.of(new RenderedPredicate(
+                leafTransformer.apply((SpeedmentPredicate<?, ?, ?>) predicate), true
+            ));
+        }
+        
+        if (!(predicate instanceof AbstractCombinedBasePredicate)) {
+            return Optional.empty();
+        }
+        
+        final AbstractCombinedBasePredicate<?> combined = (AbstractCombinedBasePredicate<?>) predicate;
+        final List<Optional<RenderedPredicate>> parts = combined.stream()
+            .map(p -> renderTree(p, leafTransformer))
+            .collect(toList());
+        
+        final boolean allRendered = parts.stream().allMatch(Optional::isPresent);
+        final List<RenderedPredicate> rendered = parts.stream()
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .collect(toList());
+        
+        if (rendered.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        final boolean exact = allRendered && rendered.stream().allMatch(RenderedPredicate::isExact);
+        final RenderedPredicate result;
+        
+        switch (combined.getType()) {
+            case AND: {
+                result = combine(rendered, " AND ", exact);
+                break;
+            }
+            case OR: {
+                if (!allRendered) {
+                    return Optional.empty();
+                }
+                result = combine(rendered, " OR ", exact);
+                break;
+            }
+            default: throw new UnsupportedOperationException(
+                "Unknown combination type " + combined.getType().name()
+            );
+        }
+        
+        if (combined.isNegated()) {
+            if (!result.isExact()) {
+                return Optional.empty();
+            }
+            
+            // A condition that evaluates to NULL is not matched by the 
+            // predicate, so its negation must be matched.
+            return Optional.of(new RenderedPredicate(
+                of("(NOT COALESCE(" + result.getFragment().getSql() + ", FALSE))")
+                    .addAll(result.getFragment().objects().collect(toList())),
+                true
+            ));
+        }
+        
+        return Optional.of(result);
+    }
+    
+    private static RenderedPredicate combine(List<RenderedPredicate> parts, String operator, boolean exact) {
+        final List<Object> objects = new ArrayList<>();
+        parts.stream()
+            .map(RenderedPredicate::getFragment)
+            .flatMap(SqlPredicateFragment::objects)
+            .forEachOrdered(objects::add);
+        
+        return new RenderedPredicate(
+            of(parts.stream()
+                .map(RenderedPredicate::getFragment)
+                .map(SqlPredicateFragment::getSql)
+                .collect(joining(operator, "(", ")")),
+                objects
+            ), 
+            exact
+        );
+    }
+
     protected SqlPredicateFragment render(SpeedmentPredicate<?, ?, ?> model) {
         final PredicateType pt = model.getEffectivePredicateType();
         
@@ -252,6 +368,29 @@ public abstract class AbstractSpeedmentPredicateView implements SpeedmentPredica
         return of("(" + cn + " <> '')");
     }
     
+    /**
+     * A rendered predicate and whether it matches exactly the same rows as 
+     * the original predicate or just a superset of them.
+     */
+    protected static final class RenderedPredicate {
+        
+        private final SqlPredicateFragment fragment;
+        private final boolean exact;
+
+        protected RenderedPredicate(SqlPredicateFragment fragment, boolean exact) {
+            this.fragment = requireNonNull(fragment);
+            this.exact    = exact;
+        }
+
+        public SqlPredicateFragment getFragment() {
+            return fragment;
+        }
+
+        public boolean isExact() {
+            return exact;
+        }
+    }
+    
     public static SqlPredicateFragment of(String sql) {
         return SqlPredicateFragment.of(sql);
     }
@@ -17,13 +17,19 @@
 package com.speedment.internal.core.manager.sql;
 
 import com.speedment.Speedment;
+import com.speedment.component.resultset.ResultSetMapping;
 import com.speedment.config.db.Column;
 import com.speedment.config.db.Dbms;
+import com.speedment.config.db.Index;
+import com.speedment.config.db.IndexColumn;
 import com.speedment.config.db.PrimaryKeyColumn;
 import com.speedment.config.db.Project;
 import com.speedment.config.db.Table;
 import com.speedment.config.db.mapper.TypeMapper;
 import com.speedment.config.db.parameters.DbmsType;
+import com.speedment.config.db.parameters.InListBinding;
+import com.speedment.config.db.parameters.SkipLimitSupport;
+import com.speedment.config.db.parameters.UpsertSupport;
 import com.speedment.config.db.trait.HasEnabled;
 import com.speedment.db.AsynchronousQueryResult;
 import com.speedment.db.DatabaseNamingConvention;
@@ -33,22 +39,37 @@ import com.speedment.db.SqlFunction;
 import com.speedment.db.SqlRunnable;
 import com.speedment.exception.SpeedmentException;
 import com.speedment.field.FieldIdentifier;
+import com.speedment.field.methods.FieldSetter;
+import com.speedment.field.trait.ComparableFieldTrait;
 import com.speedment.field.trait.FieldTrait;
 import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.code.AbstractBaseEntity;
+import com.speedment.internal.core.db.ArrayParameter;
 import com.speedment.internal.core.manager.AbstractManager;
 import com.speedment.internal.core.manager.metaresult.SqlMetaResultImpl;
 import static com.speedment.internal.core.stream.OptionalUtil.unwrap;
 import com.speedment.internal.core.stream.builder.ReferenceStreamBuilder;
 import com.speedment.internal.core.stream.builder.pipeline.PipelineImpl;
+import com.speedment.internal.core.stream.builder.streamterminator.StreamTerminatorUtil;
+import com.speedment.internal.core.stream.parallelstrategy.PartitionSpliterator;
 import com.speedment.internal.util.LazyString;
 import com.speedment.internal.util.document.DocumentDbUtil;
 import static com.speedment.internal.util.document.DocumentDbUtil.dbmsTypeOf;
 import static com.speedment.internal.util.document.DocumentDbUtil.isSame;
 import com.speedment.internal.util.document.DocumentUtil;
+import com.speedment.internal.util.sql.ResultSetUtil;
 import static com.speedment.internal.util.document.DocumentUtil.Name.DATABASE_NAME;
 import static com.speedment.internal.util.document.DocumentUtil.ancestor;
+import com.speedment.manager.UnitOfWork;
 import com.speedment.stream.StreamDecorator;
 import static com.speedment.util.NullUtil.requireNonNulls;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.Clob;
@@ -57,21 +78,49 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.sql.Struct;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import static java.util.function.Function.identity;
 import java.util.function.Supplier;
 import java.util.stream.BaseStream;
 import java.util.stream.Collectors;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  *
@@ -81,13 +130,45 @@ import java.util.stream.Stream;
  */
 public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY> implements SqlManager<ENTITY> {
 
+    private static final int QUERY_SHAPE_CACHE_SIZE = 256;
+    private static final int UPDATE_SQL_CACHE_SIZE = 256;
+    
+    /**
+     * The SQL type names of array elements, by the database type of the 
+     * column that the array is matched against.
+     */
+    private static final Map<Class<?>, String> ARRAY_TYPE_NAMES;
+    
+    static {
+        final Map<Class<?>, String> names = new HashMap<>();
+        names.put(Byte.class, "smallint");
+        names.put(Short.class, "smallint");
+        names.put(Integer.class, "integer");
+        names.put(Long.class, "bigint");
+        names.put(Float.class, "real");
+        names.put(Double.class, "double precision");
+        names.put(BigDecimal.class, "numeric");
+        names.put(BigInteger.class, "numeric");
+        names.put(Boolean.class, "boolean");
+        names.put(String.class, "varchar");
+        names.put(UUID.class, "uuid");
+        names.put(java.sql.Date.class, "date");
+        names.put(Time.class, "time");
+        names.put(Timestamp.class, "timestamp");
+        ARRAY_TYPE_NAMES = Collections.unmodifiableMap(names);
+    }
+
     private final LazyString sqlColumnList;
     private final LazyString sqlTableReference;
     private final LazyString sqlSelect;
     private final Map<String, FieldTrait> fieldTraitMap;
     private final boolean hasPrimaryKeyColumns;
+    private final Map<String, Optional<PointLookup>> pointLookups;
+    private final QueryShapeCache queryShapeCache;
+    private final Map<BitSet, String> updateSqlCache;
 
     private SqlFunction<ResultSet, ENTITY> entityMapper;
+    private int fetchSize;
 
     protected AbstractSqlManager(Speedment speedment) {
         super(speedment);
@@ -110,11 +191,282 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
             .collect(Collectors.toMap(f -> f.getIdentifier().columnName(), identity()));
 
         this.hasPrimaryKeyColumns = primaryKeyFields().findAny().isPresent();
+        this.pointLookups = new ConcurrentHashMap<>();
+        this.queryShapeCache = new QueryShapeCache(QUERY_SHAPE_CACHE_SIZE);
+        this.updateSqlCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Finds an entity where the provided field matches the provided value. 
+     * If the field is the only primary key field or if it is the only field 
+     * of an {@code UNIQUE} index, a pre-rendered 
+     * {@code SELECT ... WHERE column = ?} query is executed directly so that 
+     * no stream pipeline has to be built. The prepared statement is then 
+     * cached by the connection. Otherwise, a stream is filtered on the field.
+     *
+     * @param <D>    the database type
+     * @param <V>    the value type
+     * @param <F>    the field type
+     * @param field  the field to match
+     * @param value  the value to match
+     * @return       the matching entity or empty
+     */
+    public <D, V extends Comparable<? super V>, F extends FieldTrait & ReferenceFieldTrait<ENTITY, D, V> & ComparableFieldTrait<ENTITY, D, V>>
+    Optional<ENTITY> nativeFindAny(F field, V value) {
+        requireNonNull(field);
+        
+        if (value != null) {
+            final Optional<PointLookup> lookup = pointLookups.computeIfAbsent(
+                field.getIdentifier().columnName(), this::pointLookup
+            );
+            
+            if (lookup.isPresent()) {
+                final List<Object> values = new ArrayList<>(1 + lookup.get().limitValues.size());
+                values.add(field.typeMapper().toDatabaseType(value));
+                values.addAll(lookup.get().limitValues);
+                return dbmsHandler().executeLookup(lookup.get().sql, values, entityMapper);
+            }
+        }
+        
+        return nativeStream(StreamDecorator.IDENTITY)
+            .filter(field.equal(value))
+            .findAny();
+    }
+
+    /**
+     * Finds the entities where the provided field matches any of the provided
+     * values, mapped by the value of the field. The values are split into 
+     * chunks of at most {@link InListBinding#getMaxChunkSize()} values, and
+     * each chunk is read with a {@code SELECT ... WHERE column IN (?, ...)} 
+     * query, or a {@code SELECT ... WHERE column = ANY(?)} query if the 
+     * database type binds the values as an array and the SQL type of the
+     * column is known. If there is more than one chunk, the chunks are read
+     * concurrently on separate pooled connections, using at most as many 
+     * threads as the connection pool retains connections.
+     * <p>
+     * If several entities match the same value, then an arbitrary one of them
+     * is kept. {@code null} values never match.
+     *
+     * @param <D>     the database type
+     * @param <V>     the value type
+     * @param <F>     the field type
+     * @param field   the field to match
+     * @param values  the values to match
+     * @return        the matching entities mapped by the value of the field
+     */
+    public <D, V extends Comparable<? super V>, F extends FieldTrait & ReferenceFieldTrait<ENTITY, D, V> & ComparableFieldTrait<ENTITY, D, V>>
+    Map<V, ENTITY> nativeFindAll(F field, Collection<? extends V> values) {
+        requireNonNull(field);
+        requireNonNull(values);
+        
+        final String columnName = field.getIdentifier().columnName();
+        if (!fieldTraitMap.containsKey(columnName)) {
+            final Set<V> keys = new HashSet<>(values);
+            keys.remove(null);
+            return nativeStream(StreamDecorator.IDENTITY)
+                .filter(field.in(keys))
+                .collect(toMap(field::get, identity(), (a, b) -> a));
+        }
+        
+        final List<Object> dbValues = values.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .map(field.typeMapper()::toDatabaseType)
+            .collect(toList());
+        
+        if (dbValues.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        
+        final Optional<String> arrayTypeName = field.findColumn(speedment)
+            .flatMap(AbstractSqlManager::arrayTypeNameOf);
+        final InListBinding binding = arrayTypeName.isPresent()
+            ? getDbmsType().getInListBinding()
+            : InListBinding.PARAMETER_LIST;
+        
+        final String column = naming().encloseField(columnName);
+        final int chunkSize = binding.getMaxChunkSize();
+        
+        final List<List<Object>> chunks = new ArrayList<>();
+        for (int i = 0; i < dbValues.size(); i += chunkSize) {
+            chunks.add(dbValues.subList(i, Math.min(i + chunkSize, dbValues.size())));
+        }
+        
+        final Function<List<Object>, List<ENTITY>> reader = chunk -> {
+            final String sql;
+            final List<Object> params;
+            
+            switch (binding) {
+                case ARRAY_PARAMETER : {
+                    sql = sqlSelect() + " WHERE " + column + " = ANY(?)";
+                    params = Collections.singletonList(
+                        new ArrayParameter(arrayTypeName.get(), chunk.toArray())
+                    );
+                    break;
+                }
+                case PARAMETER_LIST : {
+                    sql = chunk.stream().map(v -> "?").collect(joining(
+                        ", ", sqlSelect() + " WHERE " + column + " IN (", ")"
+                    ));
+                    params = new ArrayList<>(chunk);
+                    break;
+                }
+                default : throw new UnsupportedOperationException(
+                    "Unknown in list binding '" + binding + "'."
+                );
+            }
+            
+            return synchronousStreamOf(sql, params, entityMapper)
+                .collect(toList());
+        };
+        
+        final List<List<ENTITY>> results = chunks.size() == 1
+            ? Collections.singletonList(reader.apply(chunks.get(0)))
+            : readConcurrently(chunks, reader);
+        
+        return results.stream()
+            .flatMap(List::stream)
+            .collect(toMap(field::get, identity(), (a, b) -> a));
+    }
+
+    /**
+     * Reads the provided chunks concurrently, each on its own pooled 
+     * connection, and returns the results in the order of the chunks. The
+     * chunks are read by a dedicated executor that is never larger than the
+     * number of connections that the connection pool retains, so that the
+     * common fork-join pool is not blocked by database calls.
+     *
+     * @param <T>     the result type
+     * @param chunks  the chunks to read
+     * @param reader  the function that reads a chunk
+     * @return        the results of the chunks
+     */
+    private <T> List<T> readConcurrently(List<List<Object>> chunks, Function<List<Object>, T> reader) {
+        final int threads = Math.max(1, Math.min(
+            chunks.size(), 
+            speedment.getConnectionPoolComponent().getMaxRetainSize()
+        ));
+        
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "speedment-find-all-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        try {
+            final List<Future<T>> futures = chunks.stream()
+                .map(chunk -> executor.submit(() -> reader.apply(chunk)))
+                .collect(toList());
+            
+            final List<T> results = new ArrayList<>(futures.size());
+            for (final Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SpeedmentException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SpeedmentException) {
+                throw (SpeedmentException) ex.getCause();
+            }
+            throw new SpeedmentException(ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the SQL type name to use for the elements of an array that is
+     * matched against the provided column, or an empty {@code Optional} if 
+     * the values of the column can not be bound as an array.
+     *
+     * @param column  the column
+     * @return        the SQL type name of the elements or empty
+     */
+    private static Optional<String> arrayTypeNameOf(Column column) {
+        return Optional.ofNullable(ARRAY_TYPE_NAMES.get(column.findDatabaseType()));
+    }
+
+    /**
+     * Renders the point lookup query for the column with the provided name, 
+     * given that the column uniquely identifies a row in this table.
+     *
+     * @param columnName  the name of the column
+     * @return            the point lookup or empty if the column is not unique
+     */
+    private Optional<PointLookup> pointLookup(String columnName) {
+        final List<String> key = Collections.singletonList(columnName);
+        
+        final boolean primaryKey = key.equals(getTable().primaryKeyColumns()
+            .map(this::findColumn)
+            .map(Column::getName)
+            .collect(toList())
+        );
+        
+        final boolean uniqueIndex = getTable().indexes()
+            .filter(Index::isEnabled)
+            .filter(Index::isUnique)
+            .anyMatch(i -> key.equals(i.indexColumns()
+                .map(IndexColumn::getName)
+                .collect(toList())
+            ));
+        
+        if ((!primaryKey && !uniqueIndex) || !fieldTraitMap.containsKey(columnName)) {
+            return Optional.empty();
+        }
+        
+        final List<Object> limitValues = new ArrayList<>();
+        final String sql = getDbmsType().applySkipLimit(
+            sqlSelect() + " WHERE " + naming().encloseField(columnName) + " = ?", 
+            limitValues, 0, 1
+        );
+        
+        return Optional.of(new PointLookup(sql, limitValues));
+    }
+
+    /**
+     * A pre-rendered query that selects a row by a unique column, with the 
+     * values of any {@code LIMIT} clause that follow the value of the column.
+     */
+    private static final class PointLookup {
+        
+        private final String sql;
+        private final List<Object> limitValues;
+
+        private PointLookup(String sql, List<Object> limitValues) {
+            this.sql = requireNonNull(sql);
+            this.limitValues = requireNonNull(limitValues);
+        }
     }
 
     @Override
     public Stream<ENTITY> nativeStream(StreamDecorator decorator) {
+        final OptionalInt keysetChunkSize = decorator.getKeysetChunkSize();
+        if (keysetChunkSize.isPresent()) {
+            final Optional<Stream<ENTITY>> keysetStream = keysetStream(keysetChunkSize.getAsInt());
+            if (keysetStream.isPresent()) {
+                return decorator.applyOnFinal(decorator.applyOnInitial(keysetStream.get()));
+            }
+        }
+        
+        final OptionalInt rangePartitions = decorator.getRangePartitions();
+        if (rangePartitions.isPresent()) {
+            final Optional<Stream<ENTITY>> partitionedStream = partitionedStream(
+                rangePartitions.getAsInt(), 
+                decorator.getPartitionField(), 
+                decorator.getFetchSize().orElse(fetchSize)
+            );
+            if (partitionedStream.isPresent()) {
+                return decorator.applyOnFinal(decorator.applyOnInitial(partitionedStream.get()));
+            }
+        }
+        
         final AsynchronousQueryResult<ENTITY> asynchronousQueryResult = decorator.apply(dbmsHandler().executeQueryAsync(sqlSelect(), Collections.emptyList(), entityMapper.unWrap()));
+        asynchronousQueryResult.setFetchSize(decorator.getFetchSize().orElse(fetchSize));
+        asynchronousQueryResult.setReadAheadSize(decorator.getReadAheadSize().orElse(0));
+        asynchronousQueryResult.setQueryTimeout(decorator.getQueryTimeout().orElse(0));
         final SqlStreamTerminator<ENTITY> terminator = new SqlStreamTerminator<>(this, asynchronousQueryResult, decorator);
         final Supplier<BaseStream<?, ?>> initialSupplier = () -> decorator.applyOnInitial(asynchronousQueryResult.stream());
         final Stream<ENTITY> result = decorator.applyOnFinal(new ReferenceStreamBuilder<>(new PipelineImpl<>(initialSupplier), terminator));
@@ -125,6 +477,230 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
         return result;
     }
 
+    /**
+     * Creates a stream that reads the table in primary key order using keyset
+     * pagination, where each chunk of rows is read by a separate query. This
+     * is only possible if the table has a single primary key column and the
+     * database type supports {@code LIMIT}.
+     * 
+     * @param chunkSize  the number of rows to read in each query
+     * @return           the stream or empty if keyset pagination can not be 
+     *                   used for this table
+     */
+    private Optional<Stream<ENTITY>> keysetStream(int chunkSize) {
+        final List<? extends ReferenceFieldTrait<ENTITY, ?, ?>> keyFields = 
+            castedFieldsOf(this::primaryKeyFields).collect(toList());
+        
+        if (keyFields.size() != 1 || getDbmsType().getSkipLimitSupport() == SkipLimitSupport.NONE) {
+            return Optional.empty();
+        }
+        
+        @SuppressWarnings("unchecked")
+        final ReferenceFieldTrait<ENTITY, Object, Object> keyField = 
+            (ReferenceFieldTrait<ENTITY, Object, Object>) keyFields.get(0);
+        
+        final String keyColumn = naming().encloseField(keyField.getIdentifier().columnName());
+        
+        final Iterator<ENTITY> iterator = new KeysetPaginationIterator<>(
+            chunkSize,
+            entity -> keyField.typeMapper().toDatabaseType(keyField.get(entity)),
+            lastKey -> {
+                final StringBuilder sql = new StringBuilder(sqlSelect());
+                final List<Object> values = new ArrayList<>();
+                lastKey.ifPresent(key -> {
+                    sql.append(" WHERE ").append(keyColumn).append(" > ?");
+                    values.add(key);
+                });
+                sql.append(" ORDER BY ").append(keyColumn);
+                
+                final String chunkSql = getDbmsType().applySkipLimit(sql.toString(), values, 0, chunkSize);
+                return synchronousStreamOf(chunkSql, values, entityMapper).collect(toList());
+            }
+        );
+        
+        return Optional.of(StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), 
+            false
+        ));
+    }
+
+    /**
+     * Returns the number of rows that streams from this manager fetch from 
+     * the database at a time, unless another fetch size is given by a
+     * {@link StreamDecorator}. A value of {@code 0} means that the driver
+     * default is used.
+     *
+     * @return the fetch size
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Sets the number of rows that streams from this manager fetch from the
+     * database at a time, unless another fetch size is given by a
+     * {@link StreamDecorator}. A value of {@code 0} means that the driver
+     * default is used.
+     *
+     * @param fetchSize the fetch size
+     * @see StreamDecorator#fetchSize(int)
+     */
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("The fetch size must not be negative, was " + fetchSize + ".");
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Returns the cache of the {@code WHERE} conditions that streams from 
+     * this manager have rendered, keyed by the shape of the predicates that 
+     * they were rendered from. The hit and miss counters of the cache can be 
+     * used to see how often a condition is reused.
+     *
+     * @return the query shape cache
+     */
+    public QueryShapeCache getQueryShapeCache() {
+        return queryShapeCache;
+    }
+
+    /**
+     * Creates a parallel stream that reads the table using a number of 
+     * concurrent queries, each over a range of values of the provided field
+     * (or the primary key if no field is provided). The ranges are evenly
+     * distributed between the smallest and the largest value in the table.
+     * Every query is executed on its own connection when a worker thread
+     * starts to read from it.
+     * 
+     * @param partitions  the number of ranges
+     * @param field       the numeric field to partition by or empty to use 
+     *                    the primary key
+     * @param fetchSize   the fetch size of each query
+     * @return            the stream or empty if the table can not be range
+     *                    partitioned
+     */
+    private Optional<Stream<ENTITY>> partitionedStream(
+        int partitions, 
+        Optional<ReferenceFieldTrait<?, ?, ? extends Number>> field, 
+        int fetchSize
+    ) {
+        final ReferenceFieldTrait<?, ?, ?> partitionField;
+        if (field.isPresent()) {
+            partitionField = field.get();
+        } else {
+            final List<? extends ReferenceFieldTrait<ENTITY, ?, ?>> keyFields = 
+                castedFieldsOf(this::primaryKeyFields).collect(toList());
+            
+            if (keyFields.size() != 1) {
+                return Optional.empty();
+            }
+            partitionField = keyFields.get(0);
+        }
+        
+        final String column = naming().encloseField(partitionField.getIdentifier().columnName());
+        final List<Object> bounds = synchronousStreamOf(
+            "SELECT MIN(" + column + "), MAX(" + column + ") FROM " + sqlTableReference(),
+            Collections.emptyList(),
+            rs -> Arrays.asList(rs.getObject(1), rs.getObject(2))
+        ).findAny().get();
+        
+        final OptionalLong minBound = rangeBound(bounds.get(0), RoundingMode.FLOOR);
+        final OptionalLong maxBound = rangeBound(bounds.get(1), RoundingMode.CEILING);
+        if (!minBound.isPresent() || !maxBound.isPresent()) {
+            return Optional.empty(); // Empty table or not a numeric column
+        }
+        
+        final long min = minBound.getAsLong();
+        final long max = maxBound.getAsLong();
+        if (max - min < 0) {
+            return Optional.empty(); // Overflow
+        }
+        
+        final long step = Math.max(1, (max - min) / partitions + 1);
+        final List<Supplier<Stream<ENTITY>>> suppliers = new ArrayList<>();
+        for (long from = min; from <= max; from += step) {
+            if (max - from < step) {
+                suppliers.add(partition(column + " >= ? AND " + column + " <= ?", Arrays.asList(from, max), fetchSize));
+                break;
+            }
+            suppliers.add(partition(column + " >= ? AND " + column + " < ?", Arrays.asList(from, from + step), fetchSize));
+        }
+        
+        if (field.isPresent()) {
+            suppliers.add(partition(column + " IS NULL", Collections.emptyList(), fetchSize));
+        }
+        
+        final Queue<Stream<ENTITY>> opened = new ConcurrentLinkedQueue<>();
+        final Stream<ENTITY> result = StreamSupport.stream(
+            new PartitionSpliterator<>(suppliers, opened::add, Spliterator.NONNULL), 
+            true
+        );
+        
+        return Optional.of(result.onClose(() -> opened.forEach(Stream::close)));
+    }
+    
+    /**
+     * Returns the provided smallest or largest value of a column rounded to a
+     * {@code long}. The value is not converted to a {@code double} first, so
+     * that large integral keys keep all their digits. If the value is not a 
+     * number or is out of the range of a {@code long}, an empty result is
+     * returned.
+     *
+     * @param bound     the value as read from the database
+     * @param rounding  the direction to round non-integral values in
+     * @return          the rounded value or empty
+     */
+    private static OptionalLong rangeBound(Object bound, RoundingMode rounding) {
+        if (!(bound instanceof Number)) {
+            return OptionalLong.empty();
+        }
+        
+        try {
+            return OptionalLong.of(new BigDecimal(bound.toString())
+                .setScale(0, rounding)
+                .longValueExact()
+            );
+        } catch (final NumberFormatException | ArithmeticException ex) {
+            return OptionalLong.empty(); // NaN, infinite or too large
+        }
+    }
+    
+    private Supplier<Stream<ENTITY>> partition(String condition, List<Object> values, int fetchSize) {
+        return () -> {
+            final AsynchronousQueryResult<ENTITY> asynchronousQueryResult = dbmsHandler()
+                .executeQueryAsync(sqlSelect() + " WHERE " + condition, values, entityMapper.unWrap());
+            
+            asynchronousQueryResult.setFetchSize(fetchSize);
+            return asynchronousQueryResult.stream().onClose(asynchronousQueryResult::close);
+        };
+    }
+
+    /**
+     * Queries the database for the execution plan of the provided statement 
+     * using {@code EXPLAIN}. Each row of the plan is returned as its columns
+     * separated by {@code " | "}. If the database can not explain the 
+     * statement, an empty list is returned without logging an error.
+     *
+     * @param sql     the statement to explain
+     * @param values  the values of the statement parameters
+     * @return        the rows of the execution plan
+     */
+    public List<String> explain(String sql, List<?> values) {
+        requireNonNulls(sql, values);
+        try {
+            return dbmsHandler().executeQueryChecked("EXPLAIN " + sql, values, rs -> {
+                final int columns = rs.getMetaData().getColumnCount();
+                final StringJoiner row = new StringJoiner(" | ");
+                for (int i = 1; i <= columns; i++) {
+                    row.add(String.valueOf(rs.getObject(i)));
+                }
+                return row.toString();
+            }).collect(toList());
+        } catch (final SQLException | SpeedmentException ex) {
+            return Collections.emptyList();
+        }
+    }
+
     public <T> Stream<T> synchronousStreamOf(String sql, List<Object> values, SqlFunction<ResultSet, T> rsMapper) {
         requireNonNulls(sql, values, rsMapper);
         return dbmsHandler().executeQuery(sql, values, rsMapper);
@@ -137,11 +713,151 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
      * @return the number of elements in the table
      */
     public long count() {
-        return synchronousStreamOf(
-            "SELECT COUNT(*) FROM " + sqlTableReference(),
-            Collections.emptyList(),
-            rs -> rs.getLong(1)
-        ).findAny().get();
+        return count(sqlCount(), Collections.emptyList());
+    }
+
+    /**
+     * Counts the number of rows returned by the given {@code COUNT} query.
+     * The query is typically {@link #sqlCount()} followed by a 
+     * {@code WHERE} clause.
+     *
+     * @param sql     the count query to execute
+     * @param values  the values of the query parameters
+     * @return the number of rows
+     */
+    public long count(String sql, List<Object> values) {
+        return synchronousStreamOf(sql, values, rs -> rs.getLong(1))
+            .findAny().get();
+    }
+
+    /**
+     * Returns a {@code SELECT COUNT(*)/FROM} SQL statement for the current
+     * table specified in accordance to the current {@link DbmsType}. The
+     * specified statement will not have any trailing spaces or semicolons.
+     * <p>
+     * <b>Example:</b>
+     * <code>SELECT COUNT(*) FROM `myschema`.`users`</code>
+     *
+     * @return the SQL statement
+     */
+    public String sqlCount() {
+        return "SELECT COUNT(*) FROM " + sqlTableReference();
+    }
+
+    /**
+     * Returns a {@code SELECT/FROM} SQL statement that selects the column of
+     * the provided field only, optionally with {@code DISTINCT}. The specified
+     * statement will not have any trailing spaces or semicolons.
+     * <p>
+     * <b>Example:</b>
+     * <code>SELECT DISTINCT `email` FROM `myschema`.`users`</code>
+     *
+     * @param field     the field to select
+     * @param distinct  if only distinct values shall be selected
+     * @return the SQL statement
+     */
+    public String sqlSelect(ReferenceFieldTrait<?, ?, ?> field, boolean distinct) {
+        requireNonNull(field);
+        return sqlSelect(Collections.singletonList(field), distinct);
+    }
+
+    /**
+     * Returns a {@code SELECT/FROM} SQL statement that selects the columns of
+     * the provided fields only, in the given order and optionally with 
+     * {@code DISTINCT}. The specified statement will not have any trailing 
+     * spaces or semicolons.
+     * <p>
+     * <b>Example:</b>
+     * <code>SELECT `myschema`.`users`.`id`,`myschema`.`users`.`email` FROM `myschema`.`users`</code>
+     *
+     * @param fields    the fields to select
+     * @param distinct  if only distinct rows shall be selected
+     * @return the SQL statement
+     */
+    public String sqlSelect(List<? extends ReferenceFieldTrait<?, ?, ?>> fields, boolean distinct) {
+        requireNonNull(fields);
+        return "SELECT " + (distinct ? "DISTINCT " : "") 
+            + fields.stream()
+                .map(f -> naming().fullNameOf(f.getIdentifier()))
+                .collect(joining(","))
+            + " FROM " + sqlTableReference();
+    }
+
+    /**
+     * Creates and returns a mapper that reads the value of the provided field
+     * from the first column of a {@code ResultSet}, as selected by
+     * {@link #sqlSelect(ReferenceFieldTrait, boolean)}. The value is read in 
+     * the same way as when a complete entity is created.
+     *
+     * @param <D>    the database type
+     * @param <V>    the value type
+     * @param field  the field to read
+     * @return       the mapper
+     */
+    public <D, V> Function<ResultSet, V> columnMapper(ReferenceFieldTrait<?, D, V> field) {
+        return columnMapper(field, 1);
+    }
+
+    /**
+     * Creates and returns a mapper that reads the value of the provided field
+     * from the specified column of a {@code ResultSet}. The value is read in 
+     * the same way as when a complete entity is created.
+     *
+     * @param <D>          the database type
+     * @param <V>          the value type
+     * @param field        the field to read
+     * @param columnIndex  the index of the column, starting at 1
+     * @return             the mapper
+     */
+    public <D, V> Function<ResultSet, V> columnMapper(ReferenceFieldTrait<?, D, V> field, int columnIndex) {
+        requireNonNull(field);
+        final TypeMapper<D, V> typeMapper = field.typeMapper();
+        final ResultSetMapping<D> mapping = speedment.getResultSetMapperComponent()
+            .apply(getDbmsType(), typeMapper.getDatabaseType());
+        
+        final MethodHandle getter = resultSetGetter("get" + mapping.getResultSetMethodName(getDbms()));
+        
+        return rs -> {
+            try {
+                @SuppressWarnings("unchecked")
+                final D value = (D) (Object) getter.invokeExact(rs, columnIndex);
+                return typeMapper.toJavaType(value);
+            } catch (final RuntimeException ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new SpeedmentException(ex);
+            }
+        };
+    }
+
+    /**
+     * Returns a handle to the static {@link ResultSetUtil} method with the 
+     * provided name, falling back to {@code getObject} if there is no such
+     * method. The handle is adapted to return an {@code Object} so that it 
+     * can be invoked exactly, which avoids the argument array and the access
+     * checks of a reflective call for every row.
+     * 
+     * @param name  the method name
+     * @return      the method handle
+     */
+    private static MethodHandle resultSetGetter(String name) {
+        Method method;
+        try {
+            method = ResultSetUtil.class.getMethod(name, ResultSet.class, int.class);
+        } catch (final NoSuchMethodException ex) {
+            try {
+                method = ResultSetUtil.class.getMethod("getObject", ResultSet.class, int.class);
+            } catch (final NoSuchMethodException ex2) {
+                throw new SpeedmentException(ex2);
+            }
+        }
+        
+        try {
+            return MethodHandles.publicLookup().unreflect(method)
+                .asType(MethodType.methodType(Object.class, ResultSet.class, int.class));
+        } catch (final IllegalAccessException ex) {
+            throw new SpeedmentException(ex);
+        }
     }
 
     /**
@@ -166,7 +882,8 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
 
     @Override
     public void setEntityMapper(SqlFunction<ResultSet, ENTITY> entityMapper) {
-        this.entityMapper = requireNonNull(entityMapper);
+        // Entities that were just loaded have no changes to write
+        this.entityMapper = requireNonNull(entityMapper).andThen(this::clearDirtyFields);
     }
 
     @Override
@@ -180,6 +897,88 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
         return persistHelp(entity, Optional.of(listener));
     }
 
+    @Override
+    public long persistAll(Stream<? extends ENTITY> entities, int batchSize) throws SpeedmentException {
+        requireNonNull(entities);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive, was " + batchSize + ".");
+        }
+
+        return writeAll(entities, batchSize, false);
+    }
+
+    @Override
+    public ENTITY upsert(ENTITY entity) throws SpeedmentException {
+        requireNonNull(entity);
+        assertHasPrimaryKeyColumns();
+
+        if (getDbmsType().getUpsertSupport() == UpsertSupport.NONE) {
+            return upsertByUpdate(entity);
+        }
+
+        return upsertHelp(entity);
+    }
+
+    @Override
+    public long upsertAll(Stream<? extends ENTITY> entities, int batchSize) throws SpeedmentException {
+        requireNonNull(entities);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive, was " + batchSize + ".");
+        }
+        assertHasPrimaryKeyColumns();
+
+        if (getDbmsType().getUpsertSupport() == UpsertSupport.NONE) {
+            final long[] count = {0};
+            entities.forEachOrdered(entity -> {
+                upsertByUpdate(entity);
+                count[0]++;
+            });
+            return count[0];
+        }
+
+        return writeAll(entities, batchSize, true);
+    }
+
+    private long writeAll(Stream<? extends ENTITY> entities, int batchSize, boolean upsert) throws SpeedmentException {
+        // Consecutive entities that are written using the same columns are
+        // grouped into a single batch of at most batchSize rows.
+        final List<ENTITY> batch = new ArrayList<>();
+        List<Column> batchColumns = null;
+        long count = 0;
+
+        final Iterator<? extends ENTITY> iterator = entities.iterator();
+        while (iterator.hasNext()) {
+            final ENTITY entity = requireNonNull(iterator.next());
+            final List<Column> cols = persistColumns(entity);
+
+            if (!batch.isEmpty() && (batch.size() >= batchSize || !sameColumns(batchColumns, cols))) {
+                count += persistBatch(batchColumns, batch, upsert);
+                batch.clear();
+            }
+
+            batchColumns = cols;
+            batch.add(entity);
+        }
+
+        if (!batch.isEmpty()) {
+            count += persistBatch(batchColumns, batch, upsert);
+        }
+
+        return count;
+    }
+
+    private static boolean sameColumns(List<Column> first, List<Column> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (!first.get(i).getName().equals(second.get(i).getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public ENTITY update(ENTITY entity) {
         requireNonNull(entity);
@@ -204,6 +1003,156 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
         return removeHelper(entity, Optional.of(listener));
     }
 
+    @Override
+    public long update(Predicate<? super ENTITY> predicate, List<? extends FieldSetter<ENTITY, ?>> setters) throws SpeedmentException {
+        requireNonNulls(predicate, setters);
+        if (setters.isEmpty()) {
+            throw new IllegalArgumentException("At least one setter must be given.");
+        }
+
+        // Predicates that can not be rendered to SQL must be evaluated in 
+        // the JVM, so then the matching entities are updated in a single
+        // transaction.
+        final List<Object> conditionValues = new ArrayList<>();
+        final Optional<String> condition = renderCondition(predicate, conditionValues);
+        if (!condition.isPresent()) {
+            final List<ENTITY> matching = findMatching(predicate);
+            final UnitOfWork unitOfWork = new UnitOfWorkImpl(entity -> this);
+            for (final ENTITY entity : matching) {
+                ENTITY updated = entity;
+                for (final FieldSetter<ENTITY, ?> setter : setters) {
+                    updated = setter.apply(updated);
+                }
+                unitOfWork.update(updated);
+            }
+            unitOfWork.commit();
+            return matching.size();
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        final List<Object> values = new ArrayList<>();
+        sb.append("UPDATE ").append(sqlTableReference()).append(" SET ");
+        sb.append(setters.stream()
+            .map(setter -> {
+                final ReferenceFieldTrait<ENTITY, ?, ?> field = fieldOf(setter);
+                @SuppressWarnings("unchecked")
+                final TypeMapper<Object, Object> typeMapper = (TypeMapper<Object, Object>) field.typeMapper();
+                values.add(typeMapper.toDatabaseType(unwrap(setter.getValue())));
+                return naming().encloseField(field.getIdentifier().columnName()) + " = ?";
+            })
+            .collect(joining(","))
+        );
+        sb.append(" WHERE ").append(condition.get());
+        values.addAll(conditionValues);
+
+        try {
+            return dbmsHandler().executeBulkUpdate(sb.toString(), values);
+        } catch (final SQLException sqle) {
+            throw new SpeedmentException(sqle);
+        }
+    }
+
+    @Override
+    public long remove(Predicate<? super ENTITY> predicate) throws SpeedmentException {
+        requireNonNull(predicate);
+
+        // Predicates that can not be rendered to SQL must be evaluated in 
+        // the JVM, so then the matching entities are removed in a single
+        // transaction.
+        final List<Object> values = new ArrayList<>();
+        final Optional<String> condition = renderCondition(predicate, values);
+        if (!condition.isPresent()) {
+            final List<ENTITY> matching = findMatching(predicate);
+            final UnitOfWork unitOfWork = new UnitOfWorkImpl(entity -> this);
+            matching.forEach(unitOfWork::remove);
+            unitOfWork.commit();
+            return matching.size();
+        }
+
+        final String sql = "DELETE FROM " + sqlTableReference()
+            + " WHERE " + condition.get();
+
+        try {
+            return dbmsHandler().executeBulkDelete(sql, values);
+        } catch (final SQLException sqle) {
+            throw new SpeedmentException(sqle);
+        }
+    }
+
+    /**
+     * Returns the entities that match the provided predicate that could not 
+     * be rendered by {@link #renderCondition(Predicate, List)}. The matching
+     * entities are loaded before they are written, so the caller is not
+     * atomic: rows that are changed by others in between are not evaluated
+     * again.
+     *
+     * @param predicate  the predicate to match
+     * @return           the matching entities
+     */
+    private List<ENTITY> findMatching(Predicate<? super ENTITY> predicate) {
+        // A predicate made up of SpeedmentPredicates only that could still
+        // not be rendered would fail in the stream as well, so it is hidden
+        // from the stream optimizer and evaluated in the JVM.
+        if (StreamTerminatorUtil.isFullyRenderable(predicate)) {
+            return stream().filter(entity -> predicate.test(entity)).collect(toList());
+        } else {
+            return stream().filter(predicate).collect(toList());
+        }
+    }
+
+    /**
+     * Renders the provided predicate to an SQL condition and adds the values
+     * of its parameters to the provided list. If the predicate, or any part 
+     * of it, can not be rendered by the current {@link DbmsType}, an empty 
+     * {@code Optional} is returned and the content of the list is undefined.
+     *
+     * @param predicate  the predicate to render
+     * @param values     the list to add the parameter values to
+     * @return           the condition or empty
+     */
+    private Optional<String> renderCondition(Predicate<? super ENTITY> predicate, List<Object> values) {
+        if (!StreamTerminatorUtil.isFullyRenderable(predicate)) {
+            return Optional.empty();
+        }
+
+        final String condition;
+        try {
+            condition = getQueryShapeCache().render(
+                getDbmsType().getSpeedmentPredicateView(),
+                this::typeMapperOf,
+                Collections.singletonList(predicate),
+                values
+            );
+        } catch (final SpeedmentException | UnsupportedOperationException ex) {
+            return Optional.empty();
+        }
+
+        return condition.isEmpty() ? Optional.empty() : Optional.of(condition);
+    }
+
+    private ReferenceFieldTrait<ENTITY, ?, ?> fieldOf(FieldSetter<ENTITY, ?> setter) {
+        final FieldTrait field = fieldTraitMap.get(setter.getField().getIdentifier().columnName());
+        if (!(field instanceof ReferenceFieldTrait)) {
+            throw new IllegalArgumentException(
+                "The field " + setter.getField().getIdentifier().columnName()
+                + " of the setter is not a field of " + getTable().getName() + "."
+            );
+        }
+
+        @SuppressWarnings("unchecked")
+        final ReferenceFieldTrait<ENTITY, ?, ?> result = (ReferenceFieldTrait<ENTITY, ?, ?>) field;
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private TypeMapper<Object, Object> typeMapperOf(String columnName) {
+        return (TypeMapper<Object, Object>) getTable().columns()
+            .filter(c -> columnName.equals(c.getName()))
+            .findAny()
+            .orElseThrow(() -> new SpeedmentException("Cannot find column " + columnName + " in " + getTable().getName()))
+            .findTypeMapper();
+    }
+
     /**
      * Short-cut for retrieving the current {@link Dbms}.
      *
@@ -307,12 +1256,167 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
 
     private <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> ENTITY persistHelp(ENTITY entity, Optional<Consumer<MetaResult<ENTITY>>> listener) throws SpeedmentException {
         final List<Column> cols = persistColumns(entity);
+        final String sql = persistSql(cols);
+        final List<Object> values = persistValues(cols, entity);
+        final List<F> generatedFields = generatedFields();
+
+        final Function<ENTITY, Consumer<List<Long>>> generatedKeyconsumer = builder -> {
+            return l -> {
+                if (!l.isEmpty()) {
+                    // Just assume that they are in order, what else is there to do?
+                    setGeneratedKeys(builder, generatedFields, l);
+                }
+            };
+        };
+
+        executeInsert(entity, sql, values, generatedFields, generatedKeyconsumer, listener);
+        return clearDirtyFields(entity);
+    }
+
+    /**
+     * Writes the provided entities, that all use the provided columns, as a
+     * single batch in its own transaction. Unlike 
+     * {@link #persist(Object, Consumer)}, no {@link MetaResult} is created 
+     * and no listener is notified for the individual entities.
+     *
+     * @param cols      the columns to write
+     * @param entities  the entities to write
+     * @param upsert    if existing rows should be updated
+     * @return          the number of written entities
+     */
+    private <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> int persistBatch(List<Column> cols, List<ENTITY> entities, boolean upsert) throws SpeedmentException {
+        final List<F> unpersistedFields = unpersistedGeneratedFields(cols);
+        final String sql = upsert ? upsertSql(cols, unpersistedFields) : persistSql(cols);
+        final List<List<Object>> rows = entities.stream()
+            .map(entity -> persistValues(cols, entity))
+            .collect(toList());
+
+        // Only the generated columns that were not given a value by the 
+        // entities themselves are read back from the database, and only if
+        // the keys of the batch can be mapped back to the rows.
+        final List<F> generatedFields = !upsert || getDbmsType().getUpsertSupport().hasBatchGeneratedKeys()
+            ? unpersistedFields
+            : Collections.emptyList();
+
+        try {
+            dbmsHandler().executeInsertBatch(sql, rows, generatedFields, keys -> {
+                // A driver returns at most one key per row in a batch, so 
+                // the keys can only be mapped back to a single generated field.
+                if (generatedFields.size() == 1 && keys.size() == entities.size()) {
+                    for (int i = 0; i < entities.size(); i++) {
+                        setGeneratedKeys(entities.get(i), generatedFields, keys.subList(i, i + 1));
+                    }
+                }
+            });
+        } catch (final SQLException sqle) {
+            throw new SpeedmentException(sqle);
+        }
+
+        entities.forEach(this::clearDirtyFields);
+        return entities.size();
+    }
+
+    private <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> ENTITY upsertHelp(ENTITY entity) throws SpeedmentException {
+        final List<Column> cols = persistColumns(entity);
+        final List<F> generatedFields = unpersistedGeneratedFields(cols);
+        final String sql = upsertSql(cols, generatedFields);
+        final List<Object> values = persistValues(cols, entity);
+
+        final Function<ENTITY, Consumer<List<Long>>> generatedKeyconsumer = builder -> {
+            return l -> {
+                if (!generatedFields.isEmpty() && l.size() == generatedFields.size()) {
+                    setGeneratedKeys(builder, generatedFields, l);
+                }
+            };
+        };
+
+        executeInsert(entity, sql, values, generatedFields, generatedKeyconsumer, Optional.empty());
+        return clearDirtyFields(entity);
+    }
+
+    /**
+     * Updates the row of the provided entity and persists the entity if no
+     * row was updated. This is used for database types that can not do both
+     * in a single statement, and is not atomic.
+     *
+     * @param entity  the entity to upsert
+     * @return        the provided entity
+     */
+    private <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> ENTITY upsertByUpdate(ENTITY entity) throws SpeedmentException {
+        final boolean hasKey = this.<F>castedFieldsOf(this::primaryKeyFields)
+            .allMatch(f -> get(entity, f.getIdentifier()) != null);
+
+        if (hasKey) {
+            final List<F> fields = this.<F>castedFieldsOf(this::fields).collect(toList());
+            final BitSet mask = new BitSet();
+            mask.set(0, fields.size());
+
+            final List<Object> values = fields.stream()
+                .map(f -> toDatabaseType(f, entity))
+                .collect(toList());
+
+            castedFieldsOf(this::primaryKeyFields)
+                .map(ReferenceFieldTrait::getIdentifier)
+                .forEachOrdered(f -> values.add(get(entity, f)));
+
+            try {
+                if (dbmsHandler().executeBulkUpdate(updateSql(fields, mask), values) > 0) {
+                    return clearDirtyFields(entity);
+                }
+            } catch (final SQLException sqle) {
+                throw new SpeedmentException(sqle);
+            }
+        }
+
+        return persist(entity);
+    }
+
+    private <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> String upsertSql(List<Column> cols, List<F> generatedFields) {
+        final List<String> keyColumns = getTable().primaryKeyColumns()
+            .map(this::findColumn)
+            .map(Column::getName)
+            .collect(toList());
+
+        final List<String> updateColumns = cols.stream()
+            .map(Column::getName)
+            .filter(n -> !keyColumns.contains(n))
+            .collect(toList());
+
+        final List<String> generatedColumns = generatedFields.stream()
+            .map(f -> f.getIdentifier().columnName())
+            .collect(toList());
+
+        return getDbmsType().applyUpsert(persistSql(cols), keyColumns, updateColumns, generatedColumns);
+    }
+
+    /**
+     * Returns the generated fields that are not given a value when an entity
+     * is written using the provided columns, and therefore must be read back
+     * from the database.
+     *
+     * @param cols  the columns that are written
+     * @return      the generated fields that are not written
+     */
+    private <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> List<F> unpersistedGeneratedFields(List<Column> cols) {
+        final Set<String> persistedColumnNames = cols.stream()
+            .map(Column::getName)
+            .collect(toSet());
+
+        return this.<F>generatedFields().stream()
+            .filter(f -> !persistedColumnNames.contains(f.getIdentifier().columnName()))
+            .collect(toList());
+    }
+
+    private String persistSql(List<Column> cols) {
         final StringBuilder sb = new StringBuilder();
         sb.append("INSERT INTO ").append(sqlTableReference());
         sb.append(" (").append(persistColumnList(cols)).append(")");
         sb.append(" VALUES ");
         sb.append("(").append(persistColumnListWithQuestionMarks(cols)).append(")");
+        return sb.toString();
+    }
 
+    private List<Object> persistValues(List<Column> cols, ENTITY entity) {
         @SuppressWarnings("unchecked")
         final List<Object> values = cols.stream()
             .map(Column::getName)
@@ -321,7 +1425,10 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
             .map(f -> (FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>) f)
             .map(f -> toDatabaseType(f, entity))
             .collect(toList());
+        return values;
+    }
 
+    private <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> List<F> generatedFields() {
         // TODO: Make autoinc part of FieldTrait
         @SuppressWarnings("unchecked")
         final List<F> generatedFields = fields()
@@ -329,42 +1436,66 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
             .filter(ReferenceFieldTrait.class::isInstance)
             .map(f -> (F) f)
             .collect(toList());
+        return generatedFields;
+    }
 
-        final Function<ENTITY, Consumer<List<Long>>> generatedKeyconsumer = builder -> {
-            return l -> {
-                if (!l.isEmpty()) {
-                    final AtomicInteger cnt = new AtomicInteger();
-                    // Just assume that they are in order, what else is there to do?
-                    generatedFields
-                        .forEach(f -> {
-
-                            // Cast from Long to the column target type
-                            final Object val = speedment
-                                .getResultSetMapperComponent()
-                                .apply(f.typeMapper().getJavaType())
-                                .parse(l.get(cnt.getAndIncrement()));
-
-                            @SuppressWarnings("unchecked")
-                            final Object javaValue = ((TypeMapper<Object, Object>) f.typeMapper()).toJavaType(val);
-                            set(builder, f.getIdentifier(), javaValue);
-                        });
-                }
-            };
-        };
+    private void setGeneratedKeys(ENTITY entity, List<? extends ReferenceFieldTrait<ENTITY, ?, ?>> generatedFields, List<Long> keys) {
+        final AtomicInteger cnt = new AtomicInteger();
+        generatedFields
+            .forEach(f -> {
 
-        executeInsert(entity, sb.toString(), values, generatedFields, generatedKeyconsumer, listener);
-        return entity;
+                // Cast from Long to the column target type
+                final Object val = speedment
+                    .getResultSetMapperComponent()
+                    .apply(f.typeMapper().getJavaType())
+                    .parse(keys.get(cnt.getAndIncrement()));
+
+                @SuppressWarnings("unchecked")
+                final Object javaValue = ((TypeMapper<Object, Object>) f.typeMapper()).toJavaType(val);
+                set(entity, f.getIdentifier(), javaValue);
+            });
     }
 
     private ENTITY updateHelper(ENTITY entity, Optional<Consumer<MetaResult<ENTITY>>> listener) throws SpeedmentException {
+        final Optional<SqlUpdateStatement> statement = updateStatement(entity);
+        if (statement.isPresent()) {
+            executeUpdate(statement.get().getSql(), new ArrayList<>(statement.get().getValues()), listener);
+            clearDirtyFields(entity);
+        }
+        return entity;
+    }
+
+    /**
+     * Returns the statement that updates the provided entity, without 
+     * executing it. If the entity tracks its changes and has not been 
+     * changed, an empty {@code Optional} is returned.
+     *
+     * @param entity  the entity to update
+     * @return        the update statement or empty
+     */
+    <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> Optional<SqlUpdateStatement> updateStatement(ENTITY entity) {
         assertHasPrimaryKeyColumns();
-        final StringBuilder sb = new StringBuilder();
-        sb.append("UPDATE ").append(sqlTableReference()).append(" SET ");
-        sb.append(sqlColumnList(n -> n + " = ?"));
-        sb.append(" WHERE ");
-        sb.append(sqlPrimaryKeyColumnList(pk -> pk + " = ?"));
+        final List<F> fields = this.<F>castedFieldsOf(this::fields).collect(toList());
+
+        // Entities that track their changes only need to write the columns
+        // that have been set. Entities without any changes are not written.
+        final BitSet mask;
+        if (entity instanceof AbstractBaseEntity 
+        && ((AbstractBaseEntity<?>) entity).tracksDirtyFields_()) {
+            mask = ((AbstractBaseEntity<?>) entity).dirtyFields_();
+            if (mask.isEmpty()) {
+                return Optional.empty();
+            }
+        } else {
+            mask = new BitSet();
+            mask.set(0, fields.size());
+        }
+
+        final String sql = updateSql(fields, mask);
 
-        final List<Object> values = castedFieldsOf(this::fields)
+        final List<Object> values = mask.stream()
+            .filter(i -> i < fields.size())
+            .mapToObj(fields::get)
             .map(f -> toDatabaseType(f, entity))
             .collect(Collectors.toList());
 
@@ -372,11 +1503,36 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
             .map(ReferenceFieldTrait::getIdentifier)
             .forEachOrdered(f -> values.add(get(entity, f)));
 
-        executeUpdate(sb.toString(), values, listener);
-        return entity;
+        return Optional.of(new SqlUpdateStatement(sql, values));
     }
 
-    private ENTITY removeHelper(ENTITY entity, Optional<Consumer<MetaResult<ENTITY>>> listener) throws SpeedmentException {
+    /**
+     * Returns the statement that persists the provided entity, without 
+     * executing it. Auto generated keys are set on the entity when the 
+     * statement has been executed.
+     *
+     * @param entity  the entity to persist
+     * @return        the insert statement
+     */
+    <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> SqlInsertStatement persistStatement(ENTITY entity) {
+        final List<Column> cols = persistColumns(entity);
+        final List<F> generatedFields = unpersistedGeneratedFields(cols);
+
+        return new SqlInsertStatement(persistSql(cols), persistValues(cols, entity), generatedFields, l -> {
+            if (!l.isEmpty()) {
+                setGeneratedKeys(entity, generatedFields, l);
+            }
+        });
+    }
+
+    /**
+     * Returns the statement that removes the provided entity, without 
+     * executing it.
+     *
+     * @param entity  the entity to remove
+     * @return        the delete statement
+     */
+    SqlDeleteStatement removeStatement(ENTITY entity) {
         assertHasPrimaryKeyColumns();
         final StringBuilder sb = new StringBuilder();
         sb.append("DELETE FROM ").append(sqlTableReference());
@@ -387,7 +1543,45 @@ public abstract class AbstractSqlManager<ENTITY> extends AbstractManager<ENTITY>
             .map(f -> toDatabaseType(f, entity))
             .collect(toList());
 
-        executeDelete(sb.toString(), values, listener);
+        return new SqlDeleteStatement(sb.toString(), values);
+    }
+
+    private <F extends FieldTrait & ReferenceFieldTrait<ENTITY, ?, ?>> String updateSql(List<F> fields, BitSet mask) {
+        final String cached = updateSqlCache.get(mask);
+        if (cached != null) {
+            return cached;
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("UPDATE ").append(sqlTableReference()).append(" SET ");
+        sb.append(mask.stream()
+            .filter(i -> i < fields.size())
+            .mapToObj(fields::get)
+            .map(f -> f.getIdentifier().columnName())
+            .map(naming()::encloseField)
+            .map(n -> n + " = ?")
+            .collect(joining(","))
+        );
+        sb.append(" WHERE ");
+        sb.append(sqlPrimaryKeyColumnList(pk -> pk + " = ?"));
+
+        final String sql = sb.toString();
+        if (updateSqlCache.size() < UPDATE_SQL_CACHE_SIZE) {
+            updateSqlCache.putIfAbsent(mask, sql);
+        }
+        return sql;
+    }
+
+    ENTITY clearDirtyFields(ENTITY entity) {
+        if (entity instanceof AbstractBaseEntity) {
+            ((AbstractBaseEntity<?>) entity).clearDirtyFields_();
+        }
+        return entity;
+    }
+
+    private ENTITY removeHelper(ENTITY entity, Optional<Consumer<MetaResult<ENTITY>>> listener) throws SpeedmentException {
+        final SqlDeleteStatement statement = removeStatement(entity);
+        executeDelete(statement.getSql(), new ArrayList<>(statement.getValues()), listener);
         return entity;
     }
 
@@ -0,0 +1,93 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.stream.ExplainReport;
+import com.speedment.stream.action.Action;
+import static com.speedment.util.NullUtil.requireNonNulls;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import static java.util.stream.Collectors.joining;
+
+/**
+ *
+ * @author pemi
+ */
+public final class ExplainReportImpl implements ExplainReport {
+
+    private final String sql;
+    private final List<?> values;
+    private final List<Action<?, ?>> databaseActions;
+    private final List<Action<?, ?>> jvmActions;
+    private final Supplier<List<String>> databasePlan;
+
+    public ExplainReportImpl(
+        String sql, 
+        List<?> values, 
+        List<Action<?, ?>> databaseActions, 
+        List<Action<?, ?>> jvmActions, 
+        Supplier<List<String>> databasePlan
+    ) {
+        requireNonNulls(sql, values, databaseActions, jvmActions, databasePlan);
+        this.sql = sql;
+        this.values = Collections.unmodifiableList(new ArrayList<>(values));
+        this.databaseActions = Collections.unmodifiableList(new ArrayList<>(databaseActions));
+        this.jvmActions = Collections.unmodifiableList(new ArrayList<>(jvmActions));
+        this.databasePlan = databasePlan;
+    }
+
+    @Override
+    public String getSql() {
+        return sql;
+    }
+
+    @Override
+    public List<?> getValues() {
+        return values;
+    }
+
+    @Override
+    public List<Action<?, ?>> getDatabaseActions() {
+        return databaseActions;
+    }
+
+    @Override
+    public List<Action<?, ?>> getJvmActions() {
+        return jvmActions;
+    }
+
+    @Override
+    public List<String> getDatabasePlan() {
+        return databasePlan.get();
+    }
+
+    @Override
+    public String toString() {
+        return "sql: " + sql 
+            + ", values: " + values 
+            + ", database: " + names(databaseActions) 
+            + ", jvm: " + names(jvmActions);
+    }
+
+    private static String names(List<Action<?, ?>> actions) {
+        return actions.stream()
+            .map(a -> a.getClass().getSimpleName())
+            .collect(joining(", ", "[", "]"));
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * An {@code Iterator} that reads a table in chunks using keyset (seek) 
+ * pagination. Each chunk is read by a separate query of the form
+ * {@code WHERE pk > ? ORDER BY pk LIMIT n}, where the parameter is the key of
+ * the last element of the previous chunk. Since every chunk is read in full
+ * before it is iterated over, no database resources are held between chunks.
+ * <p>
+ * The iteration ends when a chunk with less than {@code chunkSize} elements
+ * is returned.
+ *
+ * @author pemi
+ * @param <ENTITY> the entity type
+ */
+public final class KeysetPaginationIterator<ENTITY> implements Iterator<ENTITY> {
+
+    private final int chunkSize;
+    private final Function<ENTITY, Object> keyMapper;
+    private final Function<Optional<Object>, List<ENTITY>> chunkReader;
+
+    private Iterator<ENTITY> current;
+    private Optional<Object> lastKey;
+    private boolean exhausted;
+
+    /**
+     * Creates a new iterator.
+     * 
+     * @param chunkSize    the maximum number of elements in each chunk
+     * @param keyMapper    mapper from an element to its key, as a value that
+     *                     can be used as a query parameter
+     * @param chunkReader  reader that returns the chunk following the provided 
+     *                     key, or the first chunk if the key is empty
+     */
+    public KeysetPaginationIterator(
+        int chunkSize, 
+        Function<ENTITY, Object> keyMapper, 
+        Function<Optional<Object>, List<ENTITY>> chunkReader
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive, was " + chunkSize + ".");
+        }
+        this.chunkSize = chunkSize;
+        this.keyMapper = requireNonNull(keyMapper);
+        this.chunkReader = requireNonNull(chunkReader);
+        this.current = Collections.emptyIterator();
+        this.lastKey = Optional.empty();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (exhausted) {
+                return false;
+            }
+            
+            final List<ENTITY> chunk = chunkReader.apply(lastKey);
+            exhausted = chunk.size() < chunkSize;
+            
+            if (chunk.isEmpty()) {
+                return false;
+            }
+            
+            lastKey = Optional.of(keyMapper.apply(chunk.get(chunk.size() - 1)));
+            current = chunk.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public ENTITY next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+}
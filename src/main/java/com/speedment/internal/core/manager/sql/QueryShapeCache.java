@@ -0,0 +1,429 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.field.FieldIdentifier;
+import com.speedment.field.predicate.SpeedmentPredicate;
+import com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate;
+import com.speedment.internal.core.field.predicate.iface.type.HasFirstOperand;
+import com.speedment.internal.core.field.predicate.iface.type.HasFirstSetOperand;
+import com.speedment.internal.core.field.predicate.iface.type.HasSecondOperand;
+import com.speedment.internal.core.field.predicate.iface.type.HasThirdInclusionOperand;
+import com.speedment.manager.SpeedmentPredicateView;
+import com.speedment.manager.SqlPredicateFragment;
+import static com.speedment.util.NullUtil.requireNonNulls;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A bounded cache of compiled {@code WHERE} conditions, keyed by the shape of
+ * the predicates that they were rendered from. The shape of a predicate 
+ * consists of the fields, the predicate types and the number of operands, 
+ * and the combinations of such predicates, but not the values of the 
+ * operands. Predicates with the same shape are always rendered to the same 
+ * SQL text, so once a shape has been compiled, only the values of the 
+ * operands have to be mapped to their database types and bound.
+ * <p>
+ * If a {@link SpeedmentPredicateView} binds anything else than the operands
+ * of a predicate, the shape is not compiled and the predicates are rendered 
+ * every time.
+ * <p>
+ * This class is thread safe. If the cache is full when a new shape is 
+ * compiled, an arbitrary shape is evicted.
+ *
+ * @author pemi
+ */
+public final class QueryShapeCache {
+    
+    private final int maxSize;
+    private final Map<List<Object>, CompiledCondition> conditions;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    /**
+     * Creates a new cache that holds at most the provided number of shapes.
+     *
+     * @param maxSize  the maximum number of shapes
+     */
+    public QueryShapeCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(
+                "The maximum size must be positive, was " + maxSize + "."
+            );
+        }
+        
+        this.maxSize    = maxSize;
+        this.conditions = new ConcurrentHashMap<>();
+        this.hits       = new LongAdder();
+        this.misses     = new LongAdder();
+    }
+
+    /**
+     * Returns the number of times that the condition of a shape was found in
+     * this cache.
+     *
+     * @return  the number of hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of times that the condition of a shape was not found
+     * in this cache and had to be rendered.
+     *
+     * @return  the number of misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of shapes in this cache.
+     *
+     * @return  the number of shapes
+     */
+    public int size() {
+        return conditions.size();
+    }
+
+    /**
+     * Removes all shapes from this cache. The counters are not reset.
+     */
+    public void clear() {
+        conditions.clear();
+    }
+
+    /**
+     * Renders the parts of the provided predicates that can be rendered to 
+     * SQL, combined with {@code AND}, and adds the values of the condition to
+     * the provided list. The values are mapped to their database types using
+     * the type mapper of the column that they are compared with. If no part
+     * can be rendered, an empty string is returned.
+     * 
+     * @param spv           the view to render with
+     * @param typeMapperOf  the type mapper of each column name
+     * @param predicates    the predicates to render
+     * @param values        the list to add the values of the condition to
+     * @return              the condition or an empty string
+     */
+    public String render(
+            SpeedmentPredicateView spv,
+            Function<String, TypeMapper<Object, Object>> typeMapperOf,
+            List<? extends Predicate<?>> predicates,
+            List<Object> values) {
+        
+        requireNonNulls(spv, typeMapperOf, predicates, values);
+        
+        final List<SpeedmentPredicate<?, ?, ?>> leaves = new ArrayList<>();
+        final List<Object> shape = new ArrayList<>();
+        shape.add(predicates.size());
+        predicates.forEach(p -> appendShape(p, shape, leaves));
+        
+        CompiledCondition condition = conditions.get(shape);
+        if (condition != null && condition != CompiledCondition.NOT_COMPILABLE) {
+            hits.increment();
+        } else {
+            misses.increment();
+            
+            if (condition == null) {
+                condition = compile(spv, typeMapperOf, predicates, leaves);
+                
+                if (conditions.size() >= maxSize) {
+                    final Iterator<List<Object>> it = conditions.keySet().iterator();
+                    if (it.hasNext()) {
+                        conditions.remove(it.next());
+                    }
+                }
+                
+                conditions.put(shape, condition);
+            }
+            
+            if (condition == CompiledCondition.NOT_COMPILABLE) {
+                return renderDirectly(spv, typeMapperOf, predicates, values);
+            }
+        }
+        
+        condition.bind(leaves, values);
+        return condition.sql;
+    }
+    
+    /**
+     * Compiles the condition of the provided predicates. Every value that the 
+     * view binds is replaced by a slot that refers to an operand of one of the
+     * leaves, so that the values of other predicates with the same shape can
+     * be bound in the same places.
+     * 
+     * @param spv           the view to render with
+     * @param typeMapperOf  the type mapper of each column name
+     * @param predicates    the predicates to render
+     * @param leaves        the leaves of the predicates in shape order
+     * @return              the compiled condition or 
+     *                      {@link CompiledCondition#NOT_COMPILABLE}
+     */
+    private static CompiledCondition compile(
+            SpeedmentPredicateView spv,
+            Function<String, TypeMapper<Object, Object>> typeMapperOf,
+            List<? extends Predicate<?>> predicates,
+            List<SpeedmentPredicate<?, ?, ?>> leaves) {
+        
+        final Map<SpeedmentPredicate<?, ?, ?>, Integer> ordinals = new IdentityHashMap<>();
+        for (int i = leaves.size() - 1; i >= 0; i--) {
+            ordinals.put(leaves.get(i), i);
+        }
+        
+        final boolean[] compilable = {true};
+        final Function<SpeedmentPredicate<?, ?, ?>, SqlPredicateFragment> slotTransformer = leaf -> {
+            final SqlPredicateFragment fragment = spv.transform(leaf);
+            final List<Object> objects = fragment.objects().collect(toList());
+            final Integer ordinal = ordinals.get(leaf);
+            
+            if (ordinal == null || !objects.equals(operandsOf(leaf))) {
+                compilable[0] = false;
+                return fragment;
+            }
+            
+            final List<Object> slots = new ArrayList<>(objects.size());
+            for (int i = 0; i < objects.size(); i++) {
+                slots.add(new Slot(ordinal, i));
+            }
+            
+            return SqlPredicateFragment.of(fragment.getSql(), slots);
+        };
+        
+        final List<SqlPredicateFragment> fragments = predicates.stream()
+            .map(p -> spv.transform(p, slotTransformer))
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .collect(toList());
+        
+        final List<Object> slots = fragments.stream()
+            .flatMap(SqlPredicateFragment::objects)
+            .collect(toList());
+        
+        if (!compilable[0] || !slots.stream().allMatch(Slot.class::isInstance)) {
+            return CompiledCondition.NOT_COMPILABLE;
+        }
+        
+        final Map<String, TypeMapper<Object, Object>> mappers = new HashMap<>();
+        final int[] leafSlots = new int[slots.size()];
+        final int[] operandSlots = new int[slots.size()];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final TypeMapper<Object, Object>[] slotMappers = new TypeMapper[slots.size()];
+        
+        for (int i = 0; i < slots.size(); i++) {
+            final Slot slot = (Slot) slots.get(i);
+            final String columnName = leaves.get(slot.leaf).getField().getIdentifier().columnName();
+            leafSlots[i]    = slot.leaf;
+            operandSlots[i] = slot.operand;
+            slotMappers[i]  = mappers.computeIfAbsent(columnName, typeMapperOf);
+        }
+        
+        return new CompiledCondition(
+            fragments.stream()
+                .map(SqlPredicateFragment::getSql)
+                .collect(joining(" AND ")),
+            leafSlots, operandSlots, slotMappers
+        );
+    }
+    
+    /**
+     * Renders the condition of the provided predicates without compiling it.
+     * 
+     * @param spv           the view to render with
+     * @param typeMapperOf  the type mapper of each column name
+     * @param predicates    the predicates to render
+     * @param values        the list to add the values of the condition to
+     * @return              the condition or an empty string
+     */
+    private static String renderDirectly(
+            SpeedmentPredicateView spv,
+            Function<String, TypeMapper<Object, Object>> typeMapperOf,
+            List<? extends Predicate<?>> predicates,
+            List<Object> values) {
+        
+        final List<SqlPredicateFragment> fragments = predicates.stream()
+            .map(p -> spv.transform(p, leaf -> {
+                final SqlPredicateFragment fragment = spv.transform(leaf);
+                final TypeMapper<Object, Object> tm = typeMapperOf.apply(
+                    leaf.getField().getIdentifier().columnName()
+                );
+                
+                return SqlPredicateFragment.of(
+                    fragment.getSql(), 
+                    fragment.objects().map(tm::toDatabaseType).collect(toList())
+                );
+            }))
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .collect(toList());
+        
+        fragments.stream()
+            .flatMap(SqlPredicateFragment::objects)
+            .forEachOrdered(values::add);
+        
+        return fragments.stream()
+            .map(SqlPredicateFragment::getSql)
+            .collect(joining(" AND "));
+    }
+    
+    /**
+     * Appends the shape of the provided predicate to the provided shape and 
+     * the {@link SpeedmentPredicate} leaves of it to the provided list, in
+     * the same order.
+     * 
+     * @param predicate  the predicate
+     * @param shape      the shape to append to
+     * @param leaves     the leaves to append to
+     */
+    private static void appendShape(
+            Predicate<?> predicate, 
+            List<Object> shape, 
+            List<SpeedmentPredicate<?, ?, ?>> leaves) {
+        
+        if (predicate instanceof SpeedmentPredicate) {
+            final SpeedmentPredicate<?, ?, ?> leaf = (SpeedmentPredicate<?, ?, ?>) predicate;
+            final FieldIdentifier<?> id = leaf.getField().getIdentifier();
+            
+            shape.add(Node.LEAF);
+            shape.add(id.dbmsName());
+            shape.add(id.schemaName());
+            shape.add(id.tableName());
+            shape.add(id.columnName());
+            shape.add(leaf.getEffectivePredicateType());
+            shape.add(leaf instanceof HasFirstSetOperand
+                ? ((HasFirstSetOperand<?>) leaf).getFirstOperand().size()
+                : -1
+            );
+            shape.add(leaf instanceof HasThirdInclusionOperand
+                ? ((HasThirdInclusionOperand) leaf).getThirdOperand()
+                : null
+            );
+            
+            leaves.add(leaf);
+        } else if (predicate instanceof AbstractCombinedBasePredicate) {
+            final AbstractCombinedBasePredicate<?> combined = (AbstractCombinedBasePredicate<?>) predicate;
+            final List<Predicate<?>> parts = combined.stream().collect(toList());
+            
+            shape.add(Node.COMBINED);
+            shape.add(combined.getType());
+            shape.add(combined.isNegated());
+            shape.add(parts.size());
+            
+            parts.forEach(p -> appendShape(p, shape, leaves));
+        } else {
+            shape.add(Node.OPAQUE);
+        }
+    }
+    
+    /**
+     * Returns the operands of the provided predicate that are bound when it
+     * is rendered by an {@link AbstractSpeedmentPredicateView}, in order.
+     * 
+     * @param leaf  the predicate
+     * @return      the operands
+     */
+    private static List<Object> operandsOf(SpeedmentPredicate<?, ?, ?> leaf) {
+        final List<Object> operands = new ArrayList<>();
+        
+        if (leaf instanceof HasFirstSetOperand) {
+            operands.addAll(((HasFirstSetOperand<?>) leaf).getFirstOperand());
+        } else if (leaf instanceof HasFirstOperand) {
+            operands.add(((HasFirstOperand<?>) leaf).getFirstOperand());
+        }
+        
+        if (leaf instanceof HasSecondOperand) {
+            operands.add(((HasSecondOperand<?>) leaf).getSecondOperand());
+        }
+        
+        return operands;
+    }
+    
+    /**
+     * The kinds of nodes in a shape.
+     */
+    private enum Node {
+        LEAF, COMBINED, OPAQUE
+    }
+    
+    /**
+     * A place holder for a value that refers to an operand of a leaf.
+     */
+    private static final class Slot {
+        
+        private final int leaf;
+        private final int operand;
+
+        private Slot(int leaf, int operand) {
+            this.leaf    = leaf;
+            this.operand = operand;
+        }
+    }
+    
+    /**
+     * A rendered condition with the operand and the type mapper of every 
+     * value that it binds.
+     */
+    private static final class CompiledCondition {
+        
+        private static final CompiledCondition NOT_COMPILABLE = 
+            new CompiledCondition("", new int[0], new int[0], new TypeMapper<?, ?>[0]);
+        
+        private final String sql;
+        private final int[] leafSlots;
+        private final int[] operandSlots;
+        private final TypeMapper<?, ?>[] mappers;
+
+        private CompiledCondition(String sql, int[] leafSlots, int[] operandSlots, TypeMapper<?, ?>[] mappers) {
+            this.sql          = sql;
+            this.leafSlots    = leafSlots;
+            this.operandSlots = operandSlots;
+            this.mappers      = mappers;
+        }
+        
+        private void bind(List<SpeedmentPredicate<?, ?, ?>> leaves, List<Object> values) {
+            final List<List<Object>> operands = new ArrayList<>(leaves.size());
+            for (int i = 0; i < leaves.size(); i++) {
+                operands.add(null);
+            }
+            
+            for (int i = 0; i < leafSlots.length; i++) {
+                List<Object> leafOperands = operands.get(leafSlots[i]);
+                if (leafOperands == null) {
+                    leafOperands = operandsOf(leaves.get(leafSlots[i]));
+                    operands.set(leafSlots[i], leafOperands);
+                }
+                
+                @SuppressWarnings("unchecked")
+                final TypeMapper<Object, Object> mapper = (TypeMapper<Object, Object>) mappers[i];
+                values.add(mapper.toDatabaseType(leafOperands.get(operandSlots[i])));
+            }
+        }
+    }
+}
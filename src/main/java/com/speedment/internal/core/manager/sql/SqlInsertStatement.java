@@ -33,14 +33,40 @@ public final class SqlInsertStatement extends SqlStatement {
     private final List<? extends FieldTrait> generatedColumnFields;
     private final List<Long> generatedKeys;
     private final Consumer<List<Long>> generatedKeysConsumer;
+    private final int rowCount;
 
     public <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> SqlInsertStatement(
         final String sql,
         final List<?> values,
         final List<F> generatedColumnFields,
         final Consumer<List<Long>> generatedKeysConsumer
+    ) {
+        this(sql, values, 1, generatedColumnFields, generatedKeysConsumer);
+    }
+
+    /**
+     * Creates a new insert statement that inserts several rows at once. The
+     * values are the values of each row, in order.
+     *
+     * @param <F>                    the field type
+     * @param sql                    the multi-row insert command
+     * @param values                 the values of all the rows
+     * @param rowCount               the number of rows that are inserted
+     * @param generatedColumnFields  the generated fields
+     * @param generatedKeysConsumer  the consumer of the generated keys
+     */
+    public <F extends FieldTrait & ReferenceFieldTrait<?, ?, ?>> SqlInsertStatement(
+        final String sql,
+        final List<?> values,
+        final int rowCount,
+        final List<F> generatedColumnFields,
+        final Consumer<List<Long>> generatedKeysConsumer
     ) {
         super(sql, values);
+        if (rowCount < 1) {
+            throw new IllegalArgumentException("The row count must be positive, was " + rowCount + ".");
+        }
+        this.rowCount = rowCount;
         this.generatedKeys = new ArrayList<>();
         this.generatedKeysConsumer = requireNonNull(generatedKeysConsumer);
         this.generatedColumnFields = requireNonNull(generatedColumnFields);
@@ -51,6 +77,10 @@ public final class SqlInsertStatement extends SqlStatement {
         return (List<F>) generatedColumnFields;
     }
 
+    public int getRowCount() {
+        return rowCount;
+    }
+
     public List<Long> getGeneratedKeys() {
         return Collections.unmodifiableList(generatedKeys);
     }
@@ -59,6 +89,10 @@ public final class SqlInsertStatement extends SqlStatement {
         generatedKeys.add(generatedKey);
     }
 
+    public void clearGeneratedKeys() {
+        generatedKeys.clear();
+    }
+
     public void acceptGeneratedKeys() {
         generatedKeysConsumer.accept(generatedKeys);
     }
@@ -28,6 +28,7 @@ public abstract class SqlStatement {
 
     private final String sql;
     private final List<?> values;
+    private long affectedRows;
 
     public enum Type {
         INSERT, UPDATE, DELETE;
@@ -46,6 +47,14 @@ public abstract class SqlStatement {
         return values;
     }
 
+    public long getAffectedRows() {
+        return affectedRows;
+    }
+
+    public void setAffectedRows(long affectedRows) {
+        this.affectedRows = affectedRows;
+    }
+
     @Override
     public String toString() {
         return getSql() + ", " + values.toString();
@@ -18,29 +18,54 @@ package com.speedment.internal.core.manager.sql;
 
 import com.speedment.config.db.Column;
 import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.config.db.parameters.SkipLimitSupport;
+import com.speedment.config.db.parameters.SortByNullOrderInsertion;
 import com.speedment.db.AsynchronousQueryResult;
-import com.speedment.field.FieldIdentifier;
+import com.speedment.db.SqlFunction;
+import com.speedment.field.methods.TupleGetter;
 import com.speedment.field.predicate.SpeedmentPredicate;
-import com.speedment.field.trait.FieldTrait;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.comparator.SpeedmentComparator;
+import com.speedment.internal.comparator.impl.NullOrder;
+import com.speedment.internal.core.stream.GroupingCollectorImpl;
+import com.speedment.internal.core.stream.builder.action.reference.DistinctAction;
+import com.speedment.internal.core.stream.builder.action.reference.LimitAction;
+import com.speedment.internal.core.stream.builder.action.reference.SkipAction;
 import com.speedment.internal.core.stream.builder.pipeline.DoublePipeline;
 import com.speedment.internal.core.stream.builder.pipeline.IntPipeline;
 import com.speedment.internal.core.stream.builder.pipeline.LongPipeline;
 import com.speedment.internal.core.stream.builder.pipeline.ReferencePipeline;
 import com.speedment.internal.core.stream.builder.streamterminator.StreamTerminator;
 import com.speedment.internal.core.stream.builder.streamterminator.StreamTerminatorUtil;
-import com.speedment.manager.SpeedmentPredicateView;
-import com.speedment.manager.SqlPredicateFragment;
+import com.speedment.stream.Aggregate;
 import com.speedment.stream.Pipeline;
 import com.speedment.stream.StreamDecorator;
 import com.speedment.stream.action.Action;
+import static com.speedment.stream.action.Property.ORDER;
 import static com.speedment.stream.action.Property.SIZE;
 import static com.speedment.stream.action.Verb.PRESERVE;
 import static com.speedment.util.NullUtil.requireNonNulls;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import static java.util.Collections.emptyList;
 import java.util.List;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.LongSupplier;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
@@ -69,55 +94,346 @@ public final class SqlStreamTerminator<ENTITY> implements StreamTerminator {
     @Override
     public <P extends Pipeline> P optimize(P initialPipeline) {
         requireNonNull(initialPipeline);
-        final List<SpeedmentPredicate<ENTITY, ?, ?>> andPredicateBuilders = StreamTerminatorUtil.topLevelAndPredicates(initialPipeline);
+        rewrite(initialPipeline, true);
+        final List<Action<?, ?>> actions = decorator.isExplaining() 
+            ? initialPipeline.stream().collect(toList()) 
+            : emptyList();
         
-        if (!andPredicateBuilders.isEmpty()) {
-            modifySource(andPredicateBuilders, asynchronousQueryResult);
+        final List<Predicate<?>> predicates = StreamTerminatorUtil.topLevelPredicates(initialPipeline);
+        final List<SpeedmentComparator<ENTITY, ?>> comparators = sortedComparators(initialPipeline);
+        final SkipLimit skipLimit = skipLimit(initialPipeline);
+        final Optional<String> projection = projection(initialPipeline, comparators.isEmpty() && skipLimit.isUnbounded());
+        
+        if (projection.isPresent()) {
+            modifySource(projection.get(), predicates, comparators, skipLimit.skip, skipLimit.limit, asynchronousQueryResult);
+        } else if (!predicates.isEmpty() || !comparators.isEmpty() || !skipLimit.isUnbounded()) {
+            modifySource(predicates, comparators, skipLimit.skip, skipLimit.limit, asynchronousQueryResult);
+        }
+        
+        if (decorator.isExplaining()) {
+            final List<Action<?, ?>> jvmActions = initialPipeline.stream().collect(toList());
+            final Set<Action<?, ?>> remaining = Collections.newSetFromMap(new IdentityHashMap<>());
+            remaining.addAll(jvmActions);
+            
+            final List<Action<?, ?>> databaseActions = actions.stream()
+                .filter(a -> !remaining.contains(a))
+                .collect(toList());
+            
+            explain(asynchronousQueryResult.getSql(), asynchronousQueryResult.getValues(), databaseActions, jvmActions);
         }
         
         return getStreamDecorator().apply(initialPipeline);
     }
     
+    /**
+     * Rewrites the provided pipeline using the rules of the installed 
+     * {@link com.speedment.component.PipelineOptimizerComponent}. This is 
+     * done before the pipeline is inspected, so that for an example filters 
+     * that follow a sort can still be rendered as a {@code WHERE} clause.
+     * 
+     * @param <P>             the pipeline type
+     * @param pipeline        the pipeline to rewrite
+     * @param orderSensitive  if the terminal operation depends on the 
+     *                        encounter order of the elements
+     * @return                the provided pipeline
+     */
+    private <P extends Pipeline> P rewrite(P pipeline, boolean orderSensitive) {
+        return manager.speedment().getPipelineOptimizerComponent()
+            .optimize(pipeline, orderSensitive);
+    }
+    
+    /**
+     * Passes a report on the execution of a stream to the stream decorator,
+     * if the decorator wants reports.
+     * 
+     * @param sql              the statement sent to the database
+     * @param values           the values of the statement parameters
+     * @param databaseActions  the actions executed by the database
+     * @param jvmActions       the actions executed in the JVM
+     */
+    private void explain(String sql, List<?> values, List<Action<?, ?>> databaseActions, List<Action<?, ?>> jvmActions) {
+        if (!decorator.isExplaining()) {
+            return;
+        }
+        
+        decorator.explain(new ExplainReportImpl(
+            sql, values, databaseActions, jvmActions, 
+            () -> manager.explain(sql, values)
+        ));
+    }
+    
+    /**
+     * Passes a report on the execution of a stream where the terminal 
+     * operation is rendered to SQL to the stream decorator, so that every
+     * action of the pipeline is executed by the database.
+     * 
+     * @param sql       the statement sent to the database
+     * @param values    the values of the statement parameters
+     * @param pipeline  the pipeline
+     */
+    private void explain(String sql, List<?> values, Pipeline pipeline) {
+        if (decorator.isExplaining()) {
+            explain(sql, values, pipeline.stream().collect(toList()), emptyList());
+        }
+    }
+    
+    /**
+     * Returns the comparators of a sorted action that directly follows the 
+     * initial filters of the provided pipeline, given that every part of the
+     * comparator references a field. Since filters preserve order, such a sort
+     * can be handled by the database, and the sorted action is then removed 
+     * from the pipeline.
+     * 
+     * @param pipeline  the pipeline to inspect
+     * @return          the comparators to render as an ORDER BY clause
+     * @see #orderByComparators(Action)
+     */
+    private List<SpeedmentComparator<ENTITY, ?>> sortedComparators(Pipeline pipeline) {
+        final int index = StreamTerminatorUtil.topLevelFilterCount(pipeline);
+        if (index < pipeline.size()) {
+            final List<SpeedmentComparator<ENTITY, ?>> comparators = orderByComparators(pipeline.get(index));
+            if (!comparators.isEmpty()) {
+                pipeline.remove(index);
+            }
+            return comparators;
+        }
+        return emptyList();
+    }
+    
+    /**
+     * Returns the comparators of the provided action if it is a sort that the
+     * database can do in the same order as the comparators. That is only the
+     * case if none of the fields uses a type mapper that converts its values,
+     * since the database sorts by the stored values and not by the 
+     * {@code compareTo} of the Java values.
+     * <p>
+     * Note that the database compares strings according to the collation of
+     * the column, which for example is case insensitive by default on MySQL, 
+     * and not according to {@link String#compareTo(String)}.
+     * 
+     * @param action  the action to inspect
+     * @return        the comparators or an empty list
+     */
+    private List<SpeedmentComparator<ENTITY, ?>> orderByComparators(Action<?, ?> action) {
+        final List<SpeedmentComparator<ENTITY, ?>> comparators = StreamTerminatorUtil.sortedComparators(action);
+        final boolean identityMapped = comparators.stream()
+            .allMatch(c -> c.getReferenceField().typeMapper().isIdentityMapper());
+        
+        return identityMapped ? comparators : emptyList();
+    }
+    
+    /**
+     * Returns the combined skip and limit of the consecutive skip and limit
+     * actions that directly follow the initial filters (and any sort that has
+     * been removed by {@link #sortedComparators(Pipeline)}) of the provided 
+     * pipeline. The actions are removed from the pipeline.
+     * <p>
+     * This is only possible if the database type supports it and if every 
+     * initial filter is rendered to SQL in full, since the rows must be 
+     * skipped and limited after they have been filtered.
+     * 
+     * @param pipeline  the pipeline to inspect
+     * @return          the skip and limit to render
+     */
+    private SkipLimit skipLimit(Pipeline pipeline) {
+        final SkipLimit result = new SkipLimit();
+        
+        if (manager.getDbmsType().getSkipLimitSupport() == SkipLimitSupport.NONE
+        || !StreamTerminatorUtil.isTopLevelFiltersFullyRenderable(pipeline)) {
+            return result;
+        }
+        
+        final int index = StreamTerminatorUtil.topLevelFilterCount(pipeline);
+        while (index < pipeline.size()) {
+            final Action<?, ?> action = pipeline.get(index);
+            if (action instanceof SkipAction) {
+                result.skip(((SkipAction<?>) action).getSkip());
+            } else if (action instanceof LimitAction) {
+                result.limit(((LimitAction<?>) action).getLimit());
+            } else {
+                break;
+            }
+            pipeline.remove(index);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Returns the {@code SELECT/FROM} statement to use if the initial filters
+     * (and any sort, skip and limit that has been removed) of the provided 
+     * pipeline are followed by a map action with a field getter or a tuple
+     * getter, so that only the columns of those fields need to be selected. 
+     * If so, the filters and the map action are removed from the pipeline and
+     * the result set mapper is replaced with one that reads the column values
+     * directly.
+     * <p>
+     * If the map action is followed by a distinct action and 
+     * {@code distinctAllowed} is {@code true}, the distinct action is removed
+     * too and rendered as {@code SELECT DISTINCT}.
+     * <p>
+     * The filters must be rendered in full since they can not be applied to
+     * the column values once the entities are gone.
+     * 
+     * @param pipeline         the pipeline to inspect
+     * @param distinctAllowed  if a distinct action may be rendered to SQL
+     * @return                 the statement to use or empty
+     */
+    private Optional<String> projection(Pipeline pipeline, boolean distinctAllowed) {
+        if (!StreamTerminatorUtil.isTopLevelFiltersFullyRenderable(pipeline)) {
+            return Optional.empty();
+        }
+        
+        final int index = StreamTerminatorUtil.topLevelFilterCount(pipeline);
+        if (index >= pipeline.size()) {
+            return Optional.empty();
+        }
+        
+        final Optional<ReferenceFieldTrait<?, ?, ?>> field = StreamTerminatorUtil.projectedField(pipeline.get(index));
+        final Optional<TupleGetter<?, ?>> tuple = StreamTerminatorUtil.projectedTuple(pipeline.get(index));
+        if (!field.isPresent() && !tuple.isPresent()) {
+            return Optional.empty();
+        }
+        
+        final boolean distinct = distinctAllowed 
+            && index + 1 < pipeline.size() 
+            && pipeline.get(index + 1) instanceof DistinctAction;
+        
+        if (distinct) {
+            pipeline.remove(index + 1);
+        }
+        for (int i = index; i >= 0; i--) {
+            pipeline.remove(i);
+        }
+        
+        if (field.isPresent()) {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            final Function<ResultSet, ENTITY> rsMapper = (Function) manager.columnMapper(field.get());
+            asynchronousQueryResult.setRsMapper(rsMapper);
+            
+            return Optional.of(manager.sqlSelect(field.get(), distinct));
+        } else {
+            final List<? extends ReferenceFieldTrait<?, ?, ?>> fields = tuple.get().getFields();
+            final List<Function<ResultSet, ?>> columnMappers = new ArrayList<>(fields.size());
+            for (int i = 0; i < fields.size(); i++) {
+                columnMappers.add(manager.columnMapper(fields.get(i), i + 1));
+            }
+            
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            final Function<ResultSet, ENTITY> rsMapper = (Function) tuple.get().rowMapper(columnMappers);
+            asynchronousQueryResult.setRsMapper(rsMapper);
+            
+            return Optional.of(manager.sqlSelect(fields, distinct));
+        }
+    }
+    
     public void modifySource(final List<SpeedmentPredicate<ENTITY, ?, ?>> predicateBuilders, AsynchronousQueryResult<ENTITY> qr) {
-        requireNonNull(predicateBuilders);
-        requireNonNull(qr);
-        if (predicateBuilders.isEmpty()) {
+        modifySource(predicateBuilders, emptyList(), 0, Long.MAX_VALUE, qr);
+    }
+    
+    public void modifySource(
+        final List<? extends Predicate<?>> predicateBuilders, 
+        final List<SpeedmentComparator<ENTITY, ?>> comparators, 
+        final long skip,
+        final long limit,
+        final AsynchronousQueryResult<ENTITY> qr
+    ) {
+        requireNonNulls(predicateBuilders, comparators, qr);
+        if (predicateBuilders.isEmpty() && comparators.isEmpty() && skip == 0 && limit == Long.MAX_VALUE) {
             // Nothing to do...
             return;
         }
         
-        final List<Column> columns = predicateBuilders
-                .stream()
-                .map(SpeedmentPredicate::getField)
-                .map(FieldTrait::getIdentifier)
-                .map(FieldIdentifier::columnName)
-                .map(this::findColumn)
-                .collect(toList());
-
-        final SpeedmentPredicateView spv = manager.getDbmsType().getSpeedmentPredicateView();
-        final List<SqlPredicateFragment> fragments = predicateBuilders.stream()
-                .map(spv::transform)
-                .collect(toList());
-        
-        final String sql = manager.sqlSelect() + 
-            " WHERE " +
-            fragments.stream()
-                .map(SqlPredicateFragment::getSql)
-                .collect(joining(" AND "))
-        ;
-
+        modifySource(manager.sqlSelect(), predicateBuilders, comparators, skip, limit, qr);
+    }
+    
+    private void modifySource(
+        final String select,
+        final List<? extends Predicate<?>> predicateBuilders, 
+        final List<SpeedmentComparator<ENTITY, ?>> comparators, 
+        final long skip,
+        final long limit,
+        final AsynchronousQueryResult<ENTITY> qr
+    ) {
+        final StringBuilder sql = new StringBuilder(select);
         final List<Object> values = new ArrayList<>();
-        for (int i = 0; i < fragments.size(); i++) {
-            @SuppressWarnings("unchecked")
-            final TypeMapper<Object, Object> tm = (TypeMapper<Object, Object>) columns.get(i).findTypeMapper();
-            fragments.get(i).objects()
-                    .map(tm::toDatabaseType)
-                    .forEach(values::add);
+        
+        renderWhere(predicateBuilders, sql, values);
+        
+        if (!comparators.isEmpty()) {
+            sql.append(" ORDER BY ").append(
+                comparators.stream()
+                    .map(this::renderOrderBy)
+                    .collect(joining(", "))
+            );
+        }
+        
+        qr.setSql(manager.getDbmsType().applySkipLimit(sql.toString(), values, skip, limit));
+        qr.setValues(values);
+    }
+    
+    /**
+     * Appends a {@code WHERE} clause with the parts of the provided predicates
+     * that can be rendered to SQL, combined with {@code AND}. If no part can 
+     * be rendered, nothing is appended.
+     * 
+     * @param predicates  the predicates to render
+     * @param sql         the SQL to append the clause to
+     * @param values      the list to add the values of the clause to
+     */
+    private void renderWhere(
+        final List<? extends Predicate<?>> predicates, 
+        final StringBuilder sql, 
+        final List<Object> values
+    ) {
+        final String condition = manager.getQueryShapeCache().render(
+            manager.getDbmsType().getSpeedmentPredicateView(), 
+            this::typeMapperOf, 
+            predicates, 
+            values
+        );
+        
+        if (!condition.isEmpty()) {
+            sql.append(" WHERE ").append(condition);
+        }
+    }
+    
+    /**
+     * Returns the type mapper of the column with the provided name. This is
+     * only needed when the condition of a new predicate shape is rendered.
+     * 
+     * @param columnName  the name of the column
+     * @return            the type mapper of the column
+     */
+    @SuppressWarnings("unchecked")
+    private TypeMapper<Object, Object> typeMapperOf(String columnName) {
+        return (TypeMapper<Object, Object>) findColumn(columnName).findTypeMapper();
+    }
+    
+    private String renderOrderBy(SpeedmentComparator<ENTITY, ?> comparator) {
+        final String cn = manager.naming().fullNameOf(comparator.getField().getIdentifier());
+        final String direction = comparator.isReversed() ? " DESC" : " ASC";
+        
+        final NullOrder nullOrder = comparator.getNullOrder();
+        if (nullOrder == NullOrder.NONE) {
+            return cn + direction;
         }
         
-        qr.setSql(sql);
-            qr.setValues(values);
+        // A reversed comparator also reverses the position of null values
+        final boolean nullsFirst = (nullOrder == NullOrder.FIRST) != comparator.isReversed();
+        
+        final SortByNullOrderInsertion insertion = manager.getDbmsType().getSortByNullOrderInsertion();
+        switch (insertion) {
+            case PRE:
+                return cn + " IS NULL" + (nullsFirst ? " DESC" : " ASC") + ", " + cn + direction;
+            case POST:
+                return cn + direction + (nullsFirst ? " NULLS FIRST" : " NULLS LAST");
+            default:
+                throw new UnsupportedOperationException(
+                    "Unknown SortByNullOrderInsertion " + insertion.name()
+                );
         }
+    }
     
     private Column findColumn(String name) {
         return manager.getTable().columns()
@@ -149,21 +465,559 @@ public final class SqlStreamTerminator<ENTITY> implements StreamTerminator {
         return countHelper(pipeline, () -> StreamTerminator.super.count(pipeline));
     }
     
+    @Override
+    public <T, R, A> R collect(ReferencePipeline<T> pipeline, Collector<? super T, A, R> collector) {
+        requireNonNull(pipeline);
+        requireNonNull(collector);
+        if (collector instanceof GroupingCollectorImpl) {
+            @SuppressWarnings("unchecked")
+            final GroupingCollectorImpl<ENTITY, ?, ?> grouping = (GroupingCollectorImpl<ENTITY, ?, ?>) collector;
+            final Optional<? extends Map<?, ?>> result = groupBy(pipeline, grouping);
+            if (result.isPresent()) {
+                @SuppressWarnings("unchecked")
+                final R map = (R) result.get();
+                return map;
+            }
+        }
+        return StreamTerminator.super.collect(pipeline, collector);
+    }
+    
+    @Override
+    public <T> Optional<T> findFirst(ReferencePipeline<T> pipeline) {
+        requireNonNull(pipeline);
+        return StreamTerminator.super.findFirst(limitToOne(rewrite(pipeline, true), CHECK_RETAIN_SIZE_AND_ORDER));
+    }
+    
+    @Override
+    public <T> Optional<T> findAny(ReferencePipeline<T> pipeline) {
+        requireNonNull(pipeline);
+        return StreamTerminator.super.findAny(limitToOne(rewrite(pipeline, false), CHECK_RETAIN_SIZE));
+    }
+    
+    @Override
+    public OptionalInt findFirst(IntPipeline pipeline) {
+        requireNonNull(pipeline);
+        return StreamTerminator.super.findFirst(limitToOne(rewrite(pipeline, true), CHECK_RETAIN_SIZE_AND_ORDER));
+    }
+    
+    @Override
+    public OptionalInt findAny(IntPipeline pipeline) {
+        requireNonNull(pipeline);
+        return StreamTerminator.super.findAny(limitToOne(rewrite(pipeline, false), CHECK_RETAIN_SIZE));
+    }
+    
+    @Override
+    public OptionalLong findFirst(LongPipeline pipeline) {
+        requireNonNull(pipeline);
+        return StreamTerminator.super.findFirst(limitToOne(rewrite(pipeline, true), CHECK_RETAIN_SIZE_AND_ORDER));
+    }
+    
+    @Override
+    public OptionalLong findAny(LongPipeline pipeline) {
+        requireNonNull(pipeline);
+        return StreamTerminator.super.findAny(limitToOne(rewrite(pipeline, false), CHECK_RETAIN_SIZE));
+    }
+    
+    @Override
+    public OptionalDouble findFirst(DoublePipeline pipeline) {
+        requireNonNull(pipeline);
+        return StreamTerminator.super.findFirst(limitToOne(rewrite(pipeline, true), CHECK_RETAIN_SIZE_AND_ORDER));
+    }
+    
+    @Override
+    public OptionalDouble findAny(DoublePipeline pipeline) {
+        requireNonNull(pipeline);
+        return StreamTerminator.super.findAny(limitToOne(rewrite(pipeline, false), CHECK_RETAIN_SIZE));
+    }
+    
+    @Override
+    public <T> boolean anyMatch(ReferencePipeline<T> pipeline, Predicate<? super T> predicate) {
+        requireNonNulls(pipeline, predicate);
+        rewrite(pipeline, false);
+        if (isExistsRenderable(pipeline, predicate)) {
+            return exists(pipeline, predicate);
+        } else {
+            return StreamTerminator.super.anyMatch(pipeline, predicate);
+        }
+    }
+    
+    @Override
+    public <T> boolean noneMatch(ReferencePipeline<T> pipeline, Predicate<? super T> predicate) {
+        requireNonNulls(pipeline, predicate);
+        rewrite(pipeline, false);
+        if (isExistsRenderable(pipeline, predicate)) {
+            return !exists(pipeline, predicate);
+        } else {
+            return StreamTerminator.super.noneMatch(pipeline, predicate);
+        }
+    }
+    
+    @Override
+    public int sum(IntPipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregate(pipeline, int.class, "SUM", rs -> (int) rs.getLong(1))
+            .orElseGet(() -> StreamTerminator.super.sum(pipeline));
+    }
+    
+    @Override
+    public OptionalInt min(IntPipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregate(pipeline, int.class, "MIN", SqlStreamTerminator::optionalInt)
+            .orElseGet(() -> StreamTerminator.super.min(pipeline));
+    }
+    
+    @Override
+    public OptionalInt max(IntPipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregate(pipeline, int.class, "MAX", SqlStreamTerminator::optionalInt)
+            .orElseGet(() -> StreamTerminator.super.max(pipeline));
+    }
+    
+    @Override
+    public OptionalDouble average(IntPipeline pipeline) {
+        requireNonNull(pipeline);
+        return integralAverage(pipeline, int.class)
+            .orElseGet(() -> StreamTerminator.super.average(pipeline));
+    }
+    
+    @Override
+    public long sum(LongPipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregate(pipeline, long.class, "SUM", rs -> rs.getLong(1))
+            .orElseGet(() -> StreamTerminator.super.sum(pipeline));
+    }
+    
+    @Override
+    public OptionalLong min(LongPipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregate(pipeline, long.class, "MIN", SqlStreamTerminator::optionalLong)
+            .orElseGet(() -> StreamTerminator.super.min(pipeline));
+    }
+    
+    @Override
+    public OptionalLong max(LongPipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregate(pipeline, long.class, "MAX", SqlStreamTerminator::optionalLong)
+            .orElseGet(() -> StreamTerminator.super.max(pipeline));
+    }
+    
+    @Override
+    public OptionalDouble average(LongPipeline pipeline) {
+        requireNonNull(pipeline);
+        return integralAverage(pipeline, long.class)
+            .orElseGet(() -> StreamTerminator.super.average(pipeline));
+    }
+    
+    @Override
+    public double sum(DoublePipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregate(pipeline, double.class, "SUM", rs -> rs.getDouble(1))
+            .orElseGet(() -> StreamTerminator.super.sum(pipeline));
+    }
+    
+    @Override
+    public OptionalDouble min(DoublePipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregate(pipeline, double.class, "MIN", SqlStreamTerminator::optionalDouble)
+            .orElseGet(() -> StreamTerminator.super.min(pipeline));
+    }
+    
+    @Override
+    public OptionalDouble max(DoublePipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregate(pipeline, double.class, "MAX", SqlStreamTerminator::optionalDouble)
+            .orElseGet(() -> StreamTerminator.super.max(pipeline));
+    }
+    
+    @Override
+    public OptionalDouble average(DoublePipeline pipeline) {
+        requireNonNull(pipeline);
+        return aggregate(pipeline, double.class, "AVG", SqlStreamTerminator::optionalDouble)
+            .orElseGet(() -> StreamTerminator.super.average(pipeline));
+    }
+    
+    /**
+     * Computes an aggregate function in the database, given that the provided
+     * pipeline consists of initial filters that can be rendered to SQL in 
+     * full followed by a single {@code mapToXXX()} action with a field getter
+     * as mapper. The field must not use a type mapper that converts its 
+     * values, since the database only knows the unconverted values. Neither 
+     * may the {@code mapToXXX()} action change the values, as 
+     * {@code mapToInt()} would truncate decimal values before they are 
+     * summed, so only fields whose values are exactly represented by the
+     * element type are aggregated by the database.
+     * <p>
+     * Note that the database ignores {@code null} values whereas they would
+     * result in a {@code NullPointerException} in the JVM.
+     * 
+     * @param <T>          the result type
+     * @param pipeline     the pipeline
+     * @param elementType  the primitive element type of the pipeline
+     * @param function     the SQL aggregate function, for example {@code SUM}
+     * @param rsMapper     the mapper from the result set to the result
+     * @return             the result or empty if the function can not be 
+     *                     computed by the database
+     */
+    private <T> Optional<T> aggregate(Pipeline pipeline, Class<?> elementType, String function, SqlFunction<ResultSet, T> rsMapper) {
+        return aggregate(pipeline, elementType, column -> function + "(" + column + ")", rsMapper);
+    }
+    
+    /**
+     * Computes the average of an {@code int} or {@code long} pipeline in the
+     * database. Some databases, like MySQL, return {@code AVG} of an integer
+     * column as a {@code DECIMAL} with a limited number of decimals, so the 
+     * sum and the count are read instead and divided in the JVM, just as the
+     * pipeline would have done.
+     * 
+     * @param pipeline     the pipeline
+     * @param elementType  the primitive element type of the pipeline
+     * @return             the average or empty if it can not be computed by
+     *                     the database
+     */
+    private Optional<OptionalDouble> integralAverage(Pipeline pipeline, Class<?> elementType) {
+        return aggregate(pipeline, elementType, SqlStreamTerminator::sumAndCount, rs -> {
+            final long count = rs.getLong(2);
+            return count == 0 
+                ? OptionalDouble.empty() 
+                : OptionalDouble.of((double) rs.getLong(1) / count);
+        });
+    }
+    
+    private static String sumAndCount(String column) {
+        return "SUM(" + column + "), COUNT(" + column + ")";
+    }
+    
+    private <T> Optional<T> aggregate(Pipeline pipeline, Class<?> elementType, UnaryOperator<String> selection, SqlFunction<ResultSet, T> rsMapper) {
+        rewrite(pipeline, false);
+        final int filterCount = StreamTerminatorUtil.topLevelFilterCount(pipeline);
+        
+        if (pipeline.size() != filterCount + 1
+        || !StreamTerminatorUtil.isTopLevelFiltersFullyRenderable(pipeline)) {
+            return Optional.empty();
+        }
+        
+        final Optional<ReferenceFieldTrait<?, ?, ? extends Number>> field = 
+            StreamTerminatorUtil.mappedField(pipeline.get(filterCount));
+        
+        if (!field.isPresent() 
+        || !field.get().typeMapper().isIdentityMapper()
+        || !isExactlyRepresented(field.get().typeMapper().getJavaType(), elementType)) {
+            return Optional.empty();
+        }
+        
+        final StringBuilder sql = new StringBuilder("SELECT ")
+            .append(selection.apply(manager.naming().fullNameOf(field.get().getIdentifier())))
+            .append(" FROM ").append(manager.sqlTableReference());
+        
+        final List<Object> values = new ArrayList<>();
+        renderWhere(StreamTerminatorUtil.topLevelPredicates(pipeline), sql, values);
+        explain(sql.toString(), values, pipeline);
+        
+        return manager.synchronousStreamOf(sql.toString(), values, rsMapper).findAny();
+    }
+    
+    /**
+     * Computes a grouping collector in the database as a single 
+     * {@code GROUP BY} query, given that the provided pipeline consists of 
+     * filters that can be rendered to SQL in full only. Just as in 
+     * {@link #aggregate(Pipeline, Class, String, SqlFunction)}, the field of 
+     * the aggregate (if any) must not use a type mapper that converts its 
+     * values, and a {@code long} sum is only computed over integral values.
+     * 
+     * @param <K>        the key type
+     * @param <R>        the aggregate result type
+     * @param pipeline   the pipeline
+     * @param collector  the grouping collector
+     * @return           the grouped result or empty if it can not be 
+     *                   computed by the database
+     */
+    private <K, R> Optional<Map<K, R>> groupBy(Pipeline pipeline, GroupingCollectorImpl<ENTITY, K, R> collector) {
+        rewrite(pipeline, false);
+        if (StreamTerminatorUtil.topLevelFilterCount(pipeline) != pipeline.size()
+        || !StreamTerminatorUtil.isTopLevelFiltersFullyRenderable(pipeline)) {
+            return Optional.empty();
+        }
+        
+        final Aggregate<ENTITY, R> aggregate = collector.getAggregate();
+        final Optional<ReferenceFieldTrait<ENTITY, ?, ?>> aggregateField = aggregate.getField();
+        
+        if (aggregateField.isPresent() && !aggregateField.get().typeMapper().isIdentityMapper()) {
+            return Optional.empty();
+        }
+        
+        if (aggregate.getType() == Aggregate.Type.LONG_SUM
+        && !isExactlyRepresented(aggregateField.get().typeMapper().getJavaType(), long.class)) {
+            return Optional.empty();
+        }
+        
+        final List<ReferenceFieldTrait<ENTITY, ?, ?>> fields = collector.getFields();
+        final String columns = fields.stream()
+            .map(f -> manager.naming().fullNameOf(f.getIdentifier()))
+            .collect(joining(", "));
+        
+        // The average of integral values is computed from the sum and the 
+        // count, as in integralAverage(Pipeline, Class)
+        final boolean integralAverage = aggregate.getType() == Aggregate.Type.AVERAGE
+            && isExactlyRepresented(aggregateField.get().typeMapper().getJavaType(), long.class);
+        
+        final String aggregateColumn = aggregateField
+            .map(f -> manager.naming().fullNameOf(f.getIdentifier()))
+            .orElse("*");
+        
+        final StringBuilder sql = new StringBuilder("SELECT ")
+            .append(columns).append(", ")
+            .append(integralAverage 
+                ? sumAndCount(aggregateColumn)
+                : aggregate.getType().getSqlFunction() + "(" + aggregateColumn + ")"
+            )
+            .append(" FROM ").append(manager.sqlTableReference());
+        
+        final List<Object> values = new ArrayList<>();
+        renderWhere(StreamTerminatorUtil.topLevelPredicates(pipeline), sql, values);
+        sql.append(" GROUP BY ").append(columns);
+        explain(sql.toString(), values, pipeline);
+        
+        final List<Function<ResultSet, ?>> keyMappers = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            keyMappers.add(manager.columnMapper(fields.get(i), i + 1));
+        }
+        final SqlFunction<ResultSet, R> valueMapper = integralAverage
+            ? integralAverageMapper(fields.size() + 1)
+            : aggregateMapper(aggregate, fields.size() + 1);
+        
+        final Map<K, R> result = new HashMap<>();
+        manager.synchronousStreamOf(sql.toString(), values, rs -> {
+            final List<Object> key = new ArrayList<>(keyMappers.size());
+            keyMappers.forEach(m -> key.add(m.apply(rs)));
+            return new AbstractMap.SimpleImmutableEntry<>(collector.keyOf(key), valueMapper.apply(rs));
+        }).forEachOrdered(e -> result.put(e.getKey(), e.getValue()));
+        
+        return Optional.of(result);
+    }
+    
+    /**
+     * Returns a mapper that divides the sum in the specified column by the 
+     * count in the next column. The average of no values is zero, as for 
+     * {@link com.speedment.util.CollectorUtil#average(ReferenceFieldTrait)}.
+     * 
+     * @param <R>          the aggregate result type
+     * @param columnIndex  the index of the sum column, starting at 1
+     * @return             the mapper
+     */
+    @SuppressWarnings("unchecked")
+    private static <R> SqlFunction<ResultSet, R> integralAverageMapper(int columnIndex) {
+        return rs -> {
+            final long count = rs.getLong(columnIndex + 1);
+            return (R) Double.valueOf(count == 0 ? 0d : (double) rs.getLong(columnIndex) / count);
+        };
+    }
+    
+    /**
+     * Returns a mapper that reads the result of the provided aggregate from
+     * the specified column. The result is converted in the same way as the
+     * in-memory collector of the aggregate would present it.
+     * 
+     * @param <R>          the aggregate result type
+     * @param aggregate    the aggregate
+     * @param columnIndex  the index of the column, starting at 1
+     * @return             the mapper
+     */
+    @SuppressWarnings("unchecked")
+    private <R> SqlFunction<ResultSet, R> aggregateMapper(Aggregate<ENTITY, R> aggregate, int columnIndex) {
+        switch (aggregate.getType()) {
+            case COUNT :
+            case LONG_SUM :
+                return rs -> (R) Long.valueOf(rs.getLong(columnIndex));
+            case DOUBLE_SUM :
+            case AVERAGE :
+                return rs -> (R) Double.valueOf(rs.getDouble(columnIndex));
+            case MIN :
+            case MAX :
+                final Function<ResultSet, ?> mapper = manager.columnMapper(aggregate.getField().get(), columnIndex);
+                return rs -> (R) Optional.ofNullable(mapper.apply(rs));
+            default : 
+                throw new UnsupportedOperationException(
+                    "Unknown aggregate type '" + aggregate.getType() + "'."
+                );
+        }
+    }
+    
+    /**
+     * Returns {@code true} if every value of the provided field type is 
+     * represented exactly by the provided primitive element type, so that
+     * the conversion to the element type (for example 
+     * {@link Number#intValue()}) does not change the value. Values that
+     * are converted to {@code double} are always accepted, since the 
+     * database computes decimal aggregates with at least that precision.
+     * 
+     * @param fieldType    the java type of the field
+     * @param elementType  the primitive element type
+     * @return             {@code true} if the values are exactly represented
+     */
+    private static boolean isExactlyRepresented(Class<?> fieldType, Class<?> elementType) {
+        if (elementType == double.class) {
+            return true;
+        } else if (fieldType == Byte.class || fieldType == Short.class || fieldType == Integer.class) {
+            return true;
+        } else {
+            return elementType == long.class && fieldType == Long.class;
+        }
+    }
+    
+    private static OptionalInt optionalInt(ResultSet rs) throws SQLException {
+        final int value = rs.getInt(1);
+        return rs.wasNull() ? OptionalInt.empty() : OptionalInt.of(value);
+    }
+    
+    private static OptionalLong optionalLong(ResultSet rs) throws SQLException {
+        final long value = rs.getLong(1);
+        return rs.wasNull() ? OptionalLong.empty() : OptionalLong.of(value);
+    }
+    
+    private static OptionalDouble optionalDouble(ResultSet rs) throws SQLException {
+        final double value = rs.getDouble(1);
+        return rs.wasNull() ? OptionalDouble.empty() : OptionalDouble.of(value);
+    }
+    
+    private static final Predicate<Action<?, ?>> CHECK_RETAIN_SIZE_AND_ORDER = 
+        action -> action.is(PRESERVE, SIZE) && action.is(PRESERVE, ORDER);
+    
+    /**
+     * Inserts a limit of one element directly after the part of the provided
+     * pipeline that will be rendered to SQL, so that the database only has to 
+     * return a single row for short-circuiting operations such as 
+     * {@code findFirst()}. This is only done if every subsequent action is 
+     * accepted by the provided check, since the result would otherwise change.
+     * 
+     * @param <P>          the pipeline type
+     * @param pipeline     the pipeline to modify
+     * @param retainCheck  the check that every subsequent action must pass
+     * @return             the provided pipeline
+     */
+    private <P extends Pipeline> P limitToOne(P pipeline, Predicate<Action<?, ?>> retainCheck) {
+        if (manager.getDbmsType().getSkipLimitSupport() == SkipLimitSupport.NONE
+        || !StreamTerminatorUtil.isTopLevelFiltersFullyRenderable(pipeline)) {
+            return pipeline;
+        }
+        
+        int index = StreamTerminatorUtil.topLevelFilterCount(pipeline);
+        
+        if (index < pipeline.size() && !orderByComparators(pipeline.get(index)).isEmpty()) {
+            index++;
+        }
+        
+        while (index < pipeline.size() 
+            && (pipeline.get(index) instanceof SkipAction || pipeline.get(index) instanceof LimitAction)) {
+            index++;
+        }
+        
+        if (pipeline.stream().skip(index).allMatch(retainCheck)) {
+            pipeline.add(index, new LimitAction<>(1));
+        }
+        
+        return pipeline;
+    }
+    
+    /**
+     * Returns if a match operation with the provided predicate on the 
+     * provided pipeline can be rendered as an {@code EXISTS} query. This is 
+     * the case if the pipeline consists of filters only and both the filters
+     * and the predicate can be rendered to SQL in full.
+     * 
+     * @param pipeline   the pipeline
+     * @param predicate  the predicate of the match operation
+     * @return           if an {@code EXISTS} query can be used
+     */
+    private boolean isExistsRenderable(Pipeline pipeline, Predicate<?> predicate) {
+        return StreamTerminatorUtil.topLevelFilterCount(pipeline) == pipeline.size()
+            && StreamTerminatorUtil.isTopLevelFiltersFullyRenderable(pipeline)
+            && StreamTerminatorUtil.isFullyRenderable(predicate);
+    }
+    
+    /**
+     * Queries the database if any row matches both the filters of the 
+     * provided pipeline and the provided predicate.
+     * 
+     * @param pipeline   the pipeline
+     * @param predicate  the additional predicate
+     * @return           if any row matches
+     * @see #isExistsRenderable(Pipeline, Predicate) 
+     */
+    private boolean exists(Pipeline pipeline, Predicate<?> predicate) {
+        final List<Predicate<?>> predicates = StreamTerminatorUtil.topLevelPredicates(pipeline);
+        predicates.add(predicate);
+        
+        final StringBuilder sql = new StringBuilder("SELECT EXISTS (SELECT 1 FROM ")
+            .append(manager.sqlTableReference());
+        
+        final List<Object> values = new ArrayList<>();
+        renderWhere(predicates, sql, values);
+        sql.append(")");
+        explain(sql.toString(), values, pipeline);
+        
+        return manager.synchronousStreamOf(sql.toString(), values, rs -> rs.getBoolean(1))
+            .findAny().get();
+    }
+    
+    /**
+     * The number of rows to skip and the maximum number of rows to return
+     * after that, as given by a number of consecutive skip and limit actions.
+     */
+    private static final class SkipLimit {
+        
+        private long skip = 0;
+        private long limit = Long.MAX_VALUE;
+        
+        private void skip(long n) {
+            if (limit != Long.MAX_VALUE) {
+                limit = Math.max(0, limit - n);
+            }
+            skip = (Long.MAX_VALUE - skip < n) ? Long.MAX_VALUE : skip + n;
+        }
+        
+        private void limit(long n) {
+            limit = Math.min(limit, n);
+        }
+        
+        private boolean isUnbounded() {
+            return skip == 0 && limit == Long.MAX_VALUE;
+        }
+    }
+    
     private static final Predicate<Action<?, ?>> CHECK_RETAIN_SIZE = action -> action.is(PRESERVE, SIZE);
 
     /**
-     * Optimizer for count operations.
+     * Optimizer for count operations. If the pipeline consists of initial 
+     * filters that can be rendered to SQL in full followed by size retaining
+     * actions only, the rows are counted by the database using a 
+     * {@code SELECT COUNT(*)} query with the same {@code WHERE} clause as
+     * the stream would have used.
      *
      * @param pipeline          the pipeline
-     * @param fallbackSupplier  a fallback supplier should every item be size
-     *                          retaining
+     * @param fallbackSupplier  a fallback supplier should some item not be 
+     *                          size retaining
      * @return the number of rows
      */
     private long countHelper(Pipeline pipeline, LongSupplier fallbackSupplier) {
         requireNonNulls(pipeline, fallbackSupplier);
+        rewrite(pipeline, false);
+        
+        final int filterCount = StreamTerminatorUtil.topLevelFilterCount(pipeline);
         
-        if (pipeline.stream().allMatch(CHECK_RETAIN_SIZE)) {
-            return manager.count();
+        if (StreamTerminatorUtil.isTopLevelFiltersFullyRenderable(pipeline)
+        && pipeline.stream().skip(filterCount).allMatch(CHECK_RETAIN_SIZE)) {
+            final List<Predicate<?>> predicates = StreamTerminatorUtil.topLevelPredicates(pipeline);
+            
+            if (predicates.isEmpty()) {
+                explain(manager.sqlCount(), emptyList(), pipeline);
+                return manager.count();
+            }
+            
+            final StringBuilder sql = new StringBuilder(manager.sqlCount());
+            final List<Object> values = new ArrayList<>();
+            renderWhere(predicates, sql, values);
+            explain(sql.toString(), values, pipeline);
+            return manager.count(sql.toString(), values);
         } else return fallbackSupplier.getAsLong();
     }
     
@@ -0,0 +1,198 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.config.db.Dbms;
+import com.speedment.db.DbmsHandler;
+import com.speedment.db.MetaResult;
+import com.speedment.exception.SpeedmentException;
+import com.speedment.internal.core.db.AbstractRelationalDbmsHandler;
+import com.speedment.internal.core.manager.metaresult.SqlMetaResultImpl;
+import com.speedment.manager.Manager;
+import com.speedment.manager.UnitOfWork;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import static com.speedment.util.NullUtil.requireNonNulls;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Default implementation of the {@link UnitOfWork} interface. All the 
+ * operations must be handled by {@link AbstractSqlManager AbstractSqlManagers} 
+ * of the same {@link Dbms} so that they can share a transaction.
+ *
+ * @author pemi
+ */
+public final class UnitOfWorkImpl implements UnitOfWork {
+
+    private final Function<Object, Manager<?>> managerMapper;
+    private final List<Operation<?>> operations;
+    private Dbms dbms;
+    private AbstractRelationalDbmsHandler dbmsHandler;
+    private boolean committed;
+
+    public UnitOfWorkImpl(Function<Object, Manager<?>> managerMapper) {
+        this.managerMapper = requireNonNull(managerMapper);
+        this.operations    = new ArrayList<>();
+    }
+
+    @Override
+    public <ENTITY> UnitOfWork persist(ENTITY entity, Consumer<MetaResult<ENTITY>> listener) throws SpeedmentException {
+        requireNonNulls(entity, listener);
+        final AbstractSqlManager<ENTITY> manager = managerOf(entity);
+        add(manager, entity, () -> Optional.of(manager.persistStatement(entity)), listener);
+        return this;
+    }
+
+    @Override
+    public <ENTITY> UnitOfWork update(ENTITY entity, Consumer<MetaResult<ENTITY>> listener) throws SpeedmentException {
+        requireNonNulls(entity, listener);
+        final AbstractSqlManager<ENTITY> manager = managerOf(entity);
+        add(manager, entity, () -> manager.updateStatement(entity), listener);
+        return this;
+    }
+
+    @Override
+    public <ENTITY> UnitOfWork remove(ENTITY entity, Consumer<MetaResult<ENTITY>> listener) throws SpeedmentException {
+        requireNonNulls(entity, listener);
+        final AbstractSqlManager<ENTITY> manager = managerOf(entity);
+        add(manager, entity, () -> Optional.of(manager.removeStatement(entity)), listener);
+        return this;
+    }
+
+    @Override
+    public void commit() throws SpeedmentException {
+        if (committed) {
+            throw new IllegalStateException("This unit of work has already been committed.");
+        }
+        committed = true;
+
+        // The statements are rendered first now, so that they contain the
+        // changes that were made to the entities after they were added. An 
+        // update of an entity without any changes is left out.
+        final List<Operation<?>> prepared = new ArrayList<>();
+        final List<SqlStatement> statements = new ArrayList<>();
+        for (final Operation<?> operation : operations) {
+            operation.prepare().ifPresent(statement -> {
+                prepared.add(operation);
+                statements.add(statement);
+            });
+        }
+
+        if (statements.isEmpty()) {
+            return;
+        }
+
+        try {
+            dbmsHandler.executeTransaction(statements);
+        } catch (final SQLException sqle) {
+            prepared.forEach(o -> o.meta.setThrowable(sqle));
+            prepared.forEach(Operation::notifyListener);
+            throw new SpeedmentException(sqle);
+        }
+
+        prepared.forEach(Operation::afterCommit);
+        prepared.forEach(Operation::notifyListener);
+    }
+
+    private <ENTITY> void add(
+            AbstractSqlManager<ENTITY> manager, 
+            ENTITY entity, 
+            Supplier<Optional<? extends SqlStatement>> statement, 
+            Consumer<MetaResult<ENTITY>> listener) {
+        
+        if (committed) {
+            throw new IllegalStateException("This unit of work has already been committed.");
+        }
+
+        operations.add(new Operation<>(manager, entity, statement, listener));
+    }
+
+    private <ENTITY> AbstractSqlManager<ENTITY> managerOf(ENTITY entity) {
+        final Manager<?> manager = managerMapper.apply(entity);
+        if (!(manager instanceof AbstractSqlManager)) {
+            throw new SpeedmentException(
+                "The manager for " + entity.getClass().getName() 
+                + " can not take part in a unit of work."
+            );
+        }
+
+        @SuppressWarnings("unchecked")
+        final AbstractSqlManager<ENTITY> result = (AbstractSqlManager<ENTITY>) manager;
+
+        if (dbms == null) {
+            final DbmsHandler handler = result.dbmsHandler();
+            if (!(handler instanceof AbstractRelationalDbmsHandler)) {
+                throw new SpeedmentException(
+                    "The dbms handler " + handler.getClass().getName() 
+                    + " does not support units of work."
+                );
+            }
+            dbms        = result.getDbms();
+            dbmsHandler = (AbstractRelationalDbmsHandler) handler;
+        } else if (result.getDbms() != dbms) {
+            throw new SpeedmentException(
+                "All entities in a unit of work must belong to the same dbms."
+            );
+        }
+
+        return result;
+    }
+
+    private static final class Operation<ENTITY> {
+
+        private final AbstractSqlManager<ENTITY> manager;
+        private final ENTITY entity;
+        private final Supplier<Optional<? extends SqlStatement>> statement;
+        private final Consumer<MetaResult<ENTITY>> listener;
+        private final SqlMetaResultImpl<ENTITY> meta;
+
+        private Operation(
+                AbstractSqlManager<ENTITY> manager, 
+                ENTITY entity, 
+                Supplier<Optional<? extends SqlStatement>> statement, 
+                Consumer<MetaResult<ENTITY>> listener) {
+            
+            this.manager   = manager;
+            this.entity    = entity;
+            this.statement = statement;
+            this.listener  = listener;
+            this.meta      = new SqlMetaResultImpl<>();
+        }
+
+        private Optional<? extends SqlStatement> prepare() {
+            final Optional<? extends SqlStatement> result = statement.get();
+            result.ifPresent(s -> meta
+                .setQuery(s.getSql())
+                .setParameters(new ArrayList<>(s.getValues()))
+            );
+            return result;
+        }
+
+        private void afterCommit() {
+            manager.clearDirtyFields(entity);
+        }
+
+        private void notifyListener() {
+            listener.accept(meta);
+        }
+    }
+}
@@ -20,8 +20,10 @@ import com.speedment.Speedment;
 import com.speedment.component.EntityManager;
 import com.speedment.component.ManagerComponent;
 import com.speedment.exception.SpeedmentException;
+import com.speedment.internal.core.manager.sql.UnitOfWorkImpl;
 import com.speedment.license.Software;
 import com.speedment.manager.Manager;
+import com.speedment.manager.UnitOfWork;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -54,6 +56,11 @@ public final class EntityManagerImpl extends InternalOpenSourceComponent impleme
         managerOf(entity).remove(entity);
     }
 
+    @Override
+    public UnitOfWork newUnitOfWork() {
+        return new UnitOfWorkImpl(this::managerOf);
+    }
+
     @Override
     public Stream<Software> getDependencies() {
         return Stream.empty();
@@ -18,8 +18,16 @@ package com.speedment.internal.core.platform.component.impl;
 
 import com.speedment.Speedment;
 import com.speedment.component.StreamSupplierComponent;
+import com.speedment.field.trait.ComparableFieldTrait;
+import com.speedment.field.trait.FieldTrait;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.manager.sql.AbstractSqlManager;
 import com.speedment.license.Software;
+import com.speedment.manager.Manager;
 import com.speedment.stream.StreamDecorator;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -37,6 +45,26 @@ public class NativeStreamSupplierComponentImpl extends InternalOpenSourceCompone
         return getSpeedment().managerOf(entityClass).nativeStream(decorator);
     }
 
+    @Override
+    public <ENTITY, D, V extends Comparable<? super V>, F extends FieldTrait & ReferenceFieldTrait<ENTITY, D, V> & ComparableFieldTrait<ENTITY, D, V>>
+            Optional<ENTITY> findAny(Class<ENTITY> entityClass, F field, V value) {
+        final Manager<ENTITY> manager = getSpeedment().managerOf(entityClass);
+        if (manager instanceof AbstractSqlManager) {
+            return ((AbstractSqlManager<ENTITY>) manager).nativeFindAny(field, value);
+        }
+        return StreamSupplierComponent.super.findAny(entityClass, field, value);
+    }
+
+    @Override
+    public <ENTITY, D, V extends Comparable<? super V>, F extends FieldTrait & ReferenceFieldTrait<ENTITY, D, V> & ComparableFieldTrait<ENTITY, D, V>>
+            Map<V, ENTITY> findAll(Class<ENTITY> entityClass, F field, Collection<? extends V> values) {
+        final Manager<ENTITY> manager = getSpeedment().managerOf(entityClass);
+        if (manager instanceof AbstractSqlManager) {
+            return ((AbstractSqlManager<ENTITY>) manager).nativeFindAll(field, values);
+        }
+        return StreamSupplierComponent.super.findAll(entityClass, field, values);
+    }
+
     @Override
     public Stream<Software> getDependencies() {
         return Stream.empty();
@@ -0,0 +1,85 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.platform.component.impl;
+
+import com.speedment.Speedment;
+import com.speedment.component.PipelineOptimizerComponent;
+import com.speedment.internal.core.stream.builder.pipeline.StandardPipelineRule;
+import com.speedment.license.Software;
+import com.speedment.stream.Pipeline;
+import com.speedment.stream.PipelineRule;
+import java.util.Arrays;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ *
+ * @author pemi
+ */
+public final class PipelineOptimizerComponentImpl extends InternalOpenSourceComponent implements PipelineOptimizerComponent {
+
+    /**
+     * The maximum number of times the rules are applied to a pipeline. This 
+     * protects against rules that keep undoing each others rewrites.
+     */
+    private static final int MAX_PASSES = 32;
+
+    private final List<PipelineRule> rules;
+
+    public PipelineOptimizerComponentImpl(Speedment speedment) {
+        super(speedment);
+        this.rules = new CopyOnWriteArrayList<>(Arrays.asList(StandardPipelineRule.values()));
+    }
+
+    @Override
+    public void install(PipelineRule rule) {
+        rules.add(requireNonNull(rule));
+    }
+
+    @Override
+    public Stream<PipelineRule> rules() {
+        return rules.stream();
+    }
+
+    @Override
+    public <P extends Pipeline> P optimize(P pipeline, boolean orderSensitive) {
+        requireNonNull(pipeline);
+        for (int pass = 0; pass < MAX_PASSES; pass++) {
+            boolean changed = false;
+            for (final PipelineRule rule : rules) {
+                changed |= rule.apply(pipeline, orderSensitive);
+            }
+            if (!changed) {
+                break;
+            }
+        }
+        return pipeline;
+    }
+
+    @Override
+    public Stream<Software> getDependencies() {
+        return Stream.empty();
+    }
+
+    @Override
+    public PipelineOptimizerComponent defaultCopy(Speedment speedment) {
+        return new PipelineOptimizerComponentImpl(speedment);
+    }
+
+}
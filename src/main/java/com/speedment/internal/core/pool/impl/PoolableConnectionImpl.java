@@ -18,7 +18,10 @@ package com.speedment.internal.core.pool.impl;
 
 import com.speedment.component.connectionpool.PoolableConnection;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -29,12 +32,14 @@ import java.util.concurrent.atomic.AtomicLong;
 public final class PoolableConnectionImpl extends PoolableConnectionDelegator implements PoolableConnection {
 
     private static final AtomicLong ID_GENERATOR = new AtomicLong();
+    private static final int MAX_CACHED_STATEMENTS = 64;
     private final long id;
     private final String user;
     private final String password;
     private final String uri;
     private final long created;
     private final long expires;
+    private final Map<String, PreparedStatement> statementCache;
     private Runnable onClose;
 
     public PoolableConnectionImpl(String uri, String user, String password, Connection connection, long expires) {
@@ -45,6 +50,19 @@ public final class PoolableConnectionImpl extends PoolableConnectionDelegator im
         this.password = password; //nullable
         this.created = System.currentTimeMillis();
         this.expires = expires;
+        this.statementCache = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+            
+            private static final long serialVersionUID = 1L;
+            
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > MAX_CACHED_STATEMENTS) {
+                    closeSilently(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
     }
 
     @Override
@@ -59,9 +77,35 @@ public final class PoolableConnectionImpl extends PoolableConnectionDelegator im
 
     @Override
     public void rawClose() throws SQLException {
+        synchronized (statementCache) {
+            statementCache.values().forEach(PoolableConnectionImpl::closeSilently);
+            statementCache.clear();
+        }
         connection.close();
     }
 
+    @Override
+    public PreparedStatement prepareCachedStatement(String sql) throws SQLException {
+        requireNonNull(sql);
+        synchronized (statementCache) {
+            final PreparedStatement cached = statementCache.get(sql);
+            if (cached != null && !cached.isClosed()) {
+                return cached;
+            }
+            final PreparedStatement statement = connection.prepareStatement(sql);
+            statementCache.put(sql, statement);
+            return statement;
+        }
+    }
+
+    private static void closeSilently(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (final SQLException ex) {
+            // The statement is discarded anyhow.
+        }
+    }
+
     @Override
     public void setOnClose(Runnable onClose) {
         this.onClose = onClose;
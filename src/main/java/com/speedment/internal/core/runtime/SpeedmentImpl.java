@@ -26,6 +26,7 @@ import com.speedment.component.EntityManager;
 import com.speedment.component.EventComponent;
 import com.speedment.component.ManagerComponent;
 import com.speedment.component.PasswordComponent;
+import com.speedment.component.PipelineOptimizerComponent;
 import com.speedment.component.PrimaryKeyFactoryComponent;
 import com.speedment.component.ProjectComponent;
 import com.speedment.component.StreamSupplierComponent;
@@ -44,6 +45,7 @@ import com.speedment.internal.core.platform.component.impl.EventComponentImpl;
 import com.speedment.internal.core.platform.component.impl.ManagerComponentImpl;
 import com.speedment.internal.core.platform.component.impl.NativeStreamSupplierComponentImpl;
 import com.speedment.internal.core.platform.component.impl.PasswordComponentImpl;
+import com.speedment.internal.core.platform.component.impl.PipelineOptimizerComponentImpl;
 import com.speedment.internal.core.platform.component.impl.PrimaryKeyFactoryComponentImpl;
 import com.speedment.internal.core.platform.component.impl.ProjectComponentImpl;
 import com.speedment.internal.core.platform.component.impl.ResultSetMapperComponentImpl;
@@ -80,6 +82,7 @@ final class SpeedmentImpl extends DefaultClassMapper<Component> implements Speed
     private PasswordComponent passwordComponent;
     private CodeGenerationComponent codeGenerationComponent;
     private DocumentPropertyComponent documentPropertyComponent;
+    private PipelineOptimizerComponent pipelineOptimizerComponent;
 
     SpeedmentImpl() {
         logger = LoggerManager.getLogger(SpeedmentImpl.class);
@@ -97,6 +100,7 @@ final class SpeedmentImpl extends DefaultClassMapper<Component> implements Speed
         put(PasswordComponentImpl::new);
         put(CodeGenerationComponentImpl::new);
         put(DocumentPropertyComponentImpl::new);
+        put(PipelineOptimizerComponentImpl::new);
     }
 
     @Override
@@ -166,6 +170,9 @@ final class SpeedmentImpl extends DefaultClassMapper<Component> implements Speed
         if (item instanceof DocumentPropertyComponent) {
             documentPropertyComponent = castOrFail(item, DocumentPropertyComponent.class);
         }
+        if (item instanceof PipelineOptimizerComponent) {
+            pipelineOptimizerComponent = castOrFail(item, PipelineOptimizerComponent.class);
+        }
         return put(item, Component::getComponentClass);
     }
 
@@ -276,6 +283,11 @@ final class SpeedmentImpl extends DefaultClassMapper<Component> implements Speed
         return documentPropertyComponent;
     }
 
+    @Override
+    public PipelineOptimizerComponent getPipelineOptimizerComponent() {
+        return pipelineOptimizerComponent;
+    }
+
     @Override
     public Speedment copyWithSameTypeOfComponents() {
         final SpeedmentApplicationLifecycle<?> lifecycle = new DefaultSpeedmentApplicationLifecycle();
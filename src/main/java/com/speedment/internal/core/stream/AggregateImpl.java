@@ -0,0 +1,57 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream;
+
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.stream.Aggregate;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.stream.Collector;
+
+/**
+ *
+ * @author pemi
+ * @param <ENTITY> the entity type
+ * @param <R> the result type
+ */
+public final class AggregateImpl<ENTITY, R> implements Aggregate<ENTITY, R> {
+
+    private final Type type;
+    private final ReferenceFieldTrait<ENTITY, ?, ?> field;
+    private final Collector<ENTITY, ?, R> collector;
+
+    public AggregateImpl(Type type, ReferenceFieldTrait<ENTITY, ?, ?> field, Collector<ENTITY, ?, R> collector) {
+        this.type = requireNonNull(type);
+        this.field = field; // Nullable
+        this.collector = requireNonNull(collector);
+    }
+
+    @Override
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public Optional<ReferenceFieldTrait<ENTITY, ?, ?>> getField() {
+        return Optional.ofNullable(field);
+    }
+
+    @Override
+    public Collector<ENTITY, ?, R> getCollector() {
+        return collector;
+    }
+}
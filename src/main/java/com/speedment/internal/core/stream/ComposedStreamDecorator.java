@@ -17,11 +17,16 @@
 package com.speedment.internal.core.stream;
 
 import com.speedment.field.predicate.SpeedmentPredicate;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.stream.ExplainReport;
 import com.speedment.stream.HasParallelStrategy;
 import com.speedment.stream.Pipeline;
 import com.speedment.stream.StreamDecorator;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -96,4 +101,66 @@ public final class ComposedStreamDecorator implements StreamDecorator {
 
     }
 
+    @Override
+    public void explain(ExplainReport report) {
+        for (StreamDecorator sd : decorators) {
+            sd.explain(report);
+        }
+    }
+
+    @Override
+    public boolean isExplaining() {
+        return decorators.stream().anyMatch(StreamDecorator::isExplaining);
+    }
+
+    @Override
+    public OptionalInt getKeysetChunkSize() {
+        return last(StreamDecorator::getKeysetChunkSize);
+    }
+
+    @Override
+    public OptionalInt getFetchSize() {
+        return last(StreamDecorator::getFetchSize);
+    }
+
+    @Override
+    public OptionalInt getReadAheadSize() {
+        return last(StreamDecorator::getReadAheadSize);
+    }
+
+    @Override
+    public OptionalInt getQueryTimeout() {
+        return last(StreamDecorator::getQueryTimeout);
+    }
+
+    @Override
+    public OptionalInt getRangePartitions() {
+        return last(StreamDecorator::getRangePartitions);
+    }
+
+    @Override
+    public Optional<ReferenceFieldTrait<?, ?, ? extends Number>> getPartitionField() {
+        Optional<ReferenceFieldTrait<?, ?, ? extends Number>> result = Optional.empty();
+
+        for (StreamDecorator sd : decorators) {
+            final Optional<ReferenceFieldTrait<?, ?, ? extends Number>> value = sd.getPartitionField();
+            if (value.isPresent()) {
+                result = value;
+            }
+        }
+        return result;
+    }
+
+    private OptionalInt last(Function<StreamDecorator, OptionalInt> getter) {
+        OptionalInt result = OptionalInt.empty();
+
+        for (StreamDecorator sd : decorators) {
+            final OptionalInt value = getter.apply(sd);
+            if (value.isPresent()) {
+                result = value;
+            }
+        }
+        return result;
+    }
+
 }
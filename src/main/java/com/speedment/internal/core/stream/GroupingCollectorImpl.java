@@ -0,0 +1,138 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream;
+
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.stream.Aggregate;
+import static com.speedment.util.NullUtil.requireNonNullElements;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A collector that groups entities by the values of one or more fields and 
+ * applies an {@link Aggregate} to each group. Since the fields and the 
+ * aggregate are known, a SQL stream terminator may render the collector as a
+ * {@code GROUP BY} query. Otherwise, the grouping is done in memory.
+ * <p>
+ * Unlike {@link java.util.stream.Collectors#groupingBy(Function)}, 
+ * {@code null} keys are permitted, since the database groups {@code NULL} 
+ * values together too.
+ *
+ * @author pemi
+ * @param <ENTITY> the entity type
+ * @param <K> the key type
+ * @param <R> the aggregate result type
+ */
+public final class GroupingCollectorImpl<ENTITY, K, R> implements Collector<ENTITY, Map<K, Object>, Map<K, R>> {
+
+    private final List<ReferenceFieldTrait<ENTITY, ?, ?>> fields;
+    private final Function<List<Object>, K> keyMapper;
+    private final Aggregate<ENTITY, R> aggregate;
+    private final Collector<ENTITY, Object, R> downstream;
+
+    @SuppressWarnings("unchecked")
+    public GroupingCollectorImpl(
+        List<? extends ReferenceFieldTrait<ENTITY, ?, ?>> fields, 
+        Function<List<Object>, K> keyMapper, 
+        Aggregate<ENTITY, R> aggregate
+    ) {
+        requireNonNullElements(fields);
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be given to group by.");
+        }
+        this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+        this.keyMapper = requireNonNull(keyMapper);
+        this.aggregate = requireNonNull(aggregate);
+        this.downstream = (Collector<ENTITY, Object, R>) aggregate.getCollector();
+    }
+
+    /**
+     * Returns the fields to group by, in order.
+     * 
+     * @return  the fields to group by
+     */
+    public List<ReferenceFieldTrait<ENTITY, ?, ?>> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the aggregate to apply to each group.
+     * 
+     * @return  the aggregate
+     */
+    public Aggregate<ENTITY, R> getAggregate() {
+        return aggregate;
+    }
+
+    /**
+     * Creates a key from the provided values of the fields to group by, 
+     * given in the same order as {@link #getFields()}.
+     * 
+     * @param values  the field values
+     * @return        the key
+     */
+    public K keyOf(List<Object> values) {
+        return keyMapper.apply(values);
+    }
+
+    @Override
+    public Supplier<Map<K, Object>> supplier() {
+        return HashMap::new;
+    }
+
+    @Override
+    public BiConsumer<Map<K, Object>, ENTITY> accumulator() {
+        return (map, entity) -> {
+            final List<Object> values = new ArrayList<>(fields.size());
+            fields.forEach(f -> values.add(f.get(entity)));
+            final Object container = map.computeIfAbsent(keyOf(values), k -> downstream.supplier().get());
+            downstream.accumulator().accept(container, entity);
+        };
+    }
+
+    @Override
+    public BinaryOperator<Map<K, Object>> combiner() {
+        return (left, right) -> {
+            right.forEach((key, container) -> left.merge(key, container, downstream.combiner()));
+            return left;
+        };
+    }
+
+    @Override
+    public Function<Map<K, Object>, Map<K, R>> finisher() {
+        return map -> {
+            final Map<K, R> result = new HashMap<>();
+            map.forEach((key, container) -> result.put(key, downstream.finisher().apply(container)));
+            return result;
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.emptySet();
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream;
+
+import com.speedment.exception.SpeedmentException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@code Iterator} that reads ahead of the consumer by draining a source
+ * iterator on a dedicated reader thread. This allows the source (typically
+ * a {@code ResultSet} together with the mapping of rows to entities) to 
+ * progress while the consumer processes the elements it has already got.
+ * <p>
+ * Elements are handed over in batches through a bounded queue, so the reader
+ * never gets more than {@code bufferSize} elements ahead of the consumer. 
+ * The reader is stopped by {@link #close()}, which waits for it to leave the 
+ * source so that the source can be safely closed afterwards.
+ *
+ * @author pemi
+ * @param <T> the element type
+ */
+public final class ReadAheadIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final Iterator<T> source;
+    private final int batchSize;
+    private final BlockingQueue<Batch<T>> queue;
+    private final Thread reader;
+
+    private volatile boolean closed;
+    private Iterator<T> current;
+    private boolean ended;
+
+    /**
+     * Creates a new iterator and starts its reader thread.
+     * 
+     * @param source      the iterator to read ahead of
+     * @param bufferSize  the maximum number of elements to read ahead
+     */
+    public ReadAheadIterator(Iterator<T> source, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("The buffer size must be positive, was " + bufferSize + ".");
+        }
+        this.source = requireNonNull(source);
+        this.batchSize = Math.max(1, Math.min(MAX_BATCH_SIZE, bufferSize / 4));
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, bufferSize / batchSize));
+        this.current = Collections.emptyIterator();
+        this.reader = new Thread(this::read, "speedment-read-ahead");
+        this.reader.setDaemon(true);
+        this.reader.start();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (ended) {
+                return false;
+            }
+            
+            final Batch<T> batch;
+            try {
+                batch = queue.take();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SpeedmentException("Interrupted while waiting for the read-ahead thread.", ex);
+            }
+            
+            if (batch.error != null) {
+                ended = true;
+                throw new SpeedmentException("Error in the read-ahead thread.", batch.error);
+            }
+            
+            ended = batch.last;
+            current = batch.elements.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Stops the reader thread and waits for it to finish. After this method 
+     * returns, the source iterator is no longer used.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        queue.clear();
+        try {
+            reader.join();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        ended = true;
+        current = Collections.emptyIterator();
+    }
+
+    private void read() {
+        try {
+            List<T> elements = new ArrayList<>(batchSize);
+            while (!closed && source.hasNext()) {
+                elements.add(source.next());
+                if (elements.size() == batchSize) {
+                    if (!hand(new Batch<>(elements, false, null))) {
+                        return;
+                    }
+                    elements = new ArrayList<>(batchSize);
+                }
+            }
+            hand(new Batch<>(elements, true, null));
+        } catch (final Throwable t) {
+            // Errors must be handed over as well, or the consumer would
+            // wait for another batch forever.
+            hand(new Batch<>(Collections.emptyList(), true, t));
+        }
+    }
+
+    /**
+     * Hands over the provided batch to the consumer, waiting for room in the
+     * queue for as long as this iterator is open.
+     * 
+     * @param batch  the batch to hand over
+     * @return       {@code true} if the batch was handed over, 
+     *               {@code false} if this iterator was closed
+     */
+    private boolean hand(Batch<T> batch) {
+        try {
+            while (!closed) {
+                if (queue.offer(batch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private static final class Batch<T> {
+
+        private final List<T> elements;
+        private final boolean last;
+        private final Throwable error;
+
+        private Batch(List<T> elements, boolean last, Throwable error) {
+            this.elements = elements;
+            this.last = last;
+            this.error = error;
+        }
+    }
+}
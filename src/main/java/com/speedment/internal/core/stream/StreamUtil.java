@@ -75,10 +75,19 @@ public final class StreamUtil {
     public static <T> Stream<T> asStream(ResultSet resultSet, Function<ResultSet, T> mapper, ParallelStrategy parallelStrategy) {
         requireNonNull(resultSet);
         requireNonNull(mapper);
-        final Iterator<T> iterator = new ResultSetIterator<>(resultSet, mapper);
+        return asStream(asIterator(resultSet, mapper), parallelStrategy);
+    }
+
+    public static <T> Stream<T> asStream(Iterator<T> iterator, ParallelStrategy parallelStrategy) {
+        requireNonNull(iterator);
+        requireNonNull(parallelStrategy);
         return StreamSupport.stream(parallelStrategy.spliteratorUnknownSize(iterator, Spliterator.IMMUTABLE + Spliterator.NONNULL), false);
     }
 
+    public static <T> Iterator<T> asIterator(ResultSet resultSet, Function<ResultSet, T> mapper) {
+        return new ResultSetIterator<>(resultSet, mapper);
+    }
+
     public static <T> Stream<T> from(Optional<T> optional) {
         requireNonNull(optional);
         return optional.isPresent() ? Stream.of(optional.get()) : Stream.empty();
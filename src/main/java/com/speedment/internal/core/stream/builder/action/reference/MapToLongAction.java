@@ -30,8 +30,15 @@ import java.util.stream.Stream;
  */
 public final class MapToLongAction<T> extends Action<Stream<T>, LongStream> {
 
+    private final ToLongFunction<? super T> mapper;
+
     public MapToLongAction(ToLongFunction<? super T> mapper) {
         super(s -> s.mapToLong(requireNonNull(mapper)), LongStream.class, MAP_TO);
+        this.mapper = mapper;
+    }
+
+    public ToLongFunction<? super T> getMapper() {
+        return mapper;
     }
 
 }
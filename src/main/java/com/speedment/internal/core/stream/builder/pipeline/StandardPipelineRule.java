@@ -0,0 +1,259 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream.builder.pipeline;
+
+import com.speedment.field.predicate.SpeedmentPredicate;
+import com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate;
+import com.speedment.internal.core.stream.builder.action.doubles.DoubleFilterAction;
+import com.speedment.internal.core.stream.builder.action.doubles.DoubleLimitAction;
+import com.speedment.internal.core.stream.builder.action.doubles.DoubleSkipAction;
+import com.speedment.internal.core.stream.builder.action.ints.IntFilterAction;
+import com.speedment.internal.core.stream.builder.action.ints.IntLimitAction;
+import com.speedment.internal.core.stream.builder.action.ints.IntSkipAction;
+import com.speedment.internal.core.stream.builder.action.longs.LongFilterAction;
+import com.speedment.internal.core.stream.builder.action.longs.LongLimitAction;
+import com.speedment.internal.core.stream.builder.action.longs.LongSkipAction;
+import com.speedment.internal.core.stream.builder.action.reference.FilterAction;
+import com.speedment.internal.core.stream.builder.action.reference.LimitAction;
+import com.speedment.internal.core.stream.builder.action.reference.SkipAction;
+import com.speedment.internal.core.stream.builder.action.trait.HasLimit;
+import com.speedment.internal.core.stream.builder.action.trait.HasSkip;
+import com.speedment.stream.Pipeline;
+import com.speedment.stream.PipelineRule;
+import com.speedment.stream.action.Action;
+import static com.speedment.stream.action.Property.SIDE_EFFECT;
+import static com.speedment.stream.action.Property.SORTED;
+import static com.speedment.stream.action.Verb.SET;
+import static java.util.Objects.requireNonNull;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * The rewrite rules that are installed in the 
+ * {@link com.speedment.component.PipelineOptimizerComponent} by default.
+ * 
+ * @author pemi
+ */
+public enum StandardPipelineRule implements PipelineRule {
+
+    /**
+     * Moves a filter ahead of a directly preceding sort. Since sorting is 
+     * stable, the result is the same but fewer elements are sorted. It also 
+     * lets a stream supplier render the filter before the sort, for an example
+     * as a {@code WHERE} clause.
+     */
+    FILTER_BEFORE_SORTED {
+        @Override
+        public boolean apply(Pipeline pipeline, boolean orderSensitive) {
+            return swapAdjacent(pipeline, (first, second) -> isSorted(first) && isFilter(second));
+        }
+    },
+    
+    /**
+     * Moves a filter ahead of a directly preceding {@code peek()}. The peek 
+     * action will then only observe the elements that pass the filter, which
+     * is within the contract of {@code peek()} as the elements that are 
+     * observed by it are never guaranteed.
+     */
+    FILTER_BEFORE_PEEK {
+        @Override
+        public boolean apply(Pipeline pipeline, boolean orderSensitive) {
+            return swapAdjacent(pipeline, (first, second) -> isPeek(first) && isFilter(second));
+        }
+    },
+    
+    /**
+     * Merges two adjacent filters into one, given that none of the predicates
+     * is a {@link SpeedmentPredicate} (or a combination of such). Those are 
+     * left as they are so that they can still be rendered by a stream 
+     * supplier.
+     */
+    MERGE_FILTERS {
+        @Override
+        public boolean apply(Pipeline pipeline, boolean orderSensitive) {
+            return mergeAdjacent(pipeline, (first, second) -> {
+                if (first instanceof FilterAction && second instanceof FilterAction) {
+                    @SuppressWarnings("unchecked")
+                    final Predicate<Object> p0 = (Predicate<Object>) ((FilterAction<?>) first).getPredicate();
+                    @SuppressWarnings("unchecked")
+                    final Predicate<Object> p1 = (Predicate<Object>) ((FilterAction<?>) second).getPredicate();
+                    if (isOpaque(p0) && isOpaque(p1)) {
+                        return new FilterAction<>(t -> p0.test(t) && p1.test(t));
+                    }
+                }
+                return null;
+            });
+        }
+    },
+    
+    /**
+     * Collapses {@code skip(a).skip(b)} into {@code skip(a + b)}.
+     */
+    COLLAPSE_SKIPS {
+        @Override
+        public boolean apply(Pipeline pipeline, boolean orderSensitive) {
+            return mergeAdjacent(pipeline, (first, second) -> {
+                if (first instanceof HasSkip && first.getClass() == second.getClass()) {
+                    final long a = ((HasSkip) first).getSkip();
+                    final long b = ((HasSkip) second).getSkip();
+                    return newSkipAction(first, (Long.MAX_VALUE - a < b) ? Long.MAX_VALUE : a + b);
+                }
+                return null;
+            });
+        }
+    },
+    
+    /**
+     * Collapses {@code limit(a).limit(b)} into {@code limit(min(a, b))}.
+     */
+    COLLAPSE_LIMITS {
+        @Override
+        public boolean apply(Pipeline pipeline, boolean orderSensitive) {
+            return mergeAdjacent(pipeline, (first, second) -> {
+                if (first instanceof HasLimit && first.getClass() == second.getClass()) {
+                    final long a = ((HasLimit) first).getLimit();
+                    final long b = ((HasLimit) second).getLimit();
+                    return newLimitAction(first, Math.min(a, b));
+                }
+                return null;
+            });
+        }
+    },
+    
+    /**
+     * Removes a sort if the terminal operation does not depend on the 
+     * encounter order of the elements and no subsequent action (such as 
+     * {@code skip()}, {@code limit()} or {@code peek()}) does either.
+     */
+    REMOVE_UNORDERED_SORTED {
+        @Override
+        public boolean apply(Pipeline pipeline, boolean orderSensitive) {
+            if (orderSensitive) {
+                return false;
+            }
+            for (int i = pipeline.size() - 1; i >= 0; i--) {
+                final Action<?, ?> action = pipeline.get(i);
+                if (isSorted(action)) {
+                    pipeline.remove(i);
+                    return true;
+                }
+                if (action instanceof HasSkip || action instanceof HasLimit || isPeek(action)) {
+                    return false;
+                }
+            }
+            return false;
+        }
+    };
+
+    private static boolean isFilter(Action<?, ?> action) {
+        return action instanceof FilterAction
+            || action instanceof IntFilterAction
+            || action instanceof LongFilterAction
+            || action instanceof DoubleFilterAction;
+    }
+
+    private static boolean isSorted(Action<?, ?> action) {
+        return action.is(SET, SORTED);
+    }
+
+    private static boolean isPeek(Action<?, ?> action) {
+        return action.is(SET, SIDE_EFFECT);
+    }
+
+    private static boolean isOpaque(Predicate<?> predicate) {
+        return !(predicate instanceof SpeedmentPredicate)
+            && !(predicate instanceof AbstractCombinedBasePredicate);
+    }
+
+    /**
+     * Swaps every pair of adjacent actions that is accepted by the provided
+     * test.
+     * 
+     * @param pipeline  the pipeline to rewrite
+     * @param test      the test that decides if a pair is to be swapped
+     * @return          if any pair was swapped
+     */
+    private static boolean swapAdjacent(Pipeline pipeline, BiPredicate<Action<?, ?>, Action<?, ?>> test) {
+        requireNonNull(pipeline);
+        boolean changed = false;
+        for (int i = 0; i + 1 < pipeline.size(); i++) {
+            if (test.test(pipeline.get(i), pipeline.get(i + 1))) {
+                pipeline.add(i, pipeline.remove(i + 1));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Replaces every pair of adjacent actions for which the provided merger
+     * returns an action with that action.
+     * 
+     * @param pipeline  the pipeline to rewrite
+     * @param merger    the merger that returns the merged action or 
+     *                  {@code null} if the pair can not be merged
+     * @return          if any pair was merged
+     */
+    private static boolean mergeAdjacent(Pipeline pipeline, Merger merger) {
+        requireNonNull(pipeline);
+        boolean changed = false;
+        int i = 0;
+        while (i + 1 < pipeline.size()) {
+            final Action<?, ?> merged = merger.merge(pipeline.get(i), pipeline.get(i + 1));
+            if (merged == null) {
+                i++;
+            } else {
+                pipeline.remove(i + 1);
+                pipeline.remove(i);
+                pipeline.add(i, merged);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private static Action<?, ?> newSkipAction(Action<?, ?> template, long n) {
+        if (template instanceof IntSkipAction) {
+            return new IntSkipAction(n);
+        } else if (template instanceof LongSkipAction) {
+            return new LongSkipAction(n);
+        } else if (template instanceof DoubleSkipAction) {
+            return new DoubleSkipAction(n);
+        } else if (template instanceof SkipAction) {
+            return new SkipAction<>(n);
+        }
+        return null;
+    }
+
+    private static Action<?, ?> newLimitAction(Action<?, ?> template, long maxSize) {
+        if (template instanceof IntLimitAction) {
+            return new IntLimitAction(maxSize);
+        } else if (template instanceof LongLimitAction) {
+            return new LongLimitAction(maxSize);
+        } else if (template instanceof DoubleLimitAction) {
+            return new DoubleLimitAction(maxSize);
+        } else if (template instanceof LimitAction) {
+            return new LimitAction<>(maxSize);
+        }
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface Merger {
+        Action<?, ?> merge(Action<?, ?> first, Action<?, ?> second);
+    }
+}
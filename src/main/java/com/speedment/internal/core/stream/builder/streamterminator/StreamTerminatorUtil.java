@@ -16,13 +16,28 @@
  */
 package com.speedment.internal.core.stream.builder.streamterminator;
 
+import com.speedment.field.methods.FieldGetter;
+import com.speedment.field.methods.ToDoubleFieldGetter;
+import com.speedment.field.methods.ToIntFieldGetter;
+import com.speedment.field.methods.ToLongFieldGetter;
+import com.speedment.field.methods.TupleGetter;
 import com.speedment.field.predicate.SpeedmentPredicate;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.comparator.SpeedmentComparator;
+import com.speedment.internal.comparator.impl.CombinedSpeedmentComparator;
 import com.speedment.internal.core.field.predicate.AbstractCombinedBasePredicate;
 import com.speedment.internal.core.stream.builder.action.reference.FilterAction;
+import com.speedment.internal.core.stream.builder.action.reference.MapAction;
+import com.speedment.internal.core.stream.builder.action.reference.MapToDoubleAction;
+import com.speedment.internal.core.stream.builder.action.reference.MapToIntAction;
+import com.speedment.internal.core.stream.builder.action.reference.MapToLongAction;
+import com.speedment.internal.core.stream.builder.action.reference.SortedComparatorAction;
 import com.speedment.internal.util.Cast;
 import com.speedment.stream.Pipeline;
 import com.speedment.stream.action.Action;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import static java.util.Objects.requireNonNull;
 import java.util.Optional;
@@ -52,11 +67,27 @@ public class StreamTerminatorUtil {
         return andPredicateBuilders;
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public static <ENTITY> List<SpeedmentPredicate<?, ?, ?>> andPredicates(FilterAction<ENTITY> action) {
         requireNonNull(action);
+        return andPredicates(action.getPredicate());
+    }
+
+    /**
+     * Returns the {@link SpeedmentPredicate SpeedmentPredicates} that the
+     * provided predicate is made up of, given that it is either a 
+     * {@code SpeedmentPredicate} itself or an AND combination of predicates.
+     * Parts that are not {@code SpeedmentPredicates} are not included in the
+     * returned list.
+     *
+     * @param <ENTITY>   the entity type
+     * @param predicate  the predicate to inspect
+     * @return           the SpeedmentPredicates that the predicate is made of
+     * @see #isFullyRenderable(Predicate)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <ENTITY> List<SpeedmentPredicate<?, ?, ?>> andPredicates(Predicate<? super ENTITY> predicate) {
+        requireNonNull(predicate);
         final List<SpeedmentPredicate<?, ?, ?>> andPredicateBuilders = new ArrayList<>();
-        final Predicate<? super ENTITY> predicate = action.getPredicate();
 
         final Optional<SpeedmentPredicate> oPredicateBuilder = Cast.cast(predicate, SpeedmentPredicate.class);
         if (oPredicateBuilder.isPresent()) {
@@ -77,6 +108,189 @@ public class StreamTerminatorUtil {
         return andPredicateBuilders;
     }
 
+    /**
+     * Returns the number of initial consecutive {@link FilterAction FilterActions}
+     * in the provided pipeline. The action (if any) at the returned index is
+     * the first action that is not a {@code FilterAction}.
+     *
+     * @param pipeline  the pipeline to inspect
+     * @return          the number of initial consecutive filters
+     */
+    public static int topLevelFilterCount(Pipeline pipeline) {
+        requireNonNull(pipeline);
+        int count = 0;
+        for (final Action<?, ?> action : pipeline) {
+            if (action instanceof FilterAction) {
+                count++;
+            } else {
+                break;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns if every initial consecutive {@link FilterAction} in the provided
+     * pipeline is made up of {@link SpeedmentPredicate SpeedmentPredicates}
+     * only, so that {@link #topLevelAndPredicates(Pipeline)} returns the 
+     * complete filter condition and not just a part of it.
+     *
+     * @param pipeline  the pipeline to inspect
+     * @return          if the initial filters can be rendered in full
+     */
+    public static boolean isTopLevelFiltersFullyRenderable(Pipeline pipeline) {
+        requireNonNull(pipeline);
+        for (final Action<?, ?> action : pipeline) {
+            if (action instanceof FilterAction) {
+                if (!isFullyRenderable(((FilterAction<?>) action).getPredicate())) {
+                    return false;
+                }
+            } else {
+                break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the predicates of the initial consecutive 
+     * {@link FilterAction FilterActions} in the provided pipeline.
+     *
+     * @param pipeline  the pipeline to inspect
+     * @return          the predicates of the initial filters
+     */
+    public static List<Predicate<?>> topLevelPredicates(Pipeline pipeline) {
+        requireNonNull(pipeline);
+        final List<Predicate<?>> predicates = new ArrayList<>();
+        for (final Action<?, ?> action : pipeline) {
+            if (action instanceof FilterAction) {
+                predicates.add(((FilterAction<?>) action).getPredicate());
+            } else {
+                break;
+            }
+        }
+        return predicates;
+    }
+
+    /**
+     * Returns if the provided predicate is a {@link SpeedmentPredicate} or a
+     * (possibly nested and negated) AND/OR combination of 
+     * {@code SpeedmentPredicates} only, so that the complete condition can be
+     * rendered to SQL and not just a part of it.
+     *
+     * @param predicate  the predicate to inspect
+     * @return           if the predicate can be rendered in full
+     */
+    public static boolean isFullyRenderable(Predicate<?> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof AbstractCombinedBasePredicate) {
+            return ((AbstractCombinedBasePredicate<?>) predicate).stream()
+                .allMatch(StreamTerminatorUtil::isFullyRenderable);
+        } else {
+            return predicate instanceof SpeedmentPredicate;
+        }
+    }
+
+    /**
+     * Returns the {@link SpeedmentComparator SpeedmentComparators} that the
+     * provided action sorts by, in order of precedence. If the action is not a
+     * {@link SortedComparatorAction} or if its comparator (or any part of its
+     * comparator chain) does not reference a field, an empty list is returned.
+     *
+     * @param <ENTITY>  the entity type
+     * @param action    the action to inspect
+     * @return          the comparators or an empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <ENTITY> List<SpeedmentComparator<ENTITY, ?>> sortedComparators(Action<?, ?> action) {
+        requireNonNull(action);
+        final List<SpeedmentComparator<ENTITY, ?>> result = new ArrayList<>();
+        if (action instanceof SortedComparatorAction) {
+            final Comparator<?> comparator = ((SortedComparatorAction<?>) action).getComparator();
+            if (comparator instanceof SpeedmentComparator) {
+                result.add((SpeedmentComparator<ENTITY, ?>) comparator);
+            } else if (comparator instanceof CombinedSpeedmentComparator) {
+                ((CombinedSpeedmentComparator<ENTITY>) comparator).stream()
+                    .forEachOrdered(result::add);
+            } else {
+                return Collections.emptyList();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the field that the provided action maps to, given that the
+     * action is a {@link MapToIntAction}, {@link MapToLongAction} or 
+     * {@link MapToDoubleAction} with a field getter (such as a 
+     * {@link ToIntFieldGetter}) as mapper. Otherwise an empty 
+     * {@code Optional} is returned.
+     *
+     * @param action  the action to inspect
+     * @return        the mapped field or empty
+     */
+    public static Optional<ReferenceFieldTrait<?, ?, ? extends Number>> mappedField(Action<?, ?> action) {
+        requireNonNull(action);
+        final Object mapper;
+        if (action instanceof MapToIntAction) {
+            mapper = ((MapToIntAction<?>) action).getMapper();
+        } else if (action instanceof MapToLongAction) {
+            mapper = ((MapToLongAction<?>) action).getMapper();
+        } else if (action instanceof MapToDoubleAction) {
+            mapper = ((MapToDoubleAction<?>) action).getMapper();
+        } else {
+            return Optional.empty();
+        }
+        
+        if (mapper instanceof ToIntFieldGetter) {
+            return Optional.of(((ToIntFieldGetter<?>) mapper).getField());
+        } else if (mapper instanceof ToLongFieldGetter) {
+            return Optional.of(((ToLongFieldGetter<?>) mapper).getField());
+        } else if (mapper instanceof ToDoubleFieldGetter) {
+            return Optional.of(((ToDoubleFieldGetter<?>) mapper).getField());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the field that the provided action maps to, given that the
+     * action is a {@link MapAction} with a {@link FieldGetter} as mapper.
+     * Otherwise an empty {@code Optional} is returned.
+     *
+     * @param action  the action to inspect
+     * @return        the mapped field or empty
+     */
+    public static Optional<ReferenceFieldTrait<?, ?, ?>> projectedField(Action<?, ?> action) {
+        requireNonNull(action);
+        if (action instanceof MapAction) {
+            final Object mapper = ((MapAction<?, ?>) action).getMapper();
+            if (mapper instanceof FieldGetter) {
+                return Optional.of(((FieldGetter<?, ?>) mapper).getField());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the tuple getter of the provided action, given that the action
+     * is a {@link MapAction} with a {@link TupleGetter} as mapper. Otherwise
+     * an empty {@code Optional} is returned.
+     *
+     * @param action  the action to inspect
+     * @return        the tuple getter or empty
+     */
+    public static Optional<TupleGetter<?, ?>> projectedTuple(Action<?, ?> action) {
+        requireNonNull(action);
+        if (action instanceof MapAction) {
+            final Object mapper = ((MapAction<?, ?>) action).getMapper();
+            if (mapper instanceof TupleGetter) {
+                return Optional.of((TupleGetter<?, ?>) mapper);
+            }
+        }
+        return Optional.empty();
+    }
+
     private StreamTerminatorUtil() {
     }
 
@@ -0,0 +1,107 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream.parallelstrategy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Spliterator} over a number of partitions, where each partition is
+ * a {@code Stream} that is opened lazily, for example a query over a range of
+ * keys. The spliterator is split by dividing the partitions between the
+ * halves, so that each worker thread drains its own partitions in parallel.
+ * <p>
+ * Every partition stream is passed to the provided {@code opened} consumer
+ * when it is opened, so that it can be closed if the stream is abandoned. A
+ * partition stream that has been fully consumed is closed directly.
+ *
+ * @author pemi
+ * @param <T> the element type
+ */
+public final class PartitionSpliterator<T> implements Spliterator<T> {
+
+    private final List<Supplier<Stream<T>>> partitions;
+    private final Consumer<Stream<T>> opened;
+    private final int characteristics;
+    private int index;
+    private Stream<T> current;
+    private Iterator<T> iterator;
+
+    /**
+     * Creates a new {@link Spliterator} over the provided partitions.
+     *
+     * @param partitions       suppliers of the partition streams
+     * @param opened           consumer that is notified of every partition
+     *                         stream that is opened
+     * @param characteristics  the {@link Spliterator} characteristics of the
+     *                         elements
+     */
+    public PartitionSpliterator(List<Supplier<Stream<T>>> partitions, Consumer<Stream<T>> opened, int characteristics) {
+        this.partitions = new ArrayList<>(requireNonNull(partitions));
+        this.opened = requireNonNull(opened);
+        this.characteristics = characteristics;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final int remaining = partitions.size() - index;
+        if (remaining < 2) {
+            return null;
+        }
+        final int to = partitions.size();
+        final int from = to - remaining / 2;
+        final List<Supplier<Stream<T>>> split = new ArrayList<>(partitions.subList(from, to));
+        partitions.subList(from, to).clear();
+        return new PartitionSpliterator<>(split, opened, characteristics);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        requireNonNull(action);
+        while (iterator == null || !iterator.hasNext()) {
+            if (iterator != null) {
+                current.close();
+                current = null;
+                iterator = null;
+            }
+            if (index >= partitions.size()) {
+                return false;
+            }
+            current = partitions.get(index++).get();
+            opened.accept(current);
+            iterator = current.iterator();
+        }
+        action.accept(iterator.next());
+        return true;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
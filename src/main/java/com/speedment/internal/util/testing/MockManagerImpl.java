@@ -21,6 +21,7 @@ import com.speedment.config.db.Table;
 import com.speedment.db.MetaResult;
 import com.speedment.exception.SpeedmentException;
 import com.speedment.field.FieldIdentifier;
+import com.speedment.field.methods.FieldSetter;
 import com.speedment.field.trait.ComparableFieldTrait;
 import com.speedment.field.trait.FieldTrait;
 import com.speedment.field.trait.ReferenceFieldTrait;
@@ -34,10 +35,14 @@ import java.sql.NClob;
 import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.sql.Struct;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -192,6 +197,37 @@ public class MockManagerImpl<ENTITY> implements MockManager<ENTITY> {
         return finder.apply(field, value);
     }
 
+    @Override
+    public <D, V extends Comparable<? super V>, F extends FieldTrait & ReferenceFieldTrait<ENTITY, D, V> & ComparableFieldTrait<ENTITY, D, V>>
+        Map<V, ENTITY> findAll(F field, Collection<? extends V> values) {
+        return inner.findAll(field, values);
+    }
+
+    @Override
+    public long update(Predicate<? super ENTITY> predicate, List<? extends FieldSetter<ENTITY, ?>> setters) throws SpeedmentException {
+        return inner.update(predicate, setters);
+    }
+
+    @Override
+    public long remove(Predicate<? super ENTITY> predicate) throws SpeedmentException {
+        return inner.remove(predicate);
+    }
+
+    @Override
+    public ENTITY upsert(ENTITY entity) throws SpeedmentException {
+        return inner.upsert(entity);
+    }
+
+    @Override
+    public long upsertAll(Stream<? extends ENTITY> entities, int batchSize) throws SpeedmentException {
+        return inner.upsertAll(entities, batchSize);
+    }
+
+    @Override
+    public long persistAll(Stream<? extends ENTITY> entities, int batchSize) throws SpeedmentException {
+        return inner.persistAll(entities, batchSize);
+    }
+
     @Override
     public ENTITY persist(ENTITY entity, Consumer<MetaResult<ENTITY>> consumer) throws SpeedmentException {
         return inner.persist(entity, consumer);
@@ -40,8 +40,10 @@ public abstract class BasicAbstractTuple<T extends BasicTuple<R>, R> implements
     protected BasicAbstractTuple(Class<? extends T> baseClass, Object... values) {
         this.baseClass = baseClass;
         if (!isNullable()) {
-            if (Stream.of(values).filter(Objects::isNull).findAny().isPresent()) {
-                throw new NullPointerException(getClass().getName() + " can not hold null values.");
+            for (final Object value : values) {
+                if (value == null) {
+                    throw new NullPointerException(getClass().getName() + " can not hold null values.");
+                }
             }
         }
         this.values = Arrays.copyOf(values, values.length);
@@ -26,14 +26,27 @@ import com.speedment.db.trait.HasCreateFromConnectionMethods;
 import com.speedment.encoder.Encoder;
 import com.speedment.exception.SpeedmentException;
 import com.speedment.field.FieldIdentifier;
+import com.speedment.field.methods.FieldSetter;
+import com.speedment.field.methods.TupleGetter;
 import com.speedment.field.trait.ComparableFieldTrait;
 import com.speedment.field.trait.FieldTrait;
 import com.speedment.field.trait.ReferenceFieldTrait;
 import com.speedment.stream.StreamDecorator;
 import com.speedment.util.tuple.Tuple;
+import com.speedment.util.tuple.Tuple2OfNullables;
+import com.speedment.util.tuple.Tuple3OfNullables;
+import com.speedment.util.tuple.Tuple4OfNullables;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.StreamSupport;
 
 /**
  * A Manager is responsible for abstracting away an Entity's data source. Entity
@@ -394,6 +407,121 @@ public interface Manager<ENTITY> extends Lifecyclable<Manager<ENTITY>>, HasCreat
     <D, V extends Comparable<? super V>, F extends FieldTrait & ReferenceFieldTrait<ENTITY, D, V> & ComparableFieldTrait<ENTITY, D, V>>
         Optional<ENTITY> findAny(F field, V value);
 
+    /**
+     * Finds and returns the entities where the given field matches any of the
+     * given values, mapped by the value of the field. Values that no entity
+     * matches are not present in the returned map. If several entities match
+     * the same value, then an arbitrary matching entity will be kept. 
+     * {@code null} values never match.
+     * <p>
+     * For large collections, the values may be looked up in several chunks 
+     * and the chunks may be looked up concurrently.
+     *
+     * @param <D> the database type
+     * @param <V> value type
+     * @param <F> the field type
+     * @param field to use
+     * @param values to match with the field
+     * @return the matching entities mapped by the value of the field
+     */
+    <D, V extends Comparable<? super V>, F extends FieldTrait & ReferenceFieldTrait<ENTITY, D, V> & ComparableFieldTrait<ENTITY, D, V>>
+        Map<V, ENTITY> findAll(F field, Collection<? extends V> values);
+
+    /**
+     * Finds and returns a stream of the entities where the given field 
+     * matches any of the given values, in the order of the given values. 
+     * Values that no entity matches are skipped. If a value occurs several
+     * times in the list, then the matching entity also occurs several times
+     * in the stream.
+     *
+     * @param <D> the database type
+     * @param <V> value type
+     * @param <F> the field type
+     * @param field to use
+     * @param values to match with the field
+     * @return a stream of the matching entities in the order of the values
+     * @see #findAll(FieldTrait, Collection)
+     */
+    default <D, V extends Comparable<? super V>, F extends FieldTrait & ReferenceFieldTrait<ENTITY, D, V> & ComparableFieldTrait<ENTITY, D, V>>
+        Stream<ENTITY> findAllOrdered(F field, List<? extends V> values) {
+        final Map<V, ENTITY> found = findAll(field, values);
+        return values.stream()
+            .map(found::get)
+            .filter(Objects::nonNull);
+    }
+
+    /**
+     * Creates and returns a new stream over the values of the provided 
+     * fields of all entities in this table, as tuples. Only the 
+     * corresponding columns are read and no entities are created.
+     * <p>
+     * This is equivalent to 
+     * {@code stream().map(TupleGetter.of(f0, f1))}. To only read some of the
+     * rows, apply filters before the map operation, as in 
+     * {@code stream().filter(...).map(TupleGetter.of(f0, f1))}. Filters 
+     * that can be rendered to SQL are then applied by the database.
+     *
+     * @param <T0>  the value type of the first field
+     * @param <T1>  the value type of the second field
+     * @param f0    the first field
+     * @param f1    the second field
+     * @return      a new stream of tuples
+     * @see TupleGetter
+     */
+    default <T0, T1> Stream<Tuple2OfNullables<T0, T1>> project(
+            ReferenceFieldTrait<ENTITY, ?, T0> f0, 
+            ReferenceFieldTrait<ENTITY, ?, T1> f1) {
+        
+        return stream().map(TupleGetter.of(f0, f1));
+    }
+
+    /**
+     * Creates and returns a new stream over the values of the provided 
+     * fields of all entities in this table, as tuples. Only the 
+     * corresponding columns are read and no entities are created.
+     *
+     * @param <T0>  the value type of the first field
+     * @param <T1>  the value type of the second field
+     * @param <T2>  the value type of the third field
+     * @param f0    the first field
+     * @param f1    the second field
+     * @param f2    the third field
+     * @return      a new stream of tuples
+     * @see #project(ReferenceFieldTrait, ReferenceFieldTrait)
+     */
+    default <T0, T1, T2> Stream<Tuple3OfNullables<T0, T1, T2>> project(
+            ReferenceFieldTrait<ENTITY, ?, T0> f0, 
+            ReferenceFieldTrait<ENTITY, ?, T1> f1, 
+            ReferenceFieldTrait<ENTITY, ?, T2> f2) {
+        
+        return stream().map(TupleGetter.of(f0, f1, f2));
+    }
+
+    /**
+     * Creates and returns a new stream over the values of the provided 
+     * fields of all entities in this table, as tuples. Only the 
+     * corresponding columns are read and no entities are created.
+     *
+     * @param <T0>  the value type of the first field
+     * @param <T1>  the value type of the second field
+     * @param <T2>  the value type of the third field
+     * @param <T3>  the value type of the fourth field
+     * @param f0    the first field
+     * @param f1    the second field
+     * @param f2    the third field
+     * @param f3    the fourth field
+     * @return      a new stream of tuples
+     * @see #project(ReferenceFieldTrait, ReferenceFieldTrait)
+     */
+    default <T0, T1, T2, T3> Stream<Tuple4OfNullables<T0, T1, T2, T3>> project(
+            ReferenceFieldTrait<ENTITY, ?, T0> f0, 
+            ReferenceFieldTrait<ENTITY, ?, T1> f1, 
+            ReferenceFieldTrait<ENTITY, ?, T2> f2, 
+            ReferenceFieldTrait<ENTITY, ?, T3> f3) {
+        
+        return stream().map(TupleGetter.of(f0, f1, f2, f3));
+    }
+
     // TBI: Shall we expose this method in the API?
     // Persistence
     /**
@@ -419,6 +547,135 @@ public interface Manager<ENTITY> extends Lifecyclable<Manager<ENTITY>>, HasCreat
      */
     ENTITY persist(ENTITY entity) throws SpeedmentException;
 
+    /**
+     * Persists all the provided entities to the underlying database, in 
+     * chunks of at most the provided number of entities. Each chunk is sent
+     * to the database as a single batch and is committed separately, so if 
+     * the persistence of a chunk fails, the entities of the previous chunks
+     * remain persisted. If the persistence fails for any reason, an unchecked
+     * {@link SpeedmentException} is thrown.
+     * <p>
+     * The values of auto generated column(s) are set on the provided entity
+     * instances, in the order of the entities.
+     * <p>
+     * A chunk is written as a whole, so there is no per-entity callback. 
+     * Unlike {@link #persist(Object, Consumer)}, no {@link MetaResult} is 
+     * produced for the individual entities, and implementations that batch
+     * the chunks do not notify any per-entity listeners.
+     * <p>
+     * The default implementation persists the entities one by one using
+     * {@link #persist(Object)}.
+     *
+     * @param entities to persist
+     * @param batchSize the maximum number of entities in each chunk
+     * @return the number of persisted entities
+     * @throws SpeedmentException if the underlying database throws an exception
+     * (e.g. SQLException)
+     */
+    default long persistAll(Stream<? extends ENTITY> entities, int batchSize) throws SpeedmentException {
+        requireNonNull(entities);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive, was " + batchSize + ".");
+        }
+        
+        final long[] count = {0};
+        entities.forEachOrdered(entity -> {
+            persist(entity);
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    /**
+     * Persists all the provided entities to the underlying database, in 
+     * chunks of at most the provided number of entities.
+     *
+     * @param entities to persist
+     * @param batchSize the maximum number of entities in each chunk
+     * @return the number of persisted entities
+     * @throws SpeedmentException if the underlying database throws an exception
+     * (e.g. SQLException)
+     * @see #persistAll(Stream, int)
+     */
+    default long persistAll(Iterable<? extends ENTITY> entities, int batchSize) throws SpeedmentException {
+        requireNonNull(entities);
+        return persistAll(StreamSupport.stream(entities.spliterator(), false), batchSize);
+    }
+
+    /**
+     * Persists the provided entity to the underlying database, or updates the
+     * existing row if a row with the same primary key already exists, and 
+     * returns a potentially updated entity. Where the database supports it, 
+     * this is done using a single statement. If the operation fails for any 
+     * reason, an unchecked {@link SpeedmentException} is thrown.
+     * <p>
+     * It is unspecified if the returned entity is the same provided entity
+     * instance or another entity instance. It is erroneous to assume either,
+     * so you should use only the returned entity after the method has been
+     * called.
+     * <p>
+     * The fields of returned entity instance may differ from the provided
+     * entity fields due to auto generated column(s).
+     *
+     * @param entity to persist or update
+     * @return an entity reflecting the result of the persisted or updated 
+     * entity
+     * @throws SpeedmentException if the underlying database throws an exception
+     * (e.g. SQLException)
+     */
+    ENTITY upsert(ENTITY entity) throws SpeedmentException;
+
+    /**
+     * Persists all the provided entities to the underlying database or 
+     * updates the existing rows with the same primary keys, in chunks of at
+     * most the provided number of entities. Each chunk is committed 
+     * separately and no per-entity listeners are notified, as for 
+     * {@link #persistAll(Stream, int)}.
+     * <p>
+     * The values of auto generated column(s) are set on the provided entity
+     * instances where the database can report them for a chunk of rows. Some
+     * databases reject a chunk that contains the same key more than once.
+     * <p>
+     * The default implementation upserts the entities one by one using
+     * {@link #upsert(Object)}.
+     *
+     * @param entities to persist or update
+     * @param batchSize the maximum number of entities in each chunk
+     * @return the number of persisted or updated entities
+     * @throws SpeedmentException if the underlying database throws an exception
+     * (e.g. SQLException)
+     */
+    default long upsertAll(Stream<? extends ENTITY> entities, int batchSize) throws SpeedmentException {
+        requireNonNull(entities);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive, was " + batchSize + ".");
+        }
+
+        final long[] count = {0};
+        entities.forEachOrdered(entity -> {
+            upsert(entity);
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    /**
+     * Persists all the provided entities to the underlying database or 
+     * updates the existing rows with the same primary keys, in chunks of at
+     * most the provided number of entities.
+     *
+     * @param entities to persist or update
+     * @param batchSize the maximum number of entities in each chunk
+     * @return the number of persisted or updated entities
+     * @throws SpeedmentException if the underlying database throws an exception
+     * (e.g. SQLException)
+     * @see #upsertAll(Stream, int)
+     */
+    default long upsertAll(Iterable<? extends ENTITY> entities, int batchSize) throws SpeedmentException {
+        requireNonNull(entities);
+        return upsertAll(StreamSupport.stream(entities.spliterator(), false), batchSize);
+    }
+
     /**
      * Updates the provided entity in the underlying database and returns a
      * potentially updated entity. If the update fails for any reason, an
@@ -458,6 +715,74 @@ public interface Manager<ENTITY> extends Lifecyclable<Manager<ENTITY>>, HasCreat
      */
     ENTITY remove(ENTITY entity) throws SpeedmentException;
 
+    /**
+     * Updates all entities in the underlying database that match the provided
+     * predicate by applying the provided setters, and returns the number of
+     * updated entities. If the update fails for any reason, an unchecked 
+     * {@link SpeedmentException} is thrown.
+     * <p>
+     * Implementations may update the matching rows directly in the database,
+     * without loading them. Entity instances that have already been loaded
+     * are not affected. If the predicate can not be evaluated by the 
+     * database, the matching entities are loaded first and then written 
+     * back, which is not atomic: rows that are changed by others in between
+     * are not evaluated again.
+     * <p>
+     * The default implementation streams the matching entities, applies the
+     * setters to each of them and updates them one by one using 
+     * {@link #update(Object)}.
+     *
+     * @param predicate the predicate that the entities to update must match
+     * @param setters the setters to apply, for example 
+     * {@code User.NAME.setTo("Bob")}
+     * @return the number of updated entities
+     * @throws SpeedmentException if the underlying database throws an exception
+     * (e.g. SQLException)
+     */
+    default long update(Predicate<? super ENTITY> predicate, List<? extends FieldSetter<ENTITY, ?>> setters) throws SpeedmentException {
+        requireNonNull(predicate);
+        requireNonNull(setters);
+        if (setters.isEmpty()) {
+            throw new IllegalArgumentException("At least one setter must be given.");
+        }
+
+        final List<ENTITY> matching = stream().filter(predicate).collect(toList());
+        for (final ENTITY entity : matching) {
+            ENTITY updated = entity;
+            for (final FieldSetter<ENTITY, ?> setter : setters) {
+                updated = setter.apply(updated);
+            }
+            update(updated);
+        }
+        return matching.size();
+    }
+
+    /**
+     * Removes all entities in the underlying database that match the provided
+     * predicate, and returns the number of removed entities. If the deletion
+     * fails for any reason, an unchecked {@link SpeedmentException} is thrown.
+     * <p>
+     * Implementations may remove the matching rows directly in the database,
+     * without loading them. If the predicate can not be evaluated by the 
+     * database, the matching entities are loaded first and then removed, 
+     * which is not atomic, as for {@link #update(Predicate, List)}.
+     * <p>
+     * The default implementation streams the matching entities and removes 
+     * them one by one using {@link #remove(Object)}.
+     *
+     * @param predicate the predicate that the entities to remove must match
+     * @return the number of removed entities
+     * @throws SpeedmentException if the underlying database throws an exception
+     * (e.g. SQLException)
+     */
+    default long remove(Predicate<? super ENTITY> predicate) throws SpeedmentException {
+        requireNonNull(predicate);
+
+        final List<ENTITY> matching = stream().filter(predicate).collect(toList());
+        matching.forEach(this::remove);
+        return matching.size();
+    }
+
     ENTITY persist(ENTITY entity, Consumer<MetaResult<ENTITY>> consumer) throws SpeedmentException;
 
     ENTITY update(ENTITY entity, Consumer<MetaResult<ENTITY>> consumer) throws SpeedmentException;
@@ -17,6 +17,9 @@
 package com.speedment.manager;
 
 import com.speedment.field.predicate.SpeedmentPredicate;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  *
@@ -27,4 +30,33 @@ public interface SpeedmentPredicateView {
 
     SqlPredicateFragment transform(SpeedmentPredicate<?, ?, ?> model);
     
+    /**
+     * Transforms the provided predicate, which may be a combination of a 
+     * number of {@link SpeedmentPredicate SpeedmentPredicates}, into SQL. Each 
+     * {@code SpeedmentPredicate} is transformed using the provided leaf 
+     * transformer.
+     * <p>
+     * Parts of the predicate that can not be transformed may be left out, as 
+     * long as the returned fragment matches all the rows that the predicate 
+     * would match (and possibly more). If no such fragment can be produced,
+     * an empty {@code Optional} is returned.
+     * <p>
+     * The default implementation only transforms a single 
+     * {@code SpeedmentPredicate}.
+     * 
+     * @param predicate        the predicate to transform
+     * @param leafTransformer  the transformer to use for SpeedmentPredicates
+     * @return                 the transformed predicate or empty
+     */
+    default Optional<SqlPredicateFragment> transform(
+            Predicate<?> predicate, 
+            Function<SpeedmentPredicate<?, ?, ?>, SqlPredicateFragment> leafTransformer) {
+        
+        if (predicate instanceof SpeedmentPredicate) {
+            return Optional.of(leafTransformer.apply((SpeedmentPredicate<?, ?, ?>) predicate));
+        } else {
+            return Optional.empty();
+        }
+    }
+    
 }
@@ -0,0 +1,131 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.manager;
+
+import com.speedment.annotation.Api;
+import com.speedment.db.MetaResult;
+import com.speedment.exception.SpeedmentException;
+import java.util.function.Consumer;
+
+/**
+ * A unit of work collects persist, update and remove operations on entities 
+ * of any number of managers and executes them in a single database 
+ * transaction when {@link #commit()} is called. Consecutive operations that 
+ * render the same SQL are sent to the database as one batch.
+ * <p>
+ * The values of an entity are read when the unit of work is committed, so 
+ * changes that are made to an entity after its operation was added are 
+ * included. Generated keys are set on the entities and listeners are called 
+ * first when the transaction has been committed.
+ * <p>
+ * A unit of work is not thread safe and can only be committed once.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface UnitOfWork {
+
+    /**
+     * Adds an operation that persists the provided entity.
+     *
+     * @param <ENTITY>  the entity type
+     * @param entity    the entity to persist
+     * @return          this unit of work
+     * @throws SpeedmentException  if the entity has no manager that can 
+     *                             take part in this unit of work
+     */
+    default <ENTITY> UnitOfWork persist(ENTITY entity) throws SpeedmentException {
+        return persist(entity, meta -> {});
+    }
+
+    /**
+     * Adds an operation that persists the provided entity. The listener is 
+     * called once the unit of work has been committed or has failed.
+     *
+     * @param <ENTITY>  the entity type
+     * @param entity    the entity to persist
+     * @param listener  the listener to call with the result
+     * @return          this unit of work
+     * @throws SpeedmentException  if the entity has no manager that can 
+     *                             take part in this unit of work
+     */
+    <ENTITY> UnitOfWork persist(ENTITY entity, Consumer<MetaResult<ENTITY>> listener) throws SpeedmentException;
+
+    /**
+     * Adds an operation that updates the provided entity.
+     *
+     * @param <ENTITY>  the entity type
+     * @param entity    the entity to update
+     * @return          this unit of work
+     * @throws SpeedmentException  if the entity has no manager that can 
+     *                             take part in this unit of work
+     */
+    default <ENTITY> UnitOfWork update(ENTITY entity) throws SpeedmentException {
+        return update(entity, meta -> {});
+    }
+
+    /**
+     * Adds an operation that updates the provided entity. The listener is 
+     * called once the unit of work has been committed or has failed.
+     *
+     * @param <ENTITY>  the entity type
+     * @param entity    the entity to update
+     * @param listener  the listener to call with the result
+     * @return          this unit of work
+     * @throws SpeedmentException  if the entity has no manager that can 
+     *                             take part in this unit of work
+     */
+    <ENTITY> UnitOfWork update(ENTITY entity, Consumer<MetaResult<ENTITY>> listener) throws SpeedmentException;
+
+    /**
+     * Adds an operation that removes the provided entity.
+     *
+     * @param <ENTITY>  the entity type
+     * @param entity    the entity to remove
+     * @return          this unit of work
+     * @throws SpeedmentException  if the entity has no manager that can 
+     *                             take part in this unit of work
+     */
+    default <ENTITY> UnitOfWork remove(ENTITY entity) throws SpeedmentException {
+        return remove(entity, meta -> {});
+    }
+
+    /**
+     * Adds an operation that removes the provided entity. The listener is 
+     * called once the unit of work has been committed or has failed.
+     *
+     * @param <ENTITY>  the entity type
+     * @param entity    the entity to remove
+     * @param listener  the listener to call with the result
+     * @return          this unit of work
+     * @throws SpeedmentException  if the entity has no manager that can 
+     *                             take part in this unit of work
+     */
+    <ENTITY> UnitOfWork remove(ENTITY entity, Consumer<MetaResult<ENTITY>> listener) throws SpeedmentException;
+
+    /**
+     * Executes all the added operations in one transaction. If the 
+     * transaction fails, it is rolled back and none of the operations take 
+     * effect.
+     *
+     * @throws SpeedmentException     if the transaction failed
+     * @throws IllegalStateException  if this unit of work has already been 
+     *                                committed
+     */
+    void commit() throws SpeedmentException;
+}
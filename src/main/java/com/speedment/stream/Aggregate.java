@@ -0,0 +1,91 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.stream;
+
+import com.speedment.annotation.Api;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import java.util.Optional;
+import java.util.stream.Collector;
+
+/**
+ * An aggregate function that is applied to every group of entities created by
+ * a grouping collector such as
+ * {@link com.speedment.util.CollectorUtil#groupingBy(ReferenceFieldTrait, Aggregate)}.
+ * Since both the function and the field it operates on are known, the 
+ * aggregate can be rendered to SQL as a part of a {@code GROUP BY} query. 
+ * If that is not possible, the {@link #getCollector() collector} of the
+ * aggregate is used in memory instead.
+ * 
+ * @param <ENTITY>  the entity type
+ * @param <R>       the result type of the aggregate
+ * 
+ * @author  pemi
+ * @since   2.3
+ */
+@Api(version = "2.3")
+public interface Aggregate<ENTITY, R> {
+
+    /**
+     * The different types of aggregates.
+     */
+    enum Type {
+        COUNT       ("COUNT"),
+        LONG_SUM    ("SUM"),
+        DOUBLE_SUM  ("SUM"),
+        AVERAGE     ("AVG"),
+        MIN         ("MIN"),
+        MAX         ("MAX");
+        
+        private final String sqlFunction;
+
+        private Type(String sqlFunction) {
+            this.sqlFunction = sqlFunction;
+        }
+
+        /**
+         * Returns the name of the corresponding SQL aggregate function.
+         * 
+         * @return  the SQL function name
+         */
+        public String getSqlFunction() {
+            return sqlFunction;
+        }
+    }
+    
+    /**
+     * Returns the type of this aggregate.
+     * 
+     * @return  the type
+     */
+    Type getType();
+    
+    /**
+     * Returns the field that this aggregate operates on. For 
+     * {@link Type#COUNT}, an empty {@code Optional} is returned.
+     * 
+     * @return  the field or empty
+     */
+    Optional<ReferenceFieldTrait<ENTITY, ?, ?>> getField();
+    
+    /**
+     * Returns a collector that computes this aggregate in memory. Values that
+     * are {@code null} are ignored, just as they are by the database.
+     * 
+     * @return  the in-memory collector
+     */
+    Collector<ENTITY, ?, R> getCollector();
+}
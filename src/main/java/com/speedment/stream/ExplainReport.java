@@ -0,0 +1,82 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.stream;
+
+import com.speedment.annotation.Api;
+import com.speedment.stream.action.Action;
+import java.util.List;
+
+/**
+ * A report on how a stream from a manager is executed, as given to a 
+ * {@link StreamDecorator} created by 
+ * {@link StreamDecorator#explaining(java.util.function.Consumer)}. The report
+ * contains the SQL statement that is sent to the database, the actions of the
+ * stream pipeline that have been absorbed by that statement and the actions
+ * that are executed in the JVM.
+ * <p>
+ * A statement that selects every row of a table without any actions being
+ * absorbed by the database typically indicates a full table scan.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+public interface ExplainReport {
+
+    /**
+     * Returns the SQL statement that is sent to the database.
+     *
+     * @return the SQL statement
+     */
+    String getSql();
+
+    /**
+     * Returns the values that are bound to the parameters of the SQL 
+     * statement.
+     *
+     * @return the parameter values
+     */
+    List<?> getValues();
+
+    /**
+     * Returns the actions of the pipeline that have been rendered to SQL and
+     * thus are executed by the database. If the terminal operation has been
+     * rendered to SQL too, every action of the pipeline is returned.
+     *
+     * @return the actions executed by the database
+     */
+    List<Action<?, ?>> getDatabaseActions();
+
+    /**
+     * Returns the actions of the pipeline that are executed in the JVM.
+     *
+     * @return the actions executed in the JVM
+     */
+    List<Action<?, ?>> getJvmActions();
+
+    /**
+     * Returns the execution plan of the SQL statement as reported by the
+     * database itself, one row of the {@code EXPLAIN} output per element. The
+     * plan is queried from the database each time this method is invoked. If
+     * the database does not support {@code EXPLAIN} for the statement, an 
+     * empty list is returned.
+     *
+     * @return the execution plan of the database
+     */
+    List<String> getDatabasePlan();
+
+}
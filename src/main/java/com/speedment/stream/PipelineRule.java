@@ -0,0 +1,52 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.stream;
+
+import com.speedment.annotation.Api;
+
+/**
+ * A rewrite rule that is applied to a {@link Pipeline} before a terminal
+ * operation is executed. Rules are installed in the
+ * {@link com.speedment.component.PipelineOptimizerComponent} and are applied
+ * repeatedly, in installation order, until none of them changes the pipeline
+ * any more. A rule must therefore only report a change if it actually
+ * modified the pipeline, and it must never alter the result of the stream.
+ *
+ * @author pemi
+ * @since 2.3
+ */
+@Api(version = "2.3")
+@FunctionalInterface
+public interface PipelineRule {
+
+    /**
+     * Rewrites the provided pipeline in place.
+     * <p>
+     * The {@code orderSensitive} flag tells if the terminal operation that
+     * will be executed depends on the encounter order of the elements. If it
+     * does not (as for {@code count()}, {@code anyMatch()} or {@code sum()}),
+     * a rule may for an example discard actions that only rearrange the
+     * elements.
+     *
+     * @param pipeline        the pipeline to rewrite
+     * @param orderSensitive  if the terminal operation depends on the
+     *                        encounter order of the elements
+     * @return                {@code true} if the pipeline was changed
+     */
+    boolean apply(Pipeline pipeline, boolean orderSensitive);
+
+}
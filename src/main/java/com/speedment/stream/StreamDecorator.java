@@ -18,8 +18,13 @@ package com.speedment.stream;
 
 import com.speedment.annotation.Api;
 import com.speedment.field.predicate.SpeedmentPredicate;
+import com.speedment.field.trait.ReferenceFieldTrait;
 import com.speedment.internal.core.stream.ComposedStreamDecorator;
 import com.speedment.internal.util.Cast;
+import static java.util.Objects.requireNonNull;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -96,6 +101,104 @@ public interface StreamDecorator {
         return hasParallelStrategy;
     }
 
+    /**
+     * Returns the number of rows to read in each query if the table shall be
+     * read in primary key order using keyset pagination, or an empty 
+     * {@code OptionalInt} if the table shall be read using a single query 
+     * (which is the default).
+     *
+     * @return  the number of rows per query or empty
+     * @see     #keysetPagination(int)
+     */
+    default OptionalInt getKeysetChunkSize() {
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Returns the number of rows to fetch from the database at a time, or an
+     * empty {@code OptionalInt} if the fetch size of the manager shall be used
+     * (which is the default).
+     *
+     * @return  the fetch size or empty
+     * @see     #fetchSize(int)
+     */
+    default OptionalInt getFetchSize() {
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Returns the maximum number of rows that a separate reader thread may
+     * read and map ahead of the consumer of the stream, or an empty 
+     * {@code OptionalInt} if rows shall be read by the consumer itself (which
+     * is the default).
+     *
+     * @return  the read-ahead buffer size or empty
+     * @see     #readAhead(int)
+     */
+    default OptionalInt getReadAheadSize() {
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Returns the number of seconds that the query of the stream may execute
+     * before it is cancelled, or an empty {@code OptionalInt} if there is no
+     * limit (which is the default).
+     *
+     * @return  the query timeout in seconds or empty
+     * @see     #queryTimeout(int)
+     */
+    default OptionalInt getQueryTimeout() {
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Method to be called with a report on how a stream is executed, before
+     * the SQL statement is sent to the database.
+     *
+     * @param report  the report
+     * @see           #explaining(Consumer)
+     */
+    default void explain(ExplainReport report) {
+        // Do nothing by default
+    }
+
+    /**
+     * Returns {@code true} if this decorator wants reports on how streams are
+     * executed through {@link #explain(ExplainReport)}. If not (which is the 
+     * default), no reports are created.
+     *
+     * @return  if reports shall be passed to this decorator
+     * @see     #explaining(Consumer)
+     */
+    default boolean isExplaining() {
+        return false;
+    }
+
+    /**
+     * Returns the number of key ranges that the table shall be split into if
+     * it shall be read using concurrent queries, or an empty 
+     * {@code OptionalInt} if the table shall be read using a single query 
+     * (which is the default).
+     *
+     * @return  the number of partitions or empty
+     * @see     #rangePartitioned(int)
+     */
+    default OptionalInt getRangePartitions() {
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Returns the numeric field that the key ranges of a range partitioned
+     * stream are based on, or an empty {@code Optional} if the primary key
+     * shall be used (which is the default).
+     *
+     * @return  the partition field or empty
+     * @see     #rangePartitioned(int, ReferenceFieldTrait)
+     */
+    default Optional<ReferenceFieldTrait<?, ?, ? extends Number>> getPartitionField() {
+        return Optional.empty();
+    }
+
     /**
      * A {@link StreamDecorator} that modifies the stream according to the
      * {@link ParallelStrategy#COMPUTE_INTENSITY_MEDIUM COMPUTE_INTENSITY_MEDIUM}
@@ -123,6 +226,183 @@ public interface StreamDecorator {
      */
     final static StreamDecorator COMPUTE_INTENSITY_EXTREAM = of(ParallelStrategy.COMPUTE_INTENSITY_EXTREME);
 
+    /**
+     * Returns a {@link StreamDecorator} that makes the stream read the table
+     * in primary key order, in chunks of the specified number of rows, using
+     * queries of the form {@code WHERE pk > ? ORDER BY pk LIMIT n}. Each chunk
+     * is read using a short-lived connection, so no connection is held while 
+     * the stream is consumed. The chunks are stitched together into a single
+     * stream.
+     * <p>
+     * This is intended for traversals of entire tables, such as exports. 
+     * Intermediate operations are applied in the JVM rather than being 
+     * rendered to SQL. If the table does not have a single primary key column
+     * or if the database type does not support {@code LIMIT}, the table is 
+     * read using a single query instead.
+     *
+     * @param chunkSize  the number of rows to read in each query
+     * @return           the decorator
+     */
+    static StreamDecorator keysetPagination(final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive, was " + chunkSize + ".");
+        }
+        return new StreamDecorator() {
+            @Override
+            public OptionalInt getKeysetChunkSize() {
+                return OptionalInt.of(chunkSize);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link StreamDecorator} that makes the stream fetch the 
+     * specified number of rows from the database at a time. The result set is
+     * then streamed in the way specified by
+     * {@link com.speedment.config.db.parameters.DbmsType#getResultSetStreamingMode()},
+     * so that the memory used by the stream does not depend on the number of
+     * rows in the result.
+     *
+     * @param fetchSize  the number of rows to fetch at a time
+     * @return           the decorator
+     */
+    static StreamDecorator fetchSize(final int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("The fetch size must be positive, was " + fetchSize + ".");
+        }
+        return new StreamDecorator() {
+            @Override
+            public OptionalInt getFetchSize() {
+                return OptionalInt.of(fetchSize);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link StreamDecorator} that makes the stream fetch rows from
+     * the result set and map them to entities on a dedicated reader thread,
+     * so that network waits and entity creation overlap with the processing 
+     * of the stream. The reader thread is at most the specified number of 
+     * rows ahead of the consumer. Closing the stream stops the reader thread.
+     *
+     * @param bufferSize  the maximum number of rows to read ahead
+     * @return            the decorator
+     */
+    static StreamDecorator readAhead(final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("The buffer size must be positive, was " + bufferSize + ".");
+        }
+        return new StreamDecorator() {
+            @Override
+            public OptionalInt getReadAheadSize() {
+                return OptionalInt.of(bufferSize);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link StreamDecorator} that makes the driver cancel the 
+     * query of the stream if it has not finished executing within the 
+     * specified number of seconds. A {@link com.speedment.exception.SpeedmentException}
+     * is then thrown by the stream.
+     *
+     * @param seconds  the query timeout in seconds
+     * @return         the decorator
+     * @see            java.sql.Statement#setQueryTimeout(int)
+     */
+    static StreamDecorator queryTimeout(final int seconds) {
+        if (seconds <= 0) {
+            throw new IllegalArgumentException("The query timeout must be positive, was " + seconds + ".");
+        }
+        return new StreamDecorator() {
+            @Override
+            public OptionalInt getQueryTimeout() {
+                return OptionalInt.of(seconds);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link StreamDecorator} that makes the stream read the table
+     * using the specified number of concurrent queries, each over a range of
+     * primary key values between the smallest and the largest key in the
+     * table. Every query uses its own connection and the returned stream is
+     * parallel, so that each worker thread drains its own queries.
+     * <p>
+     * Intermediate operations are applied in the JVM rather than being 
+     * rendered to SQL, and the elements are not returned in any particular
+     * order. If the table does not have a single numeric primary key column,
+     * the table is read using a single query instead.
+     *
+     * @param partitions  the number of key ranges
+     * @return            the decorator
+     */
+    static StreamDecorator rangePartitioned(final int partitions) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("The number of partitions must be positive, was " + partitions + ".");
+        }
+        return new StreamDecorator() {
+            @Override
+            public OptionalInt getRangePartitions() {
+                return OptionalInt.of(partitions);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link StreamDecorator} that makes the stream read the table
+     * using the specified number of concurrent queries, each over a range of
+     * values of the specified numeric field. Rows where the field is 
+     * {@code null} are read by a separate query. Otherwise, this works as
+     * {@link #rangePartitioned(int)}.
+     *
+     * @param partitions  the number of value ranges
+     * @param field       the numeric field to partition by
+     * @return            the decorator
+     */
+    static StreamDecorator rangePartitioned(final int partitions, final ReferenceFieldTrait<?, ?, ? extends Number> field) {
+        requireNonNull(field);
+        final StreamDecorator ranges = rangePartitioned(partitions);
+        return new StreamDecorator() {
+            @Override
+            public OptionalInt getRangePartitions() {
+                return ranges.getRangePartitions();
+            }
+
+            @Override
+            public Optional<ReferenceFieldTrait<?, ?, ? extends Number>> getPartitionField() {
+                return Optional.of(field);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@link StreamDecorator} that passes a report on how the stream
+     * is executed to the specified consumer. The report tells what SQL 
+     * statement is sent to the database and which parts of the stream that
+     * are executed by the database and by the JVM respectively.
+     * <p>
+     * <b>Example:</b>
+     * <code>users.stream(StreamDecorator.explaining(System.out::println))</code>
+     *
+     * @param consumer  the consumer of the reports
+     * @return          the decorator
+     */
+    static StreamDecorator explaining(final Consumer<ExplainReport> consumer) {
+        requireNonNull(consumer);
+        return new StreamDecorator() {
+            @Override
+            public void explain(ExplainReport report) {
+                consumer.accept(report);
+            }
+
+            @Override
+            public boolean isExplaining() {
+                return true;
+            }
+        };
+    }
+
     static StreamDecorator of(final ParallelStrategy parallelStrategy) {
         return new StreamDecorator() {
             @Override
@@ -18,8 +18,12 @@ package com.speedment.util;
 
 import com.speedment.annotation.Api;
 import com.speedment.encoder.JsonEncoder;
+import com.speedment.field.trait.ReferenceFieldTrait;
+import com.speedment.internal.core.stream.AggregateImpl;
+import com.speedment.internal.core.stream.GroupingCollectorImpl;
 import com.speedment.internal.logging.Logger;
 import com.speedment.internal.logging.LoggerManager;
+import com.speedment.stream.Aggregate;
 import com.speedment.stream.MapStream;
 import static com.speedment.util.NullUtil.requireNonNullElements;
 import static com.speedment.util.StaticClassUtil.instanceNotAllowed;
@@ -45,7 +49,10 @@ import java.util.function.Supplier;
 import java.util.stream.Collector;
 import static java.util.stream.Collector.Characteristics.CONCURRENT;
 import java.util.stream.Collectors;
+import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.reducing;
 import java.util.stream.Stream;
 
 /**
@@ -305,6 +312,176 @@ public final class CollectorUtil {
         }
     }
 
+    /**
+     * Returns a collector that groups the entities of the stream by the value
+     * of the specified field and applies the specified aggregate to each 
+     * group. When used on a stream from a Speedment manager, the operation is
+     * rendered as a single {@code GROUP BY} query if possible. Otherwise, the
+     * entities are grouped in memory.
+     * <p>
+     * <b>Example:</b>
+     * <code>orders.stream().collect(groupingBy(Order.STATUS, count()))</code>
+     * 
+     * @param <T>        the entity type
+     * @param <K>        the key type
+     * @param <R>        the aggregate result type
+     * @param field      the field to group by
+     * @param aggregate  the aggregate to apply to each group
+     * @return           a map from key to aggregate result
+     */
+    public static <T, K, R> Collector<T, ?, Map<K, R>> groupingBy(ReferenceFieldTrait<T, ?, K> field, Aggregate<T, R> aggregate) {
+        requireNonNull(field);
+        requireNonNull(aggregate);
+        @SuppressWarnings("unchecked")
+        final Function<List<Object>, K> keyMapper = values -> (K) values.get(0);
+        return new GroupingCollectorImpl<>(Collections.singletonList(field), keyMapper, aggregate);
+    }
+
+    /**
+     * Returns a collector that groups the entities of the stream by the values
+     * of the specified fields and applies the specified aggregate to each
+     * group. The keys of the resulting map are lists with the values of the
+     * fields in the specified order. When used on a stream from a Speedment 
+     * manager, the operation is rendered as a single {@code GROUP BY} query if
+     * possible. Otherwise, the entities are grouped in memory.
+     * 
+     * @param <T>        the entity type
+     * @param <R>        the aggregate result type
+     * @param fields     the fields to group by
+     * @param aggregate  the aggregate to apply to each group
+     * @return           a map from list of field values to aggregate result
+     */
+    public static <T, R> Collector<T, ?, Map<List<Object>, R>> groupingBy(List<? extends ReferenceFieldTrait<T, ?, ?>> fields, Aggregate<T, R> aggregate) {
+        requireNonNull(fields);
+        requireNonNull(aggregate);
+        return new GroupingCollectorImpl<>(fields, Collections::unmodifiableList, aggregate);
+    }
+
+    /**
+     * Returns an aggregate that counts the entities in each group, 
+     * corresponding to {@code COUNT(*)} in SQL.
+     * 
+     * @param <T>  the entity type
+     * @return     the aggregate
+     */
+    public static <T> Aggregate<T, Long> count() {
+        return new AggregateImpl<>(Aggregate.Type.COUNT, null, Collectors.counting());
+    }
+
+    /**
+     * Returns an aggregate that sums the non-null values of the specified 
+     * field as {@code long} values, corresponding to {@code SUM} in SQL. The
+     * sum of a group without non-null values is zero.
+     * 
+     * @param <T>    the entity type
+     * @param field  the field to sum
+     * @return       the aggregate
+     */
+    public static <T> Aggregate<T, Long> sumLong(ReferenceFieldTrait<T, ?, ? extends Number> field) {
+        requireNonNull(field);
+        return new AggregateImpl<>(Aggregate.Type.LONG_SUM, field, 
+            Collectors.summingLong(e -> {
+                final Number value = field.get(e);
+                return value == null ? 0L : value.longValue();
+            })
+        );
+    }
+
+    /**
+     * Returns an aggregate that sums the non-null values of the specified 
+     * field as {@code double} values, corresponding to {@code SUM} in SQL. The
+     * sum of a group without non-null values is zero.
+     * 
+     * @param <T>    the entity type
+     * @param field  the field to sum
+     * @return       the aggregate
+     */
+    public static <T> Aggregate<T, Double> sumDouble(ReferenceFieldTrait<T, ?, ? extends Number> field) {
+        requireNonNull(field);
+        return new AggregateImpl<>(Aggregate.Type.DOUBLE_SUM, field, 
+            Collectors.summingDouble(e -> {
+                final Number value = field.get(e);
+                return value == null ? 0d : value.doubleValue();
+            })
+        );
+    }
+
+    /**
+     * Returns an aggregate that computes the average of the non-null values of
+     * the specified field, corresponding to {@code AVG} in SQL. The average of
+     * a group without non-null values is zero.
+     * 
+     * @param <T>    the entity type
+     * @param field  the field to average
+     * @return       the aggregate
+     */
+    public static <T> Aggregate<T, Double> average(ReferenceFieldTrait<T, ?, ? extends Number> field) {
+        requireNonNull(field);
+        return new AggregateImpl<>(Aggregate.Type.AVERAGE, field, 
+            new CollectorImpl<T, double[], Double>(
+                () -> new double[2],
+                (a, e) -> {
+                    final Number value = field.get(e);
+                    if (value != null) {
+                        a[0] += value.doubleValue();
+                        a[1]++;
+                    }
+                },
+                (a, b) -> {
+                    a[0] += b[0];
+                    a[1] += b[1];
+                    return a;
+                },
+                a -> a[1] == 0 ? 0d : a[0] / a[1],
+                Collections.emptySet()
+            )
+        );
+    }
+
+    /**
+     * Returns an aggregate that finds the smallest non-null value of the 
+     * specified field, corresponding to {@code MIN} in SQL. If a group has
+     * no non-null values, the result is empty.
+     * 
+     * @param <T>    the entity type
+     * @param <V>    the value type
+     * @param field  the field to find the smallest value of
+     * @return       the aggregate
+     */
+    public static <T, V extends Comparable<? super V>> Aggregate<T, Optional<V>> min(ReferenceFieldTrait<T, ?, V> field) {
+        requireNonNull(field);
+        return new AggregateImpl<>(Aggregate.Type.MIN, field, 
+            collectingAndThen(
+                mapping(field::get, reducing(null, (V a, V b) -> 
+                    a == null ? b : b == null ? a : a.compareTo(b) <= 0 ? a : b
+                )),
+                Optional::ofNullable
+            )
+        );
+    }
+
+    /**
+     * Returns an aggregate that finds the largest non-null value of the 
+     * specified field, corresponding to {@code MAX} in SQL. If a group has
+     * no non-null values, the result is empty.
+     * 
+     * @param <T>    the entity type
+     * @param <V>    the value type
+     * @param field  the field to find the largest value of
+     * @return       the aggregate
+     */
+    public static <T, V extends Comparable<? super V>> Aggregate<T, Optional<V>> max(ReferenceFieldTrait<T, ?, V> field) {
+        requireNonNull(field);
+        return new AggregateImpl<>(Aggregate.Type.MAX, field, 
+            collectingAndThen(
+                mapping(field::get, reducing(null, (V a, V b) -> 
+                    a == null ? b : b == null ? a : a.compareTo(b) >= 0 ? a : b
+                )),
+                Optional::ofNullable
+            )
+        );
+    }
+
     /**
      * Simple implementation class for {@code Collector}.
      *
@@ -0,0 +1,90 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.code;
+
+import com.speedment.Speedment;
+import java.util.BitSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class AbstractBaseEntityTest {
+
+    @Test
+    public void testDirtyFields() {
+        final Person person = new Person();
+        assertTrue(person.dirtyFields_().isEmpty());
+
+        person.setName("Bob");
+        person.setAge(42);
+        person.setAge(43);
+        
+        final BitSet expected = new BitSet();
+        expected.set(1);
+        expected.set(2);
+        assertEquals(expected, person.dirtyFields_());
+
+        person.clearDirtyFields_();
+        assertTrue(person.dirtyFields_().isEmpty());
+    }
+
+    @Test
+    public void testDirtyFieldsIsCopy() {
+        final Person person = new Person();
+        person.dirtyFields_().set(0);
+        assertTrue(person.dirtyFields_().isEmpty());
+    }
+
+    @Test
+    public void testDoesNotTrackByDefault() {
+        assertFalse(new Person().tracksDirtyFields_());
+    }
+
+    private static final class Person extends AbstractBaseEntity<Person> {
+
+        private String name;
+        private int age;
+
+        public Person setName(String name) {
+            this.name = name;
+            setDirty_(1);
+            return this;
+        }
+
+        public Person setAge(int age) {
+            this.age = age;
+            setDirty_(2);
+            return this;
+        }
+
+        @Override
+        protected Speedment speedment() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Class<Person> entityClass() {
+            return Person.class;
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.config.dbms;
+
+import com.speedment.config.db.parameters.DbmsType;
+import com.speedment.config.db.parameters.InListBinding;
+import com.speedment.config.db.parameters.MultiRowInsertSupport;
+import com.speedment.config.db.parameters.ResultSetStreamingMode;
+import com.speedment.config.db.parameters.StatementCancellation;
+import com.speedment.config.db.parameters.UpsertSupport;
+import java.util.ArrayList;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class DbmsTypeImplTest {
+
+    private static final String SQL = "SELECT * FROM `t`";
+
+    @Test
+    public void testApplySkipLimitMySql() {
+        final DbmsType dbmsType = MySqlDbmsType.INSTANCE;
+        assertSkipLimit(dbmsType, SQL, emptyList(), 0, Long.MAX_VALUE);
+        assertSkipLimit(dbmsType, SQL + " LIMIT ?", asList(10L), 0, 10);
+        assertSkipLimit(dbmsType, SQL + " LIMIT ? OFFSET ?", asList(10L, 20L), 20, 10);
+        assertSkipLimit(dbmsType, SQL + " LIMIT ? OFFSET ?", asList(Long.MAX_VALUE, 20L), 20, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testApplySkipLimitPostgres() {
+        final DbmsType dbmsType = PostgresDbmsType.INSTANCE;
+        assertSkipLimit(dbmsType, SQL, emptyList(), 0, Long.MAX_VALUE);
+        assertSkipLimit(dbmsType, SQL + " LIMIT ?", asList(10L), 0, 10);
+        assertSkipLimit(dbmsType, SQL + " LIMIT ? OFFSET ?", asList(10L, 20L), 20, 10);
+        assertSkipLimit(dbmsType, SQL + " OFFSET ?", asList(20L), 20, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testResultSetStreamingMode() {
+        assertEquals(ResultSetStreamingMode.MIN_VALUE_FETCH_SIZE, MySqlDbmsType.INSTANCE.getResultSetStreamingMode());
+        assertEquals(ResultSetStreamingMode.MIN_VALUE_FETCH_SIZE, MariaDbDbmsType.INSTANCE.getResultSetStreamingMode());
+        assertEquals(ResultSetStreamingMode.NON_AUTO_COMMIT_CURSOR, PostgresDbmsType.INSTANCE.getResultSetStreamingMode());
+    }
+
+    @Test
+    public void testInListBinding() {
+        assertEquals(InListBinding.PARAMETER_LIST, MySqlDbmsType.INSTANCE.getInListBinding());
+        assertEquals(InListBinding.PARAMETER_LIST, MariaDbDbmsType.INSTANCE.getInListBinding());
+        assertEquals(InListBinding.ARRAY_PARAMETER, PostgresDbmsType.INSTANCE.getInListBinding());
+    }
+
+    @Test
+    public void testStatementCancellation() {
+        assertEquals(StatementCancellation.CANCEL, MySqlDbmsType.INSTANCE.getStatementCancellation());
+        assertEquals(StatementCancellation.CANCEL, MariaDbDbmsType.INSTANCE.getStatementCancellation());
+        assertEquals(StatementCancellation.CANCEL, PostgresDbmsType.INSTANCE.getStatementCancellation());
+    }
+
+    @Test
+    public void testMultiRowInsert() {
+        final String sql = "INSERT INTO `user` (`id`,`name`) VALUES (?,?)";
+        assertEquals(MultiRowInsertSupport.VALUES_LIST, MySqlDbmsType.INSTANCE.getMultiRowInsertSupport());
+        assertEquals(MultiRowInsertSupport.VALUES_LIST, PostgresDbmsType.INSTANCE.getMultiRowInsertSupport());
+        assertEquals(sql, MySqlDbmsType.INSTANCE.applyMultiRowInsert(sql, 1));
+        assertEquals(sql + ",(?,?),(?,?)", MySqlDbmsType.INSTANCE.applyMultiRowInsert(sql, 3));
+    }
+
+    @Test
+    public void testMultiRowUpsert() {
+        final String sql = "INSERT INTO `user` (`id`,`name`) VALUES (?,?) ON DUPLICATE KEY UPDATE `name` = VALUES(`name`)";
+        assertEquals(
+            "INSERT INTO `user` (`id`,`name`) VALUES (?,?),(?,?) ON DUPLICATE KEY UPDATE `name` = VALUES(`name`)", 
+            MySqlDbmsType.INSTANCE.applyMultiRowInsert(sql, 2)
+        );
+    }
+
+    @Test
+    public void testUpsert() {
+        assertEquals(UpsertSupport.ON_DUPLICATE_KEY_UPDATE, MySqlDbmsType.INSTANCE.getUpsertSupport());
+        assertEquals(UpsertSupport.ON_DUPLICATE_KEY_UPDATE, MariaDbDbmsType.INSTANCE.getUpsertSupport());
+        assertEquals(UpsertSupport.ON_CONFLICT_DO_UPDATE, PostgresDbmsType.INSTANCE.getUpsertSupport());
+        
+        assertEquals(
+            "INSERT INTO `user` (`name`) VALUES (?) ON DUPLICATE KEY UPDATE `name` = VALUES(`name`),`id` = LAST_INSERT_ID(`id`)",
+            MySqlDbmsType.INSTANCE.applyUpsert("INSERT INTO `user` (`name`) VALUES (?)", asList("id"), asList("name"), asList("id"))
+        );
+        assertEquals(
+            "INSERT INTO `user` (`id`) VALUES (?) ON DUPLICATE KEY UPDATE `id` = `id`",
+            MySqlDbmsType.INSTANCE.applyUpsert("INSERT INTO `user` (`id`) VALUES (?)", asList("id"), emptyList(), emptyList())
+        );
+        assertEquals(
+            "INSERT INTO \"user\" (\"id\",\"name\") VALUES (?,?) ON CONFLICT (\"id\") DO UPDATE SET \"name\" = EXCLUDED.\"name\"",
+            PostgresDbmsType.INSTANCE.applyUpsert("INSERT INTO \"user\" (\"id\",\"name\") VALUES (?,?)", asList("id"), asList("name"), emptyList())
+        );
+        assertEquals(
+            "INSERT INTO \"user\" (\"id\") VALUES (?) ON CONFLICT (\"id\") DO NOTHING",
+            PostgresDbmsType.INSTANCE.applyUpsert("INSERT INTO \"user\" (\"id\") VALUES (?)", asList("id"), emptyList(), emptyList())
+        );
+    }
+
+    private static void assertSkipLimit(DbmsType dbmsType, String expectedSql, List<Object> expectedValues, long skip, long limit) {
+        final List<Object> values = new ArrayList<>();
+        assertEquals(expectedSql, dbmsType.applySkipLimit(SQL, values, skip, limit));
+        assertEquals(expectedValues, values);
+    }
+
+}
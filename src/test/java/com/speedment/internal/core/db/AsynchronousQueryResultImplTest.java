@@ -0,0 +1,254 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.db;
+
+import com.speedment.config.db.parameters.ResultSetStreamingMode;
+import com.speedment.config.db.parameters.StatementCancellation;
+import com.speedment.exception.SpeedmentException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import static java.util.Arrays.asList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class AsynchronousQueryResultImplTest {
+
+    private static final long BLOCKING_SECONDS = 10;
+    private static final int READ_AHEAD_SIZE = 16;
+    private static final int ROWS = READ_AHEAD_SIZE / 4; // One batch
+
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final CountDownLatch cancelled = new CountDownLatch(1);
+    private final AtomicInteger rows = new AtomicInteger();
+    private final List<String> events = new ArrayList<>();
+
+    @Test(timeout = 5_000)
+    public void testCloseCancelsBlockedReadAhead() throws InterruptedException {
+        final AsynchronousQueryResultImpl<Integer> result = new AsynchronousQueryResultImpl<>(
+            "SELECT `id` FROM `user`",
+            Collections.emptyList(),
+            rs -> rows.get(),
+            this::newConnection,
+            ResultSetStreamingMode.FETCH_SIZE,
+            StatementCancellation.CANCEL
+        );
+        result.setFetchSize(100);
+        result.setReadAheadSize(READ_AHEAD_SIZE);
+
+        final Iterator<Integer> iterator = result.stream().iterator();
+        assertEquals(Integer.valueOf(1), iterator.next());
+
+        // Close while the reader thread is blocked waiting for the next row
+        blocked.await();
+        result.close();
+        assertEquals(0, cancelled.getCount());
+    }
+
+    @Test
+    public void testMinValueFetchSizeStreamsForwardOnly() {
+        final AsynchronousQueryResultImpl<Integer> result = newResult(ResultSetStreamingMode.MIN_VALUE_FETCH_SIZE, false);
+        result.setFetchSize(100);
+        assertEquals(0, result.stream().count());
+        result.close();
+
+        assertEquals(asList(
+            "prepareStatement forward only",
+            "setFetchSize " + Integer.MIN_VALUE,
+            "executeQuery",
+            "close"
+        ), events);
+    }
+
+    @Test
+    public void testNoFetchSizeIsNotStreamed() {
+        final AsynchronousQueryResultImpl<Integer> result = newResult(ResultSetStreamingMode.MIN_VALUE_FETCH_SIZE, false);
+        assertEquals(0, result.stream().count());
+        result.close();
+
+        assertEquals(asList("prepareStatement", "executeQuery", "close"), events);
+    }
+
+    @Test
+    public void testNonAutoCommitCursorRestoresAutoCommit() {
+        final AsynchronousQueryResultImpl<Integer> result = newResult(ResultSetStreamingMode.NON_AUTO_COMMIT_CURSOR, false);
+        result.setFetchSize(100);
+        assertEquals(0, result.stream().count());
+        result.close();
+
+        assertEquals(asList(
+            "setAutoCommit false",
+            "prepareStatement forward only",
+            "setFetchSize 100",
+            "executeQuery",
+            "rollback",
+            "setAutoCommit true",
+            "close"
+        ), events);
+    }
+
+    @Test
+    public void testNonAutoCommitCursorRestoresAutoCommitWhenQueryFails() {
+        final AsynchronousQueryResultImpl<Integer> result = newResult(ResultSetStreamingMode.NON_AUTO_COMMIT_CURSOR, true);
+        result.setFetchSize(100);
+        try {
+            result.stream();
+            fail("The query should fail.");
+        } catch (final SpeedmentException ex) {
+            assertEquals("42000", ((SQLException) ex.getCause()).getSQLState());
+        }
+
+        final List<String> expected = asList(
+            "setAutoCommit false",
+            "prepareStatement forward only",
+            "setFetchSize 100",
+            "executeQuery",
+            "rollback",
+            "setAutoCommit true",
+            "close"
+        );
+        assertEquals(expected, events);
+
+        // The connection is only released once
+        result.close();
+        assertEquals(expected, events);
+    }
+
+    private AsynchronousQueryResultImpl<Integer> newResult(ResultSetStreamingMode streamingMode, boolean failing) {
+        return new AsynchronousQueryResultImpl<>(
+            "SELECT `id` FROM `user`",
+            Collections.emptyList(),
+            rs -> 1,
+            () -> newRecordingConnection(failing),
+            streamingMode,
+            StatementCancellation.CLOSE
+        );
+    }
+
+    /**
+     * Returns a connection with an empty result set that records the calls 
+     * that change its state, and the execution of the query, in 
+     * {@link #events}.
+     * 
+     * @param failing  if the query shall fail
+     * @return         the connection
+     */
+    private Connection newRecordingConnection(boolean failing) {
+        final boolean[] autoCommit = {true};
+        final ResultSet rs = proxy(ResultSet.class, (p, m, a) -> defaultValue(m.getReturnType()));
+
+        final PreparedStatement ps = proxy(PreparedStatement.class, (p, m, a) -> {
+            switch (m.getName()) {
+                case "setFetchSize" : events.add("setFetchSize " + a[0]); return null;
+                case "executeQuery" : {
+                    events.add("executeQuery");
+                    if (failing) {
+                        throw new SQLException("Syntax error", "42000");
+                    }
+                    return rs;
+                }
+                default : return defaultValue(m.getReturnType());
+            }
+        });
+
+        return proxy(Connection.class, (p, m, a) -> {
+            switch (m.getName()) {
+                case "prepareStatement" : {
+                    final boolean forwardOnly = a.length == 3 
+                        && Integer.valueOf(ResultSet.TYPE_FORWARD_ONLY).equals(a[1])
+                        && Integer.valueOf(ResultSet.CONCUR_READ_ONLY).equals(a[2]);
+                    events.add(forwardOnly ? "prepareStatement forward only" : "prepareStatement");
+                    return ps;
+                }
+                case "getAutoCommit" : return autoCommit[0];
+                case "setAutoCommit" : {
+                    autoCommit[0] = (Boolean) a[0];
+                    events.add("setAutoCommit " + a[0]);
+                    return null;
+                }
+                case "rollback" : events.add("rollback"); return null;
+                case "close"    : events.add("close"); return null;
+                default : return defaultValue(m.getReturnType());
+            }
+        });
+    }
+
+    /**
+     * Returns a connection where the result set has {@link #ROWS} rows, after
+     * which {@code next()} blocks until the statement is cancelled.
+     * 
+     * @return  the connection
+     */
+    private Connection newConnection() {
+        final ResultSet rs = proxy(ResultSet.class, (p, m, a) -> {
+            if ("next".equals(m.getName())) {
+                if (rows.incrementAndGet() <= ROWS) {
+                    return true;
+                }
+                blocked.countDown();
+                if (cancelled.await(BLOCKING_SECONDS, TimeUnit.SECONDS)) {
+                    throw new SQLException("Statement cancelled", "57014");
+                }
+                return false;
+            }
+            return defaultValue(m.getReturnType());
+        });
+
+        final PreparedStatement ps = proxy(PreparedStatement.class, (p, m, a) -> {
+            switch (m.getName()) {
+                case "executeQuery" : return rs;
+                case "cancel"       : cancelled.countDown(); return null;
+                default : return defaultValue(m.getReturnType());
+            }
+        });
+
+        return proxy(Connection.class, (p, m, a) -> {
+            switch (m.getName()) {
+                case "prepareStatement" : return ps;
+                case "getAutoCommit"    : return true;
+                default : return defaultValue(m.getReturnType());
+            }
+        });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(AsynchronousQueryResultImplTest.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.field;
+
+import com.speedment.field.methods.TupleGetter;
+import com.speedment.internal.core.manager.sql.MockDatabase;
+import com.speedment.internal.core.stream.builder.action.reference.MapAction;
+import com.speedment.internal.core.stream.builder.streamterminator.StreamTerminatorUtil;
+import com.speedment.internal.field.BaseFieldTest;
+import com.speedment.internal.field.Entity;
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import com.speedment.util.tuple.Tuple2OfNullables;
+import com.speedment.util.tuple.Tuple3OfNullables;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import static java.util.Arrays.asList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class TupleGetterImplTest extends BaseFieldTest {
+
+    @Test
+    public void testApply() {
+        final TupleGetter<Entity, Tuple2OfNullables<Integer, String>> getter = TupleGetter.of(ID, NAME);
+        final List<Tuple2OfNullables<Integer, String>> tuples = entities.stream().map(getter).collect(toList());
+        for (int i = 0; i < entities.size(); i++) {
+            assertEquals(Optional.ofNullable(entities.get(i).getId()), tuples.get(i).get0());
+            assertEquals(Optional.ofNullable(entities.get(i).getName()), tuples.get(i).get1());
+        }
+    }
+
+    @Test
+    public void testGetFields() {
+        final TupleGetter<Entity, Tuple3OfNullables<String, Integer, String>> getter = TupleGetter.of(NAME, ID, NAME);
+        assertEquals(asList(NAME, ID, NAME), getter.getFields());
+    }
+
+    @Test
+    public void testRowMapper() throws SQLException {
+        final TupleGetter<Entity, Tuple2OfNullables<Integer, String>> getter = TupleGetter.of(ID, NAME);
+        final Function<ResultSet, Tuple2OfNullables<Integer, String>> mapper = getter.rowMapper(Arrays.<Function<ResultSet, ?>>asList(
+            rs -> get(rs, 1),
+            rs -> get(rs, 2)
+        ));
+
+        final ResultSet rs = MockDatabase.newResultSet(asList(asList(1, "a"), asList(2, null)));
+        rs.next();
+        final Tuple2OfNullables<Integer, String> first = mapper.apply(rs);
+        assertEquals(Optional.of(1), first.get0());
+        assertEquals(Optional.of("a"), first.get1());
+
+        rs.next();
+        final Tuple2OfNullables<Integer, String> second = mapper.apply(rs);
+        assertEquals(Optional.of(2), second.get0());
+        assertEquals(Optional.empty(), second.get1());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRowMapperWithWrongColumnCount() {
+        TupleGetter.of(ID, NAME).rowMapper(Collections.singletonList(rs -> null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooFewFields() {
+        new TupleGetterImpl<>(Collections.singletonList(ID));
+    }
+
+    @Test
+    public void testProjectedTuple() {
+        final TupleGetter<Entity, Tuple2OfNullables<Integer, String>> getter = TupleGetter.of(ID, NAME);
+        assertEquals(2, StreamTerminatorUtil.projectedTuple(new MapAction<>(getter)).get().getFields().size());
+        assertFalse(StreamTerminatorUtil.projectedTuple(new MapAction<>(NAME.getter())).isPresent());
+    }
+
+    private static Object get(ResultSet rs, int column) {
+        try {
+            return rs.getObject(column);
+        } catch (final SQLException sqle) {
+            throw new RuntimeException(sqle);
+        }
+    }
+}
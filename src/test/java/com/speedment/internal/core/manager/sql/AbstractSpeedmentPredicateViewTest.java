@@ -0,0 +1,97 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.internal.core.config.dbms.MySqlDbmsType;
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import com.speedment.internal.field.Entity;
+import com.speedment.internal.field.EntityImpl;
+import com.speedment.manager.SpeedmentPredicateView;
+import com.speedment.manager.SqlPredicateFragment;
+import static java.util.Arrays.asList;
+import java.util.Optional;
+import java.util.function.Predicate;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class AbstractSpeedmentPredicateViewTest {
+
+    private final SpeedmentPredicateView view = MySqlDbmsType.INSTANCE.getSpeedmentPredicateView();
+    private final String id = MySqlDbmsType.INSTANCE.getDatabaseNamingConvention().fullNameOf(Entity.Identifier.ID);
+    private final String name = MySqlDbmsType.INSTANCE.getDatabaseNamingConvention().fullNameOf(Entity.Identifier.NAME);
+
+    @Test
+    public void testOr() {
+        final SqlPredicateFragment fragment = transform(ID.equal(1).or(ID.equal(2))).get();
+        assertEquals("((" + id + " = ?) OR (" + id + " = ?))", fragment.getSql());
+        assertEquals(asList(1, 2), fragment.objects().collect(toList()));
+    }
+
+    @Test
+    public void testNested() {
+        final SqlPredicateFragment fragment = transform(ID.equal(1).and(NAME.equal("a")).or(ID.equal(2))).get();
+        assertEquals("(((" + id + " = ?) AND (" + name + " = ?)) OR (" + id + " = ?))", fragment.getSql());
+        assertEquals(asList(1, "a", 2), fragment.objects().collect(toList()));
+    }
+
+    @Test
+    public void testNegated() {
+        final SqlPredicateFragment fragment = transform(ID.equal(1).or(ID.equal(2)).negate()).get();
+        assertEquals("(NOT COALESCE(((" + id + " = ?) OR (" + id + " = ?)), FALSE))", fragment.getSql());
+        assertEquals(asList(1, 2), fragment.objects().collect(toList()));
+    }
+
+    @Test
+    public void testPartial() {
+        final Predicate<Entity> lambda = e -> e.getId() > 1;
+        
+        // A superset is rendered for an AND with an unknown part
+        final SqlPredicateFragment fragment = transform(ID.equal(1).and(lambda).or(ID.equal(2))).get();
+        assertEquals("(((" + id + " = ?)) OR (" + id + " = ?))", fragment.getSql());
+        
+        // A superset of an OR combination or a negated superset is not useful
+        assertFalse(transform(ID.equal(1).or(lambda)).isPresent());
+        assertFalse(transform(ID.equal(1).and(lambda).negate()).isPresent());
+    }
+
+    @Test
+    public void testNegatedCombinedTest() {
+        final Predicate<Entity> predicate = ID.equal(1).or(ID.equal(2));
+        final Entity one = new EntityImpl(1, "a");
+        final Entity three = new EntityImpl(3, "c");
+        
+        assertTrue(predicate.test(one));
+        assertFalse(predicate.test(three));
+        
+        final Predicate<Entity> negated = predicate.negate();
+        assertFalse(negated.test(one));
+        assertTrue(negated.test(three));
+    }
+
+    private Optional<SqlPredicateFragment> transform(Predicate<Entity> predicate) {
+        return view.transform(predicate, view::transform);
+    }
+
+}
@@ -0,0 +1,534 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.component.connectionpool.PoolableConnection;
+import com.speedment.config.db.mapper.identity.IntegerIdentityMapper;
+import com.speedment.config.db.parameters.DbmsType;
+import com.speedment.config.db.parameters.MultiRowInsertSupport;
+import com.speedment.config.db.parameters.UpsertSupport;
+import com.speedment.field.ComparableField;
+import com.speedment.field.FieldIdentifier;
+import com.speedment.internal.core.config.dbms.MySqlDbmsType;
+import com.speedment.internal.core.field.ComparableFieldImpl;
+import com.speedment.internal.core.platform.component.impl.ConnectionPoolComponentImpl;
+import com.speedment.stream.StreamDecorator;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import static java.util.Arrays.asList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.LongStream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class AbstractSqlManagerTest extends UserModel {
+
+    private static final String SELECT = "SELECT `id`,`name`,`age`,`score` FROM `mySchema`.`user`";
+
+    private static final String INSERT = "INSERT INTO `mySchema`.`user` (`name`,`age`,`score`) VALUES ";
+
+    private final List<List<Object>> rows = Arrays.asList(
+        asList(1L, "b", 20, 1.5),
+        asList(2L, "c", 20, 2.5)
+    );
+
+    @Test
+    public void testFindAnyByPrimaryKeyUsesCachedStatement() {
+        database.onQuery(e -> rows.subList(0, 1));
+        final Optional<User> first = users.findAny(User.ID, 1L);
+        final Optional<User> second = users.findAny(User.ID, 1L);
+
+        assertEquals(Long.valueOf(1L), first.get().getId());
+        assertEquals(Long.valueOf(1L), second.get().getId());
+        assertEquals(2, database.executions().size());
+        assertEquals(1, database.statements());
+        assertEquals(SELECT + " WHERE `id` = ? LIMIT ?", database.lastExecution().getSql());
+        assertEquals(asList(1L, 1L), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testFindAnyClosesStatementOfOtherPoolableConnections() {
+        speedment.put(new ConnectionPoolComponentImpl(speedment) {
+            @Override
+            public PoolableConnection getConnection(String uri, String user, String password) {
+                return otherPoolableConnection(database.newConnection());
+            }
+        });
+        database.onQuery(e -> rows.subList(0, 1));
+        users.findAny(User.ID, 1L);
+        users.findAny(User.ID, 1L);
+
+        assertEquals(2, database.statements());
+        assertEquals(0, database.openStatements());
+    }
+
+    @Test
+    public void testFindAnyByUniqueIndex() {
+        database.onQuery(e -> rows.subList(1, 2));
+        assertEquals(Long.valueOf(2L), users.findAny(User.NAME, "c").get().getId());
+        assertEquals(SELECT + " WHERE `name` = ? LIMIT ?", database.lastExecution().getSql());
+        assertEquals(asList("c", 1L), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testFindAnyWithoutMatch() {
+        assertFalse(users.findAny(User.ID, 3L).isPresent());
+        assertEquals(SELECT + " WHERE `id` = ? LIMIT ?", database.lastExecution().getSql());
+    }
+
+    @Test
+    public void testFindAnyByOtherColumnIsStreamed() {
+        database.onQuery(e -> rows);
+        assertEquals(Long.valueOf(1L), users.findAny(User.AGE, 20).get().getId());
+        assertEquals(SELECT + " WHERE (`mySchema`.`user`.`age` = ?) LIMIT ?", database.lastExecution().getSql());
+    }
+
+    @Test
+    public void testFindAnyByNullIsStreamed() {
+        database.onQuery(e -> Collections.emptyList());
+        assertFalse(users.findAny(User.NAME, null).isPresent());
+        assertEquals(SELECT + " WHERE (`mySchema`.`user`.`name` IS NULL) LIMIT ?", database.lastExecution().getSql());
+    }
+
+    @Test
+    public void testFindAllIsReadInChunks() {
+        final List<Long> ids = LongStream.range(0, 2_500).boxed().collect(toList());
+        final List<Long> values = new ArrayList<>(ids);
+        values.add(1L);
+        values.add(null);
+
+        database.onQuery(e -> e.getValues().stream()
+            .map(id -> Arrays.<Object>asList(id, "n" + id, 20, 1.5))
+            .collect(toList())
+        );
+
+        final Map<Long, User> found = users.findAll(User.ID, values);
+        assertEquals(ids.size(), found.size());
+        assertEquals("n1999", found.get(1_999L).getName());
+
+        // The chunks are read concurrently, so in any order
+        final List<MockDatabase.Execution> executions = new ArrayList<>(database.executions());
+        executions.sort(Comparator.comparing(e -> (Long) e.getValues().get(0)));
+        assertEquals(3, executions.size());
+        assertEquals(asList(1_000, 1_000, 500), executions.stream()
+            .map(e -> e.getValues().size())
+            .collect(toList())
+        );
+        assertEquals(ids.subList(2_000, 2_500), executions.get(2).getValues());
+        assertTrue(executions.get(2).getSql().startsWith(SELECT + " WHERE `id` IN (?, ?, "));
+    }
+
+    @Test
+    public void testFindAllChunksAreReadConcurrently() {
+        final List<Long> ids = LongStream.range(0, 2_500).boxed().collect(toList());
+        final CyclicBarrier allChunks = new CyclicBarrier(3);
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        database.onQuery(e -> {
+            threads.add(Thread.currentThread().getName());
+            try {
+                // Only returns if all three chunks are read at the same time
+                allChunks.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException | BrokenBarrierException | TimeoutException ex) {
+                throw new IllegalStateException("The chunks were not read concurrently.", ex);
+            }
+            return e.getValues().stream()
+                .map(id -> Arrays.<Object>asList(id, "n" + id, 20, 1.5))
+                .collect(toList());
+        });
+
+        assertEquals(ids.size(), users.findAll(User.ID, ids).size());
+        assertEquals(3, threads.size());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("speedment-find-all-")));
+    }
+
+    @Test
+    public void testFindAllWithoutValues() {
+        assertTrue(users.findAll(User.ID, Arrays.asList((Long) null)).isEmpty());
+        assertTrue(database.executions().isEmpty());
+    }
+
+    @Test
+    public void testPersistAllIsWrittenInChunks() {
+        final AtomicLong nextKey = new AtomicLong(10);
+        database.onGeneratedKeys(e -> {
+            final int count = e.isBatch() ? e.getRows().size() : e.getValues().size() / 3;
+            return LongStream.range(0, count).map(i -> nextKey.getAndIncrement()).boxed().collect(toList());
+        });
+
+        final List<User> entities = newUsers(5);
+        assertEquals(5, users.persistAll(entities, 2));
+
+        assertEquals(asList(
+            INSERT + "(?,?,?),(?,?,?)",
+            INSERT + "(?,?,?),(?,?,?)",
+            INSERT + "(?,?,?)"
+        ), database.executedSql());
+        assertEquals(asList("u0", 0, 1.0, "u1", 1, 1.0), database.executions().get(0).getValues());
+        assertEquals(asList("u4", 4, 1.0), database.lastExecution().getValues());
+        assertEquals(3, database.commits());
+        assertEquals(asList(10L, 11L, 12L, 13L, 14L), entities.stream().map(User::getId).collect(toList()));
+    }
+
+    @Test
+    public void testPersistAllSplitsChunksOnColumns() {
+        final List<User> entities = newUsers(3);
+        entities.get(1).setId(7L);
+        assertEquals(3, users.persistAll(entities, 10));
+
+        assertEquals(asList(
+            INSERT + "(?,?,?)",
+            "INSERT INTO `mySchema`.`user` (`id`,`name`,`age`,`score`) VALUES (?,?,?,?)",
+            INSERT + "(?,?,?)"
+        ), database.executedSql());
+        assertEquals(Long.valueOf(7L), entities.get(1).getId());
+    }
+
+    @Test
+    public void testPersistAllIgnoresMismatchedKeys() {
+        database.onGeneratedKeys(e -> asList(10L));
+        final List<User> entities = newUsers(2);
+        assertEquals(2, users.persistAll(entities, 2));
+
+        assertNull(entities.get(0).getId());
+        assertNull(entities.get(1).getId());
+    }
+
+    @Test
+    public void testPersistAllIsSplitOnParameterLimit() {
+        final AtomicLong nextKey = new AtomicLong(10);
+        database.onGeneratedKeys(e -> LongStream.range(0, e.getValues().size() / 3)
+            .map(i -> nextKey.getAndIncrement())
+            .boxed()
+            .collect(toList())
+        );
+
+        // 32 767 parameters fit 10 922 rows of three columns
+        final List<User> entities = newUsers(11_000);
+        assertEquals(11_000, users.persistAll(entities, 11_000));
+
+        final List<MockDatabase.Execution> executions = database.executions();
+        assertEquals(2, executions.size());
+        assertEquals(10_922 * 3, executions.get(0).getValues().size());
+        assertEquals(78 * 3, executions.get(1).getValues().size());
+        assertEquals(asList("u10922", 10_922, 1.0), executions.get(1).getValues().subList(0, 3));
+        assertEquals(1, database.commits());
+
+        assertEquals(Long.valueOf(10L), entities.get(0).getId());
+        assertEquals(Long.valueOf(10_932L), entities.get(10_922).getId());
+        assertEquals(Long.valueOf(11_009L), entities.get(10_999).getId());
+    }
+
+    @Test
+    public void testPersistAllIsSplitOnStatementLength() {
+        // Each row is estimated to 10 400 characters, so 100 rows fit in a
+        // statement of at most 1 MiB
+        final char[] name = new char[10_352];
+        Arrays.fill(name, 'x');
+        final List<User> entities = newUsers(150);
+        entities.forEach(u -> u.setName(new String(name)));
+        assertEquals(150, users.persistAll(entities, 150));
+
+        final List<MockDatabase.Execution> executions = database.executions();
+        assertEquals(2, executions.size());
+        assertEquals(100 * 3, executions.get(0).getValues().size());
+        assertEquals(50 * 3, executions.get(1).getValues().size());
+        assertEquals(1, database.commits());
+    }
+
+    @Test
+    public void testUpsertAllUpdatesOnDuplicateKey() {
+        database.onGeneratedKeys(e -> asList(10L, 11L));
+        final List<User> entities = newUsers(2);
+        assertEquals(2, users.upsertAll(entities, 10));
+
+        assertEquals(asList(INSERT + "(?,?,?),(?,?,?) ON DUPLICATE KEY UPDATE "
+            + "`name` = VALUES(`name`),`age` = VALUES(`age`),`score` = VALUES(`score`),`id` = LAST_INSERT_ID(`id`)"
+        ), database.executedSql());
+
+        // The keys of a batch can not be mapped back to the rows
+        assertNull(entities.get(0).getId());
+        assertNull(entities.get(1).getId());
+    }
+
+    @Test
+    public void testUpsertReadsBackLastInsertId() {
+        database.onGeneratedKeys(e -> asList(10L));
+        final User user = users.upsert(newUsers(1).get(0));
+
+        assertEquals(INSERT + "(?,?,?) ON DUPLICATE KEY UPDATE "
+            + "`name` = VALUES(`name`),`age` = VALUES(`age`),`score` = VALUES(`score`),`id` = LAST_INSERT_ID(`id`)",
+            database.lastExecution().getSql()
+        );
+        assertEquals(Long.valueOf(10L), user.getId());
+    }
+
+    @Test
+    public void testUpsertAllWithoutUpsertSupportUpdatesFirst() {
+        speedment.getDbmsHandlerComponent().install(withoutUpsertSupport(MySqlDbmsType.INSTANCE));
+        database.onUpdateCount(e -> e.getValues().contains(2L) ? 0 : 1);
+        database.onGeneratedKeys(e -> e.getSql().contains("(`id`,") 
+            ? asList((Long) e.getValues().get(0)) 
+            : asList(10L)
+        );
+
+        final List<User> entities = newUsers(3);
+        entities.get(0).setId(1L);
+        entities.get(1).setId(2L);
+        assertEquals(3, users.upsertAll(entities, 10));
+
+        final String update = "UPDATE `mySchema`.`user` SET `id` = ?,`name` = ?,`age` = ?,`score` = ? WHERE `id` = ?";
+        assertEquals(asList(
+            update,
+            update,
+            "INSERT INTO `mySchema`.`user` (`id`,`name`,`age`,`score`) VALUES (?,?,?,?)",
+            INSERT + "(?,?,?)"
+        ), database.executedSql());
+        assertEquals(asList(1L, "u0", 0, 1.0, 1L), database.executions().get(0).getValues());
+        assertEquals(Long.valueOf(2L), entities.get(1).getId());
+        assertEquals(Long.valueOf(10L), entities.get(2).getId());
+    }
+
+    @Test
+    public void testUpdateWritesChangedFields() {
+        final User user = new UserImpl(speedment, true).setId(1L).setName("a").setAge(20).setScore(1.5);
+        ((UserImpl) user).clearDirtyFields_();
+        users.update(user.setAge(21));
+
+        assertEquals("UPDATE `mySchema`.`user` SET `age` = ? WHERE `id` = ?", database.lastExecution().getSql());
+        assertEquals(asList(21, 1L), database.lastExecution().getValues());
+        assertTrue(((UserImpl) user).dirtyFields_().isEmpty());
+    }
+
+    @Test
+    public void testUpdateWithoutChangesIsSkipped() {
+        final User user = new UserImpl(speedment, true).setId(1L).setName("a").setAge(20).setScore(1.5);
+        ((UserImpl) user).clearDirtyFields_();
+        users.update(user);
+
+        assertTrue(database.executions().isEmpty());
+    }
+
+    @Test
+    public void testUpdateOfUntrackedEntityWritesAllFields() {
+        final User user = new UserImpl(speedment, false).setId(1L).setName("a").setAge(20).setScore(1.5);
+        users.update(user);
+
+        assertEquals(
+            "UPDATE `mySchema`.`user` SET `id` = ?,`name` = ?,`age` = ?,`score` = ? WHERE `id` = ?", 
+            database.lastExecution().getSql()
+        );
+        assertEquals(asList(1L, "a", 20, 1.5, 1L), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testUpdateByAndPredicate() {
+        users.update(User.AGE.greaterThan(20).and(User.NAME.equal("a")), asList(User.SCORE.setTo(2.0)));
+
+        assertEquals(
+            "UPDATE `mySchema`.`user` SET `score` = ? "
+            + "WHERE ((`mySchema`.`user`.`age` > ?) AND (`mySchema`.`user`.`name` = ?))",
+            database.lastExecution().getSql()
+        );
+        assertEquals(asList(2.0, 20, "a"), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testUpdateByOrPredicate() {
+        users.update(User.AGE.greaterThan(20).or(User.NAME.isNull()), asList(User.SCORE.setTo(2.0), User.NAME.setTo("x")));
+
+        assertEquals(
+            "UPDATE `mySchema`.`user` SET `score` = ?,`name` = ? "
+            + "WHERE ((`mySchema`.`user`.`age` > ?) OR (`mySchema`.`user`.`name` IS NULL))",
+            database.lastExecution().getSql()
+        );
+        assertEquals(asList(2.0, "x", 20), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testRemoveByNegatedPredicate() {
+        users.remove(User.AGE.greaterThan(20).negate());
+        assertEquals("DELETE FROM `mySchema`.`user` WHERE (`mySchema`.`user`.`age` <= ?)", database.lastExecution().getSql());
+        assertEquals(asList(20), database.lastExecution().getValues());
+
+        users.remove(User.AGE.between(1, 5).negate().and(User.ID.in(1L, 2L)));
+        assertEquals(
+            "DELETE FROM `mySchema`.`user` WHERE ((NOT((`mySchema`.`user`.`age` >= ? AND `mySchema`.`user`.`age` < ?))) "
+            + "AND (`mySchema`.`user`.`id` IN (?,?)))",
+            database.lastExecution().getSql()
+        );
+        assertEquals(asList(1, 5, 1L, 2L), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testUpdateByLambdaIsWrittenInOneTransaction() {
+        database.onQuery(e -> asList(
+            asList(1L, "b", 20, 1.5),
+            asList(2L, "c", 30, 2.5),
+            asList(3L, "d", 40, 3.5)
+        ));
+
+        assertEquals(2, users.update(u -> u.getAge() > 25, asList(User.SCORE.setTo(0.0))));
+
+        final List<MockDatabase.Execution> executions = database.executions();
+        assertEquals(2, executions.size());
+        assertEquals(SELECT, executions.get(0).getSql());
+        assertEquals("UPDATE `mySchema`.`user` SET `score` = ? WHERE `id` = ?", executions.get(1).getSql());
+        assertEquals(asList(asList(0.0, 2L), asList(0.0, 3L)), executions.get(1).getRows());
+        assertEquals(1, database.commits());
+    }
+
+    @Test
+    public void testRemoveByUnrenderablePredicateFallsBack() {
+        database.onQuery(e -> rows);
+        final ComparableField<User, Integer, Integer> unknown = new ComparableFieldImpl<>(
+            new UnknownIdentifier(), User::getAge, User::setAge, new IntegerIdentityMapper(), false
+        );
+
+        assertEquals(2, users.remove(User.ID.greaterThan(0L).and(unknown.equal(20))));
+
+        final List<MockDatabase.Execution> executions = database.executions();
+        assertEquals(2, executions.size());
+        assertEquals(SELECT, executions.get(0).getSql());
+        assertEquals("DELETE FROM `mySchema`.`user` WHERE `id` = ?", executions.get(1).getSql());
+        assertEquals(asList(asList(1L), asList(2L)), executions.get(1).getRows());
+        assertEquals(1, database.commits());
+    }
+
+    @Test
+    public void testRangePartitionsCoverLargeKeys() {
+        final List<Long> ids = asList(Long.MAX_VALUE - 10, Long.MAX_VALUE - 5, Long.MAX_VALUE - 1, Long.MAX_VALUE);
+        database.onQuery(e -> {
+            if (e.getSql().startsWith("SELECT MIN(")) {
+                return Collections.singletonList(asList(ids.get(0), ids.get(ids.size() - 1)));
+            }
+            final long from = (Long) e.getValues().get(0);
+            final long to = (Long) e.getValues().get(1);
+            final boolean inclusive = e.getSql().endsWith("<= ?");
+            return ids.stream()
+                .filter(id -> id >= from && (inclusive ? id <= to : id < to))
+                .map(id -> Arrays.<Object>asList(id, "n", 20, 1.5))
+                .collect(toList());
+        });
+
+        final List<Long> found = users.stream(StreamDecorator.rangePartitioned(3))
+            .map(User::getId)
+            .sorted()
+            .collect(toList());
+
+        assertEquals(ids, found);
+        assertTrue(database.executions().stream()
+            .filter(e -> e.getSql().endsWith("<= ?"))
+            .anyMatch(e -> e.getValues().get(1).equals(Long.MAX_VALUE))
+        );
+    }
+
+    private List<User> newUsers(int count) {
+        return LongStream.range(0, count)
+            .mapToObj(i -> new UserImpl(speedment, true)
+                .setName("u" + i)
+                .setAge((int) i)
+                .setScore(1.0)
+            )
+            .collect(toList());
+    }
+
+    private static DbmsType withoutUpsertSupport(DbmsType dbmsType) {
+        return DbmsType.builder()
+            .withName(dbmsType.getName())
+            .withDriverManagerName(dbmsType.getDriverManagerName())
+            .withDefaultPort(dbmsType.getDefaultPort())
+            .withDbmsNameMeaning(dbmsType.getDbmsNameMeaning())
+            .withDriverName(dbmsType.getDriverName())
+            .withDatabaseNamingConvention(dbmsType.getDatabaseNamingConvention())
+            .withDbmsMapper(dbmsType::makeDbmsHandler)
+            .withConnectionUrlGenerator(dbmsType.getConnectionUrlGenerator())
+            .withSpeedmentPredicateView(dbmsType.getSpeedmentPredicateView())
+            .withSkipLimitSupport(dbmsType.getSkipLimitSupport())
+            .withMultiRowInsertSupport(MultiRowInsertSupport.VALUES_LIST)
+            .withUpsertSupport(UpsertSupport.NONE)
+            .build();
+    }
+
+    /**
+     * Returns a {@link PoolableConnection} that does not cache statements and
+     * relies on the default {@link PoolableConnection#prepareCachedStatement}.
+     */
+    private static PoolableConnection otherPoolableConnection(Connection connection) {
+        return (PoolableConnection) Proxy.newProxyInstance(
+            AbstractSqlManagerTest.class.getClassLoader(),
+            new Class<?>[] {PoolableConnection.class},
+            (proxy, method, args) -> {
+                if ("prepareCachedStatement".equals(method.getName())) {
+                    return connection.prepareStatement((String) args[0]);
+                } else if (method.getDeclaringClass() == PoolableConnection.class) {
+                    return null;
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (final InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            }
+        );
+    }
+
+    private static final class UnknownIdentifier implements FieldIdentifier<User> {
+
+        @Override
+        public String columnName() {
+            return "unknown";
+        }
+
+        @Override
+        public String dbmsName() {
+            return UserModel.DBMS_NAME;
+        }
+
+        @Override
+        public String schemaName() {
+            return UserModel.SCHEMA_NAME;
+        }
+
+        @Override
+        public String tableName() {
+            return UserModel.TABLE_NAME;
+        }
+    }
+}
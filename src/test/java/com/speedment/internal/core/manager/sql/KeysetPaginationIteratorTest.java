@@ -0,0 +1,75 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class KeysetPaginationIteratorTest {
+
+    @Test
+    public void testChunks() {
+        final List<Integer> table = IntStream.range(0, 10).boxed().collect(toList());
+        final List<Optional<Object>> requestedKeys = new ArrayList<>();
+
+        final KeysetPaginationIterator<Integer> iterator = new KeysetPaginationIterator<>(4, i -> i, lastKey -> {
+            requestedKeys.add(lastKey);
+            return table.stream()
+                .filter(i -> !lastKey.isPresent() || i > (Integer) lastKey.get())
+                .limit(4)
+                .collect(toList());
+        });
+
+        final List<Integer> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+
+        assertEquals(table, result);
+        assertEquals(3, requestedKeys.size());
+        assertEquals(Optional.empty(), requestedKeys.get(0));
+        assertEquals(Optional.of(3), requestedKeys.get(1));
+        assertEquals(Optional.of(7), requestedKeys.get(2));
+    }
+
+    @Test
+    public void testExactMultiple() {
+        final List<Integer> table = IntStream.range(0, 8).boxed().collect(toList());
+        final List<Optional<Object>> requestedKeys = new ArrayList<>();
+
+        final KeysetPaginationIterator<Integer> iterator = new KeysetPaginationIterator<>(4, i -> i, lastKey -> {
+            requestedKeys.add(lastKey);
+            return table.stream()
+                .filter(i -> !lastKey.isPresent() || i > (Integer) lastKey.get())
+                .limit(4)
+                .collect(toList());
+        });
+
+        final List<Integer> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+
+        assertEquals(table, result);
+        assertEquals(3, requestedKeys.size());
+    }
+}
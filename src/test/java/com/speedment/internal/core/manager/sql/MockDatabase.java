@@ -0,0 +1,400 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An in-memory stand-in for a JDBC driver that records every statement that
+ * is executed on its connections, so that tests can assert the SQL and the
+ * values that are sent to the database. The rows of queries, the generated
+ * keys of inserts and failures are given by the test.
+ *
+ * @author pemi
+ */
+public final class MockDatabase {
+
+    private final List<Execution> executions;
+    private final List<String> arrayTypes;
+    private final AtomicInteger commits;
+    private final AtomicInteger rollbacks;
+    private final AtomicInteger connections;
+    private final AtomicInteger statements;
+    private final AtomicInteger openStatements;
+
+    private volatile Function<Execution, List<List<Object>>> queryResult;
+    private volatile Function<Execution, List<Long>> generatedKeys;
+    private volatile Function<Execution, Integer> updateCount;
+    private volatile Predicate<String> failing;
+    private volatile String failureState;
+
+    public MockDatabase() {
+        this.executions   = new CopyOnWriteArrayList<>();
+        this.arrayTypes   = new CopyOnWriteArrayList<>();
+        this.commits      = new AtomicInteger();
+        this.rollbacks    = new AtomicInteger();
+        this.connections  = new AtomicInteger();
+        this.statements   = new AtomicInteger();
+        this.openStatements = new AtomicInteger();
+        this.queryResult   = e -> Collections.emptyList();
+        this.generatedKeys = e -> Collections.emptyList();
+        this.updateCount   = e -> 1;
+        this.failing       = sql -> false;
+    }
+
+    /**
+     * Sets the rows that are returned by queries. Each row is a list of the
+     * column values.
+     *
+     * @param queryResult  the rows of a query
+     * @return             this database
+     */
+    public MockDatabase onQuery(Function<Execution, List<List<Object>>> queryResult) {
+        this.queryResult = queryResult;
+        return this;
+    }
+
+    /**
+     * Sets the keys that are returned as generated by inserts.
+     *
+     * @param generatedKeys  the keys of an insert
+     * @return               this database
+     */
+    public MockDatabase onGeneratedKeys(Function<Execution, List<Long>> generatedKeys) {
+        this.generatedKeys = generatedKeys;
+        return this;
+    }
+
+    /**
+     * Sets the number of rows that are affected by an update.
+     *
+     * @param updateCount  the number of affected rows of an update
+     * @return             this database
+     */
+    public MockDatabase onUpdateCount(Function<Execution, Integer> updateCount) {
+        this.updateCount = updateCount;
+        return this;
+    }
+
+    /**
+     * Makes the execution of any statement with SQL that matches the provided
+     * predicate fail with an {@code SQLException} with the given SQL state.
+     *
+     * @param failing   the SQL to fail
+     * @param sqlState  the SQL state of the exception
+     * @return          this database
+     */
+    public MockDatabase failOn(Predicate<String> failing, String sqlState) {
+        this.failing = failing;
+        this.failureState = sqlState;
+        return this;
+    }
+
+    public List<Execution> executions() {
+        return new ArrayList<>(executions);
+    }
+
+    public List<String> executedSql() {
+        return executions.stream().map(Execution::getSql).collect(toList());
+    }
+
+    public Execution lastExecution() {
+        return executions.get(executions.size() - 1);
+    }
+
+    public List<String> arrayTypes() {
+        return new ArrayList<>(arrayTypes);
+    }
+
+    public int commits() {
+        return commits.get();
+    }
+
+    public int rollbacks() {
+        return rollbacks.get();
+    }
+
+    public int connections() {
+        return connections.get();
+    }
+
+    public int statements() {
+        return statements.get();
+    }
+
+    public int openStatements() {
+        return openStatements.get();
+    }
+
+    public void clear() {
+        executions.clear();
+        arrayTypes.clear();
+        commits.set(0);
+        rollbacks.set(0);
+        statements.set(0);
+        openStatements.set(0);
+    }
+
+    public Connection newConnection() {
+        connections.incrementAndGet();
+        final boolean[] autoCommit = {true};
+        final boolean[] closed = {false};
+        return proxy(Connection.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "prepareStatement" : {
+                    final boolean keys = args.length == 2 && Integer.valueOf(Statement.RETURN_GENERATED_KEYS).equals(args[1]);
+                    return newStatement((String) args[0], keys);
+                }
+                case "setAutoCommit" : autoCommit[0] = (Boolean) args[0]; return null;
+                case "getAutoCommit" : return autoCommit[0];
+                case "commit"        : commits.incrementAndGet(); return null;
+                case "rollback"      : rollbacks.incrementAndGet(); return null;
+                case "close"         : closed[0] = true; return null;
+                case "isClosed"      : return closed[0];
+                case "isValid"       : return !closed[0];
+                case "createArrayOf" : return newArray((String) args[0], (Object[]) args[1]);
+                default : return defaultValue(proxy, method.getName(), method.getReturnType(), args);
+            }
+        });
+    }
+
+    private PreparedStatement newStatement(String sql, boolean returnGeneratedKeys) {
+        statements.incrementAndGet();
+        openStatements.incrementAndGet();
+        final List<Object> parameters = new ArrayList<>();
+        final List<List<Object>> batches = new ArrayList<>();
+        final List<Long> keys = new ArrayList<>();
+        final boolean[] closed = {false};
+
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            final String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer
+                && !"setFetchSize".equals(name) && !"setQueryTimeout".equals(name)) {
+                final int index = (Integer) args[0];
+                while (parameters.size() < index) {
+                    parameters.add(null);
+                }
+                parameters.set(index - 1, "setNull".equals(name) ? null : args[1]);
+                return null;
+            }
+
+            switch (name) {
+                case "addBatch" : {
+                    batches.add(new ArrayList<>(parameters));
+                    parameters.clear();
+                    return null;
+                }
+                case "executeQuery" : {
+                    final Execution execution = execute(sql, Collections.singletonList(new ArrayList<>(parameters)), false);
+                    return newResultSet(queryResult.apply(execution));
+                }
+                case "executeUpdate" : {
+                    final Execution execution = execute(sql, Collections.singletonList(new ArrayList<>(parameters)), false);
+                    keys.clear();
+                    if (returnGeneratedKeys) {
+                        keys.addAll(generatedKeys.apply(execution));
+                    }
+                    return updateCount.apply(execution);
+                }
+                case "executeBatch" : {
+                    final Execution execution = execute(sql, new ArrayList<>(batches), true);
+                    keys.clear();
+                    if (returnGeneratedKeys) {
+                        keys.addAll(generatedKeys.apply(execution));
+                    }
+                    final int[] counts = new int[batches.size()];
+                    Arrays.fill(counts, 1);
+                    batches.clear();
+                    return counts;
+                }
+                case "getGeneratedKeys" : {
+                    return newResultSet(keys.stream()
+                        .map(k -> Collections.<Object>singletonList(k))
+                        .collect(toList())
+                    );
+                }
+                case "close"    : {
+                    if (!closed[0]) {
+                        closed[0] = true;
+                        openStatements.decrementAndGet();
+                    }
+                    return null;
+                }
+                case "isClosed" : return closed[0];
+                default : return defaultValue(proxy, name, method.getReturnType(), args);
+            }
+        });
+    }
+
+    private Execution execute(String sql, List<List<Object>> parameters, boolean batch) throws SQLException {
+        final Execution execution = new Execution(sql, parameters, batch);
+        executions.add(execution);
+        if (failing.test(sql)) {
+            throw new SQLException("Failed to execute " + sql, failureState);
+        }
+        return execution;
+    }
+
+    private Array newArray(String typeName, Object[] elements) {
+        arrayTypes.add(typeName);
+        return proxy(Array.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getBaseTypeName" : return typeName;
+                case "getArray"        : return elements;
+                case "toString"        : return typeName + Arrays.toString(elements);
+                default : return defaultValue(proxy, method.getName(), method.getReturnType(), args);
+            }
+        });
+    }
+
+    /**
+     * Creates a result set over the provided rows.
+     *
+     * @param rows  the rows, each as a list of column values
+     * @return      the result set
+     */
+    public static ResultSet newResultSet(List<List<Object>> rows) {
+        final int[] row = {-1};
+        final boolean[] wasNull = {false};
+        final boolean[] closed = {false};
+
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            final String name = method.getName();
+            switch (name) {
+                case "next"     : return ++row[0] < rows.size();
+                case "wasNull"  : return wasNull[0];
+                case "close"    : closed[0] = true; return null;
+                case "isClosed" : return closed[0];
+                case "getMetaData" : {
+                    final int columns = rows.isEmpty() ? 0 : rows.get(0).size();
+                    return proxy(ResultSetMetaData.class, (p, m, a) ->
+                        "getColumnCount".equals(m.getName()) ? columns
+                            : defaultValue(p, m.getName(), m.getReturnType(), a)
+                    );
+                }
+                default : break;
+            }
+
+            if (name.startsWith("get") && args != null && args.length == 1 && args[0] instanceof Integer) {
+                final Object value = rows.get(row[0]).get((Integer) args[0] - 1);
+                wasNull[0] = value == null;
+                return convert(value, method.getReturnType());
+            }
+
+            return defaultValue(proxy, name, method.getReturnType(), args);
+        });
+    }
+
+    private static Object convert(Object value, Class<?> type) {
+        if (value == null) {
+            return type.isPrimitive() ? defaultValue(null, "", type, null) : null;
+        }
+        if (value instanceof Number) {
+            final Number number = (Number) value;
+            if (type == int.class || type == Integer.class) return number.intValue();
+            if (type == long.class || type == Long.class) return number.longValue();
+            if (type == double.class || type == Double.class) return number.doubleValue();
+            if (type == float.class || type == Float.class) return number.floatValue();
+            if (type == short.class || type == Short.class) return number.shortValue();
+            if (type == byte.class || type == Byte.class) return number.byteValue();
+            if (type == BigDecimal.class) return new BigDecimal(number.toString());
+            if (type == boolean.class || type == Boolean.class) return number.intValue() != 0;
+        }
+        if (type == String.class) {
+            return String.valueOf(value);
+        }
+        return value;
+    }
+
+    private static Object defaultValue(Object proxy, String name, Class<?> type, Object[] args) {
+        switch (name) {
+            case "hashCode" : return System.identityHashCode(proxy);
+            case "equals"   : return proxy == args[0];
+            case "toString" : return "Mock" + (proxy == null ? "" : proxy.getClass().getInterfaces()[0].getSimpleName());
+            default : break;
+        }
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0d;
+        if (type == float.class) return 0f;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(MockDatabase.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    /**
+     * A statement that has been executed, with the values of its parameters.
+     * A batch has one list of values for each row.
+     */
+    public static final class Execution {
+
+        private final String sql;
+        private final List<List<Object>> rows;
+        private final boolean batch;
+
+        private Execution(String sql, List<List<Object>> rows, boolean batch) {
+            this.sql = sql;
+            this.rows = rows;
+            this.batch = batch;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public List<Object> getValues() {
+            return rows.get(0);
+        }
+
+        public List<List<Object>> getRows() {
+            return rows;
+        }
+
+        public boolean isBatch() {
+            return batch;
+        }
+
+        @Override
+        public String toString() {
+            return sql + " <- " + rows;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.internal.core.config.dbms.PostgresDbmsType;
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.Arrays;
+import static java.util.Arrays.asList;
+import java.util.List;
+import java.util.Map;
+import static java.util.stream.Collectors.toList;
+import java.util.stream.LongStream;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests of an {@link AbstractSqlManager} for a PostgreSQL database.
+ *
+ * @author pemi
+ */
+public class PostgresSqlManagerTest extends UserModel {
+
+    private static final String SELECT = "SELECT \"id\",\"name\",\"age\",\"score\" FROM \"mySchema\".\"user\"";
+
+    @Override
+    protected String dbmsTypeName() {
+        return PostgresDbmsType.INSTANCE.getName();
+    }
+
+    @Test
+    public void testFindAllBindsTypedArray() throws SQLException {
+        database.onQuery(e -> asList(
+            Arrays.<Object>asList(1L, "a", 20, 1.5),
+            Arrays.<Object>asList(3L, "c", 30, 2.5)
+        ));
+
+        final Map<Long, User> found = users.findAll(User.ID, asList(1L, 2L, 3L, 2L));
+        assertEquals(2, found.size());
+        assertEquals("c", found.get(3L).getName());
+
+        assertEquals(SELECT + " WHERE \"id\" = ANY(?)", database.lastExecution().getSql());
+        assertEquals(asList("bigint"), database.arrayTypes());
+
+        final Object parameter = database.lastExecution().getValues().get(0);
+        assertTrue(parameter instanceof Array);
+        assertArrayEquals(new Object[] {1L, 2L, 3L}, (Object[]) ((Array) parameter).getArray());
+    }
+
+    @Test
+    public void testFindAllIsReadInArrayChunks() {
+        final List<Long> ids = LongStream.range(0, 10_001).boxed().collect(toList());
+        users.findAll(User.NAME, ids.stream().map(String::valueOf).collect(toList()));
+
+        assertEquals(2, database.executions().size());
+        assertEquals(asList("varchar", "varchar"), database.arrayTypes());
+        assertEquals(asList(1, 10_000), database.executions().stream()
+            .map(e -> ((Object[]) arrayOf(e.getValues().get(0))).length)
+            .sorted()
+            .collect(toList())
+        );
+    }
+
+    @Test
+    public void testSkipIsRenderedAsOffset() {
+        users.stream().skip(1).collect(toList());
+        assertEquals(SELECT + " OFFSET ?", database.lastExecution().getSql());
+        assertEquals(asList(1L), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testUpsertAllMapsReturnedKeys() {
+        database.onGeneratedKeys(e -> asList(10L, 11L));
+        final List<User> entities = newUsers(2);
+        assertEquals(2, users.upsertAll(entities, 10));
+
+        assertEquals(
+            "INSERT INTO \"mySchema\".\"user\" (\"name\",\"age\",\"score\") VALUES (?,?,?),(?,?,?) "
+            + "ON CONFLICT (\"id\") DO UPDATE SET \"name\" = EXCLUDED.\"name\",\"age\" = EXCLUDED.\"age\",\"score\" = EXCLUDED.\"score\"",
+            database.lastExecution().getSql()
+        );
+        assertEquals(Long.valueOf(10L), entities.get(0).getId());
+        assertEquals(Long.valueOf(11L), entities.get(1).getId());
+    }
+
+    @Test
+    public void testUpsertAllIgnoresMissingKeys() {
+        // A row that is left alone by the database returns no key
+        database.onGeneratedKeys(e -> asList(10L));
+        final List<User> entities = newUsers(2);
+        assertEquals(2, users.upsertAll(entities, 10));
+
+        assertNull(entities.get(0).getId());
+        assertNull(entities.get(1).getId());
+    }
+
+    private List<User> newUsers(int count) {
+        return LongStream.range(0, count)
+            .mapToObj(i -> new UserImpl(speedment, true)
+                .setName("u" + i)
+                .setAge((int) i)
+                .setScore(1.0)
+            )
+            .collect(toList());
+    }
+
+    private static Object arrayOf(Object parameter) {
+        try {
+            return ((Array) parameter).getArray();
+        } catch (final SQLException sqle) {
+            throw new RuntimeException(sqle);
+        }
+    }
+}
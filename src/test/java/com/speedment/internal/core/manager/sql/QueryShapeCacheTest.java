@@ -0,0 +1,92 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.internal.core.config.dbms.MySqlDbmsType;
+import com.speedment.internal.field.Entity;
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import com.speedment.manager.SpeedmentPredicateView;
+import java.util.ArrayList;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import java.util.List;
+import java.util.function.Predicate;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class QueryShapeCacheTest {
+
+    private final SpeedmentPredicateView view = MySqlDbmsType.INSTANCE.getSpeedmentPredicateView();
+    private final String id = MySqlDbmsType.INSTANCE.getDatabaseNamingConvention().fullNameOf(Entity.Identifier.ID);
+    private final QueryShapeCache cache = new QueryShapeCache(2);
+
+    @Test
+    public void testSameShape() {
+        final List<Object> first = new ArrayList<>();
+        final List<Object> second = new ArrayList<>();
+        
+        final String sql = render(ID.equal(1).or(ID.greaterThan(2)), first);
+        assertEquals(sql, render(ID.equal(3).or(ID.greaterThan(4)), second));
+        assertEquals("((" + id + " = ?) OR (" + id + " > ?))", sql);
+        assertEquals(asList(1, 2), first);
+        assertEquals(asList(3, 4), second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testDifferentShape() {
+        final List<Object> values = new ArrayList<>();
+        
+        render(ID.in(1, 2), values);
+        render(ID.in(1, 2, 3), values);
+        render(ID.notIn(4, 5), values);
+        assertEquals(asList(1, 2, 1, 2, 3, 4, 5), values);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testPartial() {
+        final Predicate<Entity> lambda = e -> e.getId() > 1;
+        final List<Object> values = new ArrayList<>();
+        
+        final String sql = render(ID.equal(1).and(lambda).and(NAME.equal("a")), values);
+        assertEquals(sql, render(ID.equal(2).and(lambda).and(NAME.equal("b")), values));
+        assertEquals(asList(1, "a", 2, "b"), values);
+        assertEquals("", render(ID.equal(1).or(lambda), values));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @SuppressWarnings("unchecked")
+    private String render(Predicate<Entity> predicate, List<Object> values) {
+        return cache.render(
+            view, 
+            name -> (TypeMapper<Object, Object>) (TypeMapper<?, ?>) (name.equals("id") ? ID.typeMapper() : NAME.typeMapper()), 
+            singletonList(predicate), 
+            values
+        );
+    }
+
+}
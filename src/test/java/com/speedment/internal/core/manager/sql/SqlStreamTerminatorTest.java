@@ -0,0 +1,568 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.field.ComparableField;
+import com.speedment.field.methods.ToDoubleFieldGetter;
+import com.speedment.field.methods.ToIntFieldGetter;
+import com.speedment.field.methods.ToLongFieldGetter;
+import com.speedment.field.methods.TupleGetter;
+import com.speedment.internal.core.field.ComparableFieldImpl;
+import com.speedment.stream.ExplainReport;
+import com.speedment.stream.StreamDecorator;
+import com.speedment.util.CollectorUtil;
+import com.speedment.util.tuple.Tuple2OfNullables;
+import com.speedment.util.tuple.Tuple3OfNullables;
+import java.util.ArrayList;
+import java.util.Arrays;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class SqlStreamTerminatorTest extends UserModel {
+
+    private static final String SELECT = "SELECT `id`,`name`,`age`,`score` FROM `mySchema`.`user`";
+
+    private final List<List<Object>> rows = Arrays.asList(
+        asList(1L, "b", 20, 1.5),
+        asList(2L, null, 30, 2.5),
+        asList(3L, "a", 40, 3.5)
+    );
+
+    @Before
+    public void setUp() {
+        database.onQuery(e -> rows);
+    }
+
+    @Test
+    public void testSortedIsRenderedAsOrderBy() {
+        users.stream()
+            .filter(User.AGE.greaterThan(18))
+            .sorted(User.NAME.comparator().thenComparing(User.AGE.comparator().reversed()))
+            .collect(toList());
+
+        assertEquals(
+            SELECT + " WHERE (`mySchema`.`user`.`age` > ?)"
+            + " ORDER BY `mySchema`.`user`.`name` ASC, `mySchema`.`user`.`age` DESC",
+            database.lastExecution().getSql()
+        );
+        assertEquals(asList(18), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testSortedNullsFirstIsRenderedAsOrderBy() {
+        users.stream().sorted(User.NAME.comparatorNullFieldsFirst()).collect(toList());
+        assertEquals(
+            SELECT + " ORDER BY `mySchema`.`user`.`name` IS NULL DESC, `mySchema`.`user`.`name` ASC",
+            database.lastExecution().getSql()
+        );
+    }
+
+    @Test
+    public void testSortedWithOtherComparatorIsNotRendered() {
+        final List<Long> ids = users.stream()
+            .sorted(Comparator.comparing(User::getAge).reversed())
+            .map(User::getId)
+            .collect(toList());
+
+        assertEquals(SELECT, database.lastExecution().getSql());
+        assertEquals(asList(3L, 2L, 1L), ids);
+    }
+
+    @Test
+    public void testSortedByMappedFieldIsNotRendered() {
+        final ComparableField<User, Integer, Integer> negatedAge = new ComparableFieldImpl<>(
+            User.Identifier.AGE, User::getAge, User::setAge, new NegatingMapper(), false
+        );
+
+        final List<Long> ids = users.stream()
+            .sorted(negatedAge.comparator())
+            .map(User::getId)
+            .collect(toList());
+
+        assertEquals(SELECT, database.lastExecution().getSql());
+        assertEquals(asList(1L, 2L, 3L), ids);
+
+        final Optional<User> first = users.stream()
+            .sorted(negatedAge.comparator().reversed())
+            .findFirst();
+
+        assertEquals(SELECT, database.lastExecution().getSql());
+        assertEquals(Long.valueOf(3L), first.get().getId());
+    }
+
+    @Test
+    public void testFilteredCountIsRenderedAsCountWhere() {
+        database.onQuery(e -> asList(asList(7L)));
+        final long count = users.stream()
+            .filter(User.AGE.greaterThan(18))
+            .filter(User.NAME.isNotNull())
+            .map(User::getName)
+            .count();
+
+        assertEquals(7L, count);
+        assertEquals(
+            "SELECT COUNT(*) FROM `mySchema`.`user` WHERE (`mySchema`.`user`.`age` > ?) AND (`mySchema`.`user`.`name` IS NOT NULL)",
+            database.lastExecution().getSql()
+        );
+        assertEquals(asList(18), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testCountWithOtherFilterIsNotRendered() {
+        final long count = users.stream()
+            .filter(User.AGE.greaterThan(18))
+            .filter(u -> u.getName() != null)
+            .count();
+
+        assertEquals(2L, count);
+        assertEquals(
+            SELECT + " WHERE (`mySchema`.`user`.`age` > ?)",
+            database.lastExecution().getSql()
+        );
+    }
+
+    @Test
+    public void testFindFirstIsRenderedAsLimitOne() {
+        final Optional<User> user = users.stream()
+            .filter(User.AGE.greaterThan(18))
+            .sorted(User.AGE.comparator())
+            .findFirst();
+
+        assertEquals(Long.valueOf(1L), user.get().getId());
+        assertEquals(
+            SELECT + " WHERE (`mySchema`.`user`.`age` > ?) ORDER BY `mySchema`.`user`.`age` ASC LIMIT ?",
+            database.lastExecution().getSql()
+        );
+        assertEquals(asList(18, 1L), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testSkipIsRenderedAsOffsetWithLimit() {
+        final List<User> found = users.stream().skip(1).collect(toList());
+
+        // The rows are skipped by the database only
+        assertEquals(rows.size(), found.size());
+        assertEquals(SELECT + " LIMIT ? OFFSET ?", database.lastExecution().getSql());
+        assertEquals(asList(Long.MAX_VALUE, 1L), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testSkipThenLimitIsRenderedAsLimitOffset() {
+        users.stream()
+            .filter(User.AGE.greaterThan(18))
+            .skip(1)
+            .limit(2)
+            .collect(toList());
+
+        assertEquals(
+            SELECT + " WHERE (`mySchema`.`user`.`age` > ?) LIMIT ? OFFSET ?",
+            database.lastExecution().getSql()
+        );
+        assertEquals(asList(18, 2L, 1L), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testLimitThenSkipIsRenderedAsReducedLimit() {
+        users.stream().limit(3).skip(1).collect(toList());
+        assertEquals(SELECT + " LIMIT ? OFFSET ?", database.lastExecution().getSql());
+        assertEquals(asList(2L, 1L), database.lastExecution().getValues());
+
+        users.stream().limit(1).skip(2).collect(toList());
+        assertEquals(SELECT + " LIMIT ? OFFSET ?", database.lastExecution().getSql());
+        assertEquals(asList(0L, 2L), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testFindFirstAfterOtherFilterIsNotLimited() {
+        final Optional<User> user = users.stream()
+            .filter(User.AGE.greaterThan(18))
+            .filter(u -> u.getAge() > 25)
+            .findFirst();
+
+        assertEquals(Long.valueOf(2L), user.get().getId());
+        assertEquals(SELECT + " WHERE (`mySchema`.`user`.`age` > ?)", database.lastExecution().getSql());
+    }
+
+    @Test
+    public void testAnyMatchIsRenderedAsExists() {
+        database.onQuery(e -> asList(asList(1)));
+        assertTrue(users.stream().filter(User.AGE.greaterThan(18)).anyMatch(User.NAME.equal("a")));
+        assertEquals(
+            "SELECT EXISTS (SELECT 1 FROM `mySchema`.`user` WHERE (`mySchema`.`user`.`age` > ?) AND (`mySchema`.`user`.`name` = ?))",
+            database.lastExecution().getSql()
+        );
+        assertEquals(asList(18, "a"), database.lastExecution().getValues());
+
+        database.onQuery(e -> asList(asList(0)));
+        assertTrue(users.stream().noneMatch(User.NAME.equal("c")));
+        assertEquals(
+            "SELECT EXISTS (SELECT 1 FROM `mySchema`.`user` WHERE (`mySchema`.`user`.`name` = ?))",
+            database.lastExecution().getSql()
+        );
+    }
+
+    @Test
+    public void testAnyMatchWithOtherPredicateIsNotRendered() {
+        assertTrue(users.stream().filter(User.AGE.greaterThan(18)).anyMatch(u -> "a".equals(u.getName())));
+        assertFalse(users.stream().anyMatch(u -> "c".equals(u.getName())));
+        assertEquals(SELECT, database.lastExecution().getSql());
+    }
+
+    @Test
+    public void testSumOfIntegralFieldIsRenderedAsSum() {
+        database.onQuery(e -> asList(asList(90L)));
+        assertEquals(90, users.stream().filter(User.AGE.greaterThan(18)).mapToInt(ToIntFieldGetter.of(User.AGE)).sum());
+        assertEquals(
+            "SELECT SUM(`mySchema`.`user`.`age`) FROM `mySchema`.`user` WHERE (`mySchema`.`user`.`age` > ?)",
+            database.lastExecution().getSql()
+        );
+
+        database.onQuery(e -> asList(asList(6L)));
+        assertEquals(6L, users.stream().mapToLong(ToLongFieldGetter.of(User.ID)).sum());
+        assertEquals("SELECT SUM(`mySchema`.`user`.`id`) FROM `mySchema`.`user`", database.lastExecution().getSql());
+
+        database.onQuery(e -> asList(asList(7.5)));
+        assertEquals(7.5, users.stream().mapToDouble(ToDoubleFieldGetter.of(User.SCORE)).sum(), 0d);
+        assertEquals("SELECT SUM(`mySchema`.`user`.`score`) FROM `mySchema`.`user`", database.lastExecution().getSql());
+    }
+
+    @Test
+    public void testAverageOfIntegralFieldIsComputedFromSumAndCount() {
+        database.onQuery(e -> asList(asList(4L, 3L)));
+        assertEquals(4d / 3d, users.stream().mapToInt(ToIntFieldGetter.of(User.AGE)).average().getAsDouble(), 0d);
+        assertEquals(
+            "SELECT SUM(`mySchema`.`user`.`age`), COUNT(`mySchema`.`user`.`age`) FROM `mySchema`.`user`",
+            database.lastExecution().getSql()
+        );
+
+        assertEquals(4d / 3d, users.stream().mapToLong(ToLongFieldGetter.of(User.ID)).average().getAsDouble(), 0d);
+        assertEquals(
+            "SELECT SUM(`mySchema`.`user`.`id`), COUNT(`mySchema`.`user`.`id`) FROM `mySchema`.`user`",
+            database.lastExecution().getSql()
+        );
+
+        database.onQuery(e -> asList(asList(null, 0L)));
+        assertFalse(users.stream().filter(User.AGE.greaterThan(50)).mapToInt(ToIntFieldGetter.of(User.AGE)).average().isPresent());
+
+        database.onQuery(e -> asList(asList(2.5)));
+        assertEquals(2.5, users.stream().mapToDouble(ToDoubleFieldGetter.of(User.SCORE)).average().getAsDouble(), 0d);
+        assertEquals("SELECT AVG(`mySchema`.`user`.`score`) FROM `mySchema`.`user`", database.lastExecution().getSql());
+    }
+
+    @Test
+    public void testGroupedCountIsRenderedAsGroupBy() {
+        database.onQuery(e -> asList(asList("a", 2L), asList(null, 1L)));
+        final Map<String, Long> counts = users.stream()
+            .filter(User.AGE.greaterThan(18))
+            .collect(CollectorUtil.groupingBy(User.NAME, CollectorUtil.count()));
+
+        assertEquals(2, counts.size());
+        assertEquals(Long.valueOf(2L), counts.get("a"));
+        assertTrue(counts.containsKey(null));
+        assertEquals(Long.valueOf(1L), counts.get(null));
+        assertEquals(
+            "SELECT `mySchema`.`user`.`name`, COUNT(*) FROM `mySchema`.`user` "
+            + "WHERE (`mySchema`.`user`.`age` > ?) GROUP BY `mySchema`.`user`.`name`",
+            database.lastExecution().getSql()
+        );
+        assertEquals(asList(18), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testGroupedMinAndMaxAreRenderedAsGroupBy() {
+        database.onQuery(e -> asList(asList(20, 1.5), asList(30, null)));
+        final Map<Integer, Optional<Double>> min = users.stream()
+            .collect(CollectorUtil.groupingBy(User.AGE, CollectorUtil.min(User.SCORE)));
+
+        assertEquals(Optional.of(1.5), min.get(20));
+        assertEquals(Optional.empty(), min.get(30));
+        assertEquals(
+            "SELECT `mySchema`.`user`.`age`, MIN(`mySchema`.`user`.`score`) FROM `mySchema`.`user` GROUP BY `mySchema`.`user`.`age`",
+            database.lastExecution().getSql()
+        );
+
+        database.onQuery(e -> asList(asList(20, "b")));
+        final Map<Integer, Optional<String>> max = users.stream()
+            .collect(CollectorUtil.groupingBy(User.AGE, CollectorUtil.max(User.NAME)));
+
+        assertEquals(Optional.of("b"), max.get(20));
+        assertEquals(
+            "SELECT `mySchema`.`user`.`age`, MAX(`mySchema`.`user`.`name`) FROM `mySchema`.`user` GROUP BY `mySchema`.`user`.`age`",
+            database.lastExecution().getSql()
+        );
+    }
+
+    @Test
+    public void testGroupedAverageOfDecimalFieldIsRenderedAsAvg() {
+        database.onQuery(e -> asList(asList(20, 2.25)));
+        final Map<Integer, Double> averages = users.stream()
+            .collect(CollectorUtil.groupingBy(User.AGE, CollectorUtil.average(User.SCORE)));
+
+        assertEquals(Double.valueOf(2.25), averages.get(20));
+        assertEquals(
+            "SELECT `mySchema`.`user`.`age`, AVG(`mySchema`.`user`.`score`) FROM `mySchema`.`user` GROUP BY `mySchema`.`user`.`age`",
+            database.lastExecution().getSql()
+        );
+    }
+
+    @Test
+    public void testGroupedByMultipleFieldsIsRenderedAsGroupBy() {
+        database.onQuery(e -> asList(asList("a", 20, 3.0), asList(null, 20, 1.5)));
+        final Map<List<Object>, Double> sums = users.stream()
+            .collect(CollectorUtil.groupingBy(asList(User.NAME, User.AGE), CollectorUtil.sumDouble(User.SCORE)));
+
+        assertEquals(2, sums.size());
+        assertEquals(Double.valueOf(3.0), sums.get(asList("a", 20)));
+        assertEquals(Double.valueOf(1.5), sums.get(asList(null, 20)));
+        assertEquals(
+            "SELECT `mySchema`.`user`.`name`, `mySchema`.`user`.`age`, SUM(`mySchema`.`user`.`score`) "
+            + "FROM `mySchema`.`user` GROUP BY `mySchema`.`user`.`name`, `mySchema`.`user`.`age`",
+            database.lastExecution().getSql()
+        );
+    }
+
+    @Test
+    public void testGroupedAverageOfIntegralFieldIsComputedFromSumAndCount() {
+        database.onQuery(e -> asList(asList("a", 4L, 3L), asList("b", 0L, 0L)));
+        final Map<String, Double> averages = users.stream()
+            .collect(CollectorUtil.groupingBy(User.NAME, CollectorUtil.average(User.AGE)));
+
+        assertEquals(Double.valueOf(4d / 3d), averages.get("a"));
+        assertEquals(Double.valueOf(0d), averages.get("b"));
+        assertEquals(
+            "SELECT `mySchema`.`user`.`name`, SUM(`mySchema`.`user`.`age`), COUNT(`mySchema`.`user`.`age`) "
+            + "FROM `mySchema`.`user` GROUP BY `mySchema`.`user`.`name`",
+            database.lastExecution().getSql()
+        );
+    }
+
+    @Test
+    public void testTruncatedDecimalFieldIsNotAggregatedByDatabase() {
+        assertEquals(1 + 2 + 3, users.stream().mapToInt(ToIntFieldGetter.of(User.SCORE)).sum());
+        assertEquals(SELECT, database.lastExecution().getSql());
+
+        assertEquals(1L + 2L + 3L, users.stream().mapToLong(ToLongFieldGetter.of(User.SCORE)).sum());
+        assertEquals(SELECT, database.lastExecution().getSql());
+
+        assertEquals(2d, users.stream().mapToLong(ToLongFieldGetter.of(User.SCORE)).average().getAsDouble(), 0d);
+        assertEquals(SELECT, database.lastExecution().getSql());
+
+        assertEquals(3, users.stream().mapToInt(ToIntFieldGetter.of(User.ID)).max().getAsInt());
+        assertEquals(SELECT, database.lastExecution().getSql());
+    }
+
+    @Test
+    public void testGroupedLongSumOfDecimalFieldIsNotAggregatedByDatabase() {
+        final Map<Integer, Long> sums = users.stream()
+            .collect(CollectorUtil.groupingBy(User.AGE, CollectorUtil.sumLong(User.SCORE)));
+
+        assertEquals(Long.valueOf(2L), sums.get(30));
+        assertEquals(SELECT, database.lastExecution().getSql());
+
+        database.onQuery(e -> asList(asList(20, 1L), asList(30, 2L)));
+        final Map<Integer, Long> ids = users.stream()
+            .collect(CollectorUtil.groupingBy(User.AGE, CollectorUtil.sumLong(User.ID)));
+
+        assertEquals(Long.valueOf(2L), ids.get(30));
+        assertEquals(
+            "SELECT `mySchema`.`user`.`age`, SUM(`mySchema`.`user`.`id`) FROM `mySchema`.`user` GROUP BY `mySchema`.`user`.`age`",
+            database.lastExecution().getSql()
+        );
+    }
+
+    @Test
+    public void testMappedFieldIsRenderedAsColumnSelect() {
+        database.onQuery(e -> asList(asList("b"), asList((Object) null)));
+        final List<String> names = users.stream()
+            .filter(User.AGE.lessThan(35))
+            .map(User.NAME.getter())
+            .collect(toList());
+
+        assertEquals(asList("b", null), names);
+        assertEquals(
+            "SELECT `mySchema`.`user`.`name` FROM `mySchema`.`user` WHERE (`mySchema`.`user`.`age` < ?)",
+            database.lastExecution().getSql()
+        );
+        assertEquals(asList(35), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testDistinctMappedFieldIsRenderedAsSelectDistinct() {
+        database.onQuery(e -> asList(asList(20), asList(30)));
+        final List<Integer> ages = users.stream()
+            .map(User.AGE.getter())
+            .distinct()
+            .collect(toList());
+
+        assertEquals(asList(20, 30), ages);
+        assertEquals("SELECT DISTINCT `mySchema`.`user`.`age` FROM `mySchema`.`user`", database.lastExecution().getSql());
+    }
+
+    @Test
+    public void testMappedFieldAfterLimitIsNotDistinct() {
+        database.onQuery(e -> asList(asList(20), asList(20)));
+        final List<Integer> ages = users.stream()
+            .limit(2)
+            .map(User.AGE.getter())
+            .distinct()
+            .collect(toList());
+
+        assertEquals(asList(20), ages);
+        assertEquals("SELECT `mySchema`.`user`.`age` FROM `mySchema`.`user` LIMIT ?", database.lastExecution().getSql());
+    }
+
+    @Test
+    public void testMappedLambdaSelectsEntities() {
+        final List<String> names = users.stream()
+            .map(User::getName)
+            .collect(toList());
+
+        assertEquals(asList("b", null, "a"), names);
+        assertEquals(SELECT, database.lastExecution().getSql());
+    }
+
+    @Test
+    public void testExplain() {
+        final List<ExplainReport> reports = new ArrayList<>();
+        users.stream(StreamDecorator.explaining(reports::add))
+            .filter(User.AGE.greaterThan(18))
+            .sorted(User.NAME.comparator())
+            .map(User::getName)
+            .collect(toList());
+
+        assertEquals(1, reports.size());
+        final ExplainReport report = reports.get(0);
+        assertEquals(SELECT + " WHERE (`mySchema`.`user`.`age` > ?) ORDER BY `mySchema`.`user`.`name` ASC", report.getSql());
+        assertEquals(asList(18), report.getValues());
+        assertEquals(1, report.getDatabaseActions().size());
+        assertEquals(2, report.getJvmActions().size());
+
+        database.onQuery(e -> asList(asList(1, "SIMPLE", "user")));
+        assertEquals(asList("1 | SIMPLE | user"), report.getDatabasePlan());
+        assertEquals("EXPLAIN " + report.getSql(), database.lastExecution().getSql());
+        assertEquals(asList(18), database.lastExecution().getValues());
+    }
+
+    @Test
+    public void testExplainFailure() {
+        final List<ExplainReport> reports = new ArrayList<>();
+        users.stream(StreamDecorator.explaining(reports::add)).collect(toList());
+
+        database.failOn(sql -> sql.startsWith("EXPLAIN"), "42000");
+        assertEquals(emptyList(), reports.get(0).getDatabasePlan());
+    }
+
+    @Test
+    public void testNoReportUnlessExplaining() {
+        final List<ExplainReport> reports = new ArrayList<>();
+        users.stream(new StreamDecorator() {
+            @Override
+            public void explain(ExplainReport report) {
+                reports.add(report);
+            }
+        }).filter(User.AGE.greaterThan(18)).count();
+
+        assertEquals(emptyList(), reports);
+    }
+
+    @Test
+    public void testTupleIsRenderedAsColumnSelect() {
+        database.onQuery(e -> asList(asList(1L, 20), asList(2L, null)));
+        final List<Tuple2OfNullables<Long, Integer>> tuples = users.stream()
+            .filter(User.NAME.isNotNull())
+            .map(TupleGetter.of(User.ID, User.AGE))
+            .collect(toList());
+
+        assertEquals(
+            "SELECT `mySchema`.`user`.`id`,`mySchema`.`user`.`age` FROM `mySchema`.`user` "
+            + "WHERE (`mySchema`.`user`.`name` IS NOT NULL)",
+            database.lastExecution().getSql()
+        );
+        assertEquals(2, tuples.size());
+        assertEquals(Optional.of(1L), tuples.get(0).get0());
+        assertEquals(Optional.of(20), tuples.get(0).get1());
+        assertEquals(Optional.of(2L), tuples.get(1).get0());
+        assertEquals(Optional.empty(), tuples.get(1).get1());
+
+        database.onQuery(e -> asList(asList("b", 1.5, 20)));
+        final List<Tuple3OfNullables<String, Double, Integer>> projected = users.project(User.NAME, User.SCORE, User.AGE)
+            .collect(toList());
+
+        assertEquals(
+            "SELECT `mySchema`.`user`.`name`,`mySchema`.`user`.`score`,`mySchema`.`user`.`age` FROM `mySchema`.`user`",
+            database.lastExecution().getSql()
+        );
+        assertEquals(Optional.of(1.5), projected.get(0).get1());
+    }
+
+    @Test
+    public void testTupleAfterOtherFilterSelectsEntities() {
+        final List<Tuple2OfNullables<Long, String>> tuples = users.stream()
+            .filter(u -> u.getAge() > 25)
+            .map(TupleGetter.of(User.ID, User.NAME))
+            .collect(toList());
+
+        assertEquals(SELECT, database.lastExecution().getSql());
+        assertEquals(2, tuples.size());
+        assertEquals(Optional.of(2L), tuples.get(0).get0());
+        assertEquals(Optional.empty(), tuples.get(0).get1());
+        assertEquals(Optional.of("a"), tuples.get(1).get1());
+    }
+
+    private static final class NegatingMapper implements TypeMapper<Integer, Integer> {
+
+        @Override
+        public Class<Integer> getJavaType() {
+            return Integer.class;
+        }
+
+        @Override
+        public Class<Integer> getDatabaseType() {
+            return Integer.class;
+        }
+
+        @Override
+        public Integer toJavaType(Integer value) {
+            return value == null ? null : -value;
+        }
+
+        @Override
+        public Integer toDatabaseType(Integer value) {
+            return value == null ? null : -value;
+        }
+
+        @Override
+        public boolean isIdentityMapper() {
+            return false;
+        }
+    }
+}
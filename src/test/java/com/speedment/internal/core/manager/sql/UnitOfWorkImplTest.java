@@ -0,0 +1,225 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.db.MetaResult;
+import com.speedment.db.SqlMetaResult;
+import com.speedment.exception.SpeedmentException;
+import com.speedment.manager.UnitOfWork;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import static java.util.Arrays.asList;
+import java.util.List;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class UnitOfWorkImplTest extends UserModel {
+
+    private static final String INSERT = "INSERT INTO `mySchema`.`user` (`name`,`age`,`score`) VALUES (?,?,?)";
+    private static final String UPDATE = "UPDATE `mySchema`.`user` SET `age` = ? WHERE `id` = ?";
+
+    private UnitOfWork unitOfWork;
+
+    @Before
+    public void setUp() {
+        unitOfWork = new UnitOfWorkImpl(entity -> users);
+    }
+
+    @Test
+    public void testSameSqlIsBatched() {
+        database.onGeneratedKeys(e -> e.isBatch() ? asList(10L, 11L, 12L) : asList());
+
+        final List<UserImpl> entities = newUsers(3);
+        entities.forEach(unitOfWork::persist);
+        unitOfWork.update(existingUser(1L).setAge(21));
+        unitOfWork.commit();
+
+        final List<MockDatabase.Execution> executions = database.executions();
+        assertEquals(2, executions.size());
+        assertTrue(executions.get(0).isBatch());
+        assertEquals(INSERT, executions.get(0).getSql());
+        assertEquals(asList(
+            asList("u0", 0, 1.0),
+            asList("u1", 1, 1.0),
+            asList("u2", 2, 1.0)
+        ), executions.get(0).getRows());
+        assertFalse(executions.get(1).isBatch());
+        assertEquals(UPDATE, executions.get(1).getSql());
+        assertEquals(asList(21, 1L), executions.get(1).getValues());
+
+        assertEquals(1, database.commits());
+        assertEquals(asList(10L, 11L, 12L), entities.stream().map(User::getId).collect(toList()));
+    }
+
+    @Test
+    public void testMismatchedKeysAreNotMapped() {
+        database.onGeneratedKeys(e -> asList(10L, 11L));
+
+        final List<UserImpl> entities = newUsers(3);
+        entities.forEach(unitOfWork::persist);
+        unitOfWork.commit();
+
+        entities.forEach(u -> assertNull(u.getId()));
+    }
+
+    @Test
+    public void testGivenKeyIsNotOverwritten() {
+        database.onGeneratedKeys(e -> asList(99L));
+
+        final UserImpl user = newUsers(1).get(0);
+        user.setId(7L);
+        unitOfWork.persist(user);
+        unitOfWork.commit();
+
+        assertEquals(
+            "INSERT INTO `mySchema`.`user` (`id`,`name`,`age`,`score`) VALUES (?,?,?,?)",
+            database.lastExecution().getSql()
+        );
+        assertEquals(Long.valueOf(7L), user.getId());
+    }
+
+    @Test
+    public void testListenersAreNotifiedAfterCommit() {
+        database.onGeneratedKeys(e -> asList(10L));
+        final List<String> events = new ArrayList<>();
+
+        final UserImpl persisted = newUsers(1).get(0);
+        final UserImpl updated = (UserImpl) existingUser(1L).setAge(21);
+        unitOfWork.persist(persisted, meta -> {
+            events.add("persist " + database.commits() + " " + persisted.getId() + " " + persisted.dirtyFields_().isEmpty());
+            assertFalse(sqlMetaResult(meta).getThrowable().isPresent());
+        });
+        unitOfWork.update(updated, meta -> {
+            events.add("update " + database.commits() + " " + updated.dirtyFields_().isEmpty());
+            assertEquals(UPDATE, sqlMetaResult(meta).getQuery());
+            assertEquals(asList(21, 1L), sqlMetaResult(meta).getParameters());
+        });
+
+        assertTrue(events.isEmpty());
+        assertFalse(updated.dirtyFields_().isEmpty());
+
+        unitOfWork.commit();
+        assertEquals(asList("persist 1 10 true", "update 1 true"), events);
+    }
+
+    @Test
+    public void testFailureIsRolledBack() {
+        database.onGeneratedKeys(e -> asList(10L));
+        database.failOn(sql -> sql.startsWith("UPDATE"), "42000");
+        final List<Throwable> thrown = new ArrayList<>();
+
+        final UserImpl persisted = newUsers(1).get(0);
+        final UserImpl updated = (UserImpl) existingUser(1L).setAge(21);
+        unitOfWork.persist(persisted, meta -> thrown.add(sqlMetaResult(meta).getThrowable().get()));
+        unitOfWork.update(updated, meta -> thrown.add(sqlMetaResult(meta).getThrowable().get()));
+
+        try {
+            unitOfWork.commit();
+            fail("The commit should fail.");
+        } catch (final SpeedmentException ex) {
+            assertEquals(2, thrown.size());
+            assertEquals("42000", ((SQLException) thrown.get(0)).getSQLState());
+        }
+
+        assertEquals(0, database.commits());
+        assertEquals(1, database.rollbacks());
+        assertNull(persisted.getId());
+        assertFalse(persisted.dirtyFields_().isEmpty());
+        assertFalse(updated.dirtyFields_().isEmpty());
+    }
+
+    @Test
+    public void testTransientFailureIsThrownWhenRetriesAreExhausted() {
+        database.failOn(sql -> sql.startsWith("UPDATE"), "40001");
+        unitOfWork.update(existingUser(1L).setAge(21));
+
+        try {
+            unitOfWork.commit();
+            fail("The commit should fail.");
+        } catch (final SpeedmentException ex) {
+            assertEquals("40001", ((SQLException) ex.getCause()).getSQLState());
+        }
+
+        assertEquals(5, database.executions().size());
+        assertEquals(5, database.rollbacks());
+        assertEquals(0, database.commits());
+    }
+
+    @Test
+    public void testChangesAfterAddAreWritten() {
+        final UserImpl user = existingUser(1L);
+        unitOfWork.update(user.setAge(21));
+        user.setName("x");
+        user.setAge(22);
+        unitOfWork.commit();
+
+        assertEquals(
+            "UPDATE `mySchema`.`user` SET `name` = ?,`age` = ? WHERE `id` = ?", 
+            database.lastExecution().getSql()
+        );
+        assertEquals(asList("x", 22, 1L), database.lastExecution().getValues());
+        assertTrue(user.dirtyFields_().isEmpty());
+    }
+
+    @Test
+    public void testUpdateWithoutChangesIsLeftOut() {
+        final List<String> events = new ArrayList<>();
+        unitOfWork.update(existingUser(1L), meta -> events.add("update"));
+        unitOfWork.remove(existingUser(2L), meta -> events.add("remove"));
+        unitOfWork.commit();
+
+        assertEquals(asList("DELETE FROM `mySchema`.`user` WHERE `id` = ?"), database.executedSql());
+        assertEquals(asList("remove"), events);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCommitTwice() {
+        unitOfWork.commit();
+        unitOfWork.commit();
+    }
+
+    private UserImpl existingUser(long id) {
+        final UserImpl user = new UserImpl(speedment, true);
+        user.setId(id).setName("a").setAge(20).setScore(1.5);
+        user.clearDirtyFields_();
+        return user;
+    }
+
+    private List<UserImpl> newUsers(int count) {
+        final List<UserImpl> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final UserImpl user = new UserImpl(speedment, true);
+            user.setName("u" + i).setAge(i).setScore(1.0);
+            result.add(user);
+        }
+        return result;
+    }
+
+    private static <T> SqlMetaResult<T, ?> sqlMetaResult(MetaResult<T> meta) {
+        return meta.getSqlMetaResult().get();
+    }
+}
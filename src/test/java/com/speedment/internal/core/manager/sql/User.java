@@ -0,0 +1,86 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.config.db.mapper.identity.DoubleIdentityMapper;
+import com.speedment.config.db.mapper.identity.IntegerIdentityMapper;
+import com.speedment.config.db.mapper.identity.LongIdentityMapper;
+import com.speedment.config.db.mapper.identity.StringIdentityMapper;
+import com.speedment.field.ComparableField;
+import com.speedment.field.FieldIdentifier;
+import com.speedment.field.StringField;
+import com.speedment.internal.core.field.ComparableFieldImpl;
+import com.speedment.internal.core.field.StringFieldImpl;
+
+/**
+ * The entity of the {@code user} table of {@link UserModel}.
+ *
+ * @author pemi
+ */
+public interface User {
+
+    enum Identifier implements FieldIdentifier<User> {
+        ID("id"), NAME("name"), AGE("age"), SCORE("score");
+
+        private final String columnName;
+
+        Identifier(String columnName) {
+            this.columnName = columnName;
+        }
+
+        @Override
+        public String columnName() {
+            return columnName;
+        }
+
+        @Override
+        public String dbmsName() {
+            return UserModel.DBMS_NAME;
+        }
+
+        @Override
+        public String schemaName() {
+            return UserModel.SCHEMA_NAME;
+        }
+
+        @Override
+        public String tableName() {
+            return UserModel.TABLE_NAME;
+        }
+    }
+
+    final static ComparableField<User, Long, Long> ID = new ComparableFieldImpl<>(Identifier.ID, User::getId, User::setId, new LongIdentityMapper(), true);
+    final static StringField<User, String> NAME = new StringFieldImpl<>(Identifier.NAME, User::getName, User::setName, new StringIdentityMapper(), true);
+    final static ComparableField<User, Integer, Integer> AGE = new ComparableFieldImpl<>(Identifier.AGE, User::getAge, User::setAge, new IntegerIdentityMapper(), false);
+    final static ComparableField<User, Double, Double> SCORE = new ComparableFieldImpl<>(Identifier.SCORE, User::getScore, User::setScore, new DoubleIdentityMapper(), false);
+
+    Long getId();
+
+    String getName();
+
+    Integer getAge();
+
+    Double getScore();
+
+    User setId(Long id);
+
+    User setName(String name);
+
+    User setAge(Integer age);
+
+    User setScore(Double score);
+}
@@ -0,0 +1,117 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.Speedment;
+import com.speedment.internal.core.code.AbstractBaseEntity;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An implementation of {@link User} that works as a generated entity. If 
+ * {@code tracking} is {@code false}, the setters do not mark the fields as 
+ * changed, just as in entities generated before changes were tracked.
+ *
+ * @author pemi
+ */
+public final class UserImpl extends AbstractBaseEntity<User> implements User {
+
+    private final Speedment speedment;
+    private final boolean tracking;
+    private Long id;
+    private String name;
+    private Integer age;
+    private Double score;
+
+    public UserImpl(Speedment speedment, boolean tracking) {
+        this.speedment = requireNonNull(speedment);
+        this.tracking = tracking;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Integer getAge() {
+        return age;
+    }
+
+    @Override
+    public Double getScore() {
+        return score;
+    }
+
+    @Override
+    public User setId(Long id) {
+        this.id = id;
+        changed(0);
+        return this;
+    }
+
+    @Override
+    public User setName(String name) {
+        this.name = name;
+        changed(1);
+        return this;
+    }
+
+    @Override
+    public User setAge(Integer age) {
+        this.age = age;
+        changed(2);
+        return this;
+    }
+
+    @Override
+    public User setScore(Double score) {
+        this.score = score;
+        changed(3);
+        return this;
+    }
+
+    private void changed(int fieldIndex) {
+        if (tracking) {
+            setDirty_(fieldIndex);
+        }
+    }
+
+    @Override
+    public boolean tracksDirtyFields_() {
+        return tracking;
+    }
+
+    @Override
+    protected Speedment speedment() {
+        return speedment;
+    }
+
+    @Override
+    protected Class<User> entityClass() {
+        return User.class;
+    }
+
+    @Override
+    public String toString() {
+        return "UserImpl {id: " + id + ", name: " + name + ", age: " + age + ", score: " + score + "}";
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.Speedment;
+import com.speedment.config.db.Table;
+import com.speedment.exception.SpeedmentException;
+import com.speedment.field.FieldIdentifier;
+import com.speedment.field.trait.FieldTrait;
+import com.speedment.internal.util.document.DocumentDbUtil;
+import static com.speedment.internal.util.sql.ResultSetUtil.getDouble;
+import static com.speedment.internal.util.sql.ResultSetUtil.getInt;
+import static com.speedment.internal.util.sql.ResultSetUtil.getLong;
+import com.speedment.manager.Manager;
+import com.speedment.util.tuple.Tuple;
+import com.speedment.util.tuple.Tuples;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.stream.Stream;
+
+/**
+ * A manager of the {@code user} table of {@link UserModel} that works as a 
+ * generated manager.
+ *
+ * @author pemi
+ */
+public final class UserManager extends AbstractSqlManager<User> {
+
+    public UserManager(Speedment speedment) {
+        super(speedment);
+        setEntityMapper(this::newEntityFrom);
+    }
+
+    private User newEntityFrom(ResultSet resultSet) throws SpeedmentException {
+        final User entity = new UserImpl(speedment, true);
+        try {
+            entity.setId(getLong(resultSet, 1));
+            entity.setName(resultSet.getString(2));
+            entity.setAge(getInt(resultSet, 3));
+            entity.setScore(getDouble(resultSet, 4));
+        } catch (SQLException sqle) {
+            throw new SpeedmentException(sqle);
+        }
+        return entity;
+    }
+
+    @Override
+    public Table getTable() {
+        return DocumentDbUtil.referencedTable(speedment, UserModel.DBMS_NAME, UserModel.SCHEMA_NAME, UserModel.TABLE_NAME);
+    }
+
+    @Override
+    public Class<User> getEntityClass() {
+        return User.class;
+    }
+
+    @Override
+    public Class<? extends Manager<User>> getManagerClass() {
+        return UserManager.class;
+    }
+
+    @Override
+    public Object primaryKeyFor(User entity) {
+        return entity.getId();
+    }
+
+    @Override
+    public Object get(User entity, FieldIdentifier<User> identifier) {
+        switch ((User.Identifier) identifier) {
+            case ID    : return entity.getId();
+            case NAME  : return entity.getName();
+            case AGE   : return entity.getAge();
+            case SCORE : return entity.getScore();
+            default : throw new IllegalArgumentException("Unknown identifier '" + identifier + "'.");
+        }
+    }
+
+    @Override
+    public void set(User entity, FieldIdentifier<User> identifier, Object value) {
+        switch ((User.Identifier) identifier) {
+            case ID    : entity.setId((Long) value); break;
+            case NAME  : entity.setName((String) value); break;
+            case AGE   : entity.setAge((Integer) value); break;
+            case SCORE : entity.setScore((Double) value); break;
+            default : throw new IllegalArgumentException("Unknown identifier '" + identifier + "'.");
+        }
+    }
+
+    @Override
+    public Stream<FieldTrait> fields() {
+        return Stream.of(User.ID, User.NAME, User.AGE, User.SCORE);
+    }
+
+    @Override
+    public Stream<FieldTrait> primaryKeyFields() {
+        return Stream.of(User.ID);
+    }
+
+    @Override
+    public User newEmptyEntity() {
+        return new UserImpl(speedment, true);
+    }
+
+    @Override
+    public User newCopyOf(User source) {
+        return newEmptyEntity()
+            .setId(source.getId())
+            .setName(source.getName())
+            .setAge(source.getAge())
+            .setScore(source.getScore());
+    }
+
+    @Override
+    public Tuple getPrimaryKeyClasses() {
+        return Tuples.of(Long.class);
+    }
+}
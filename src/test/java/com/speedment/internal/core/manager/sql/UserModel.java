@@ -0,0 +1,166 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.manager.sql;
+
+import com.speedment.Speedment;
+import com.speedment.config.db.Column;
+import com.speedment.config.db.Dbms;
+import com.speedment.config.db.Index;
+import com.speedment.config.db.Project;
+import com.speedment.config.db.Schema;
+import com.speedment.config.db.Table;
+import com.speedment.config.db.mapper.TypeMapper;
+import com.speedment.config.db.mapper.identity.DoubleIdentityMapper;
+import com.speedment.config.db.mapper.identity.IntegerIdentityMapper;
+import com.speedment.config.db.mapper.identity.LongIdentityMapper;
+import com.speedment.config.db.mapper.identity.StringIdentityMapper;
+import com.speedment.config.db.trait.HasName;
+import com.speedment.config.db.trait.HasNullable;
+import static com.speedment.internal.codegen.util.Formatting.indent;
+import com.speedment.internal.core.config.dbms.StandardDbmsType;
+import com.speedment.internal.core.platform.component.impl.ConnectionPoolComponentImpl;
+import com.speedment.internal.core.runtime.DefaultSpeedmentApplicationLifecycle;
+import com.speedment.internal.util.document.DocumentTranscoder;
+import java.sql.Connection;
+import static java.util.stream.Collectors.joining;
+import java.util.stream.Stream;
+import org.junit.Before;
+
+/**
+ * A model with a single {@code user} table that is managed by a 
+ * {@link UserManager}. The connections of the application are taken from a
+ * {@link MockDatabase} so that tests can assert the SQL that is sent to the
+ * database.
+ *
+ * @author pemi
+ */
+public abstract class UserModel {
+
+    protected static final String DBMS_NAME = "myDbms";
+    protected static final String SCHEMA_NAME = "mySchema";
+    protected static final String TABLE_NAME = "user";
+
+    protected MockDatabase database;
+    protected Speedment speedment;
+    protected UserManager users;
+
+    /**
+     * Returns the name of the {@link com.speedment.config.db.parameters.DbmsType}
+     * of the model.
+     *
+     * @return  the dbms type name
+     */
+    protected String dbmsTypeName() {
+        return StandardDbmsType.defaultType().getName();
+    }
+
+    private String quote(String s) {
+        return "\"" + s + "\"";
+    }
+
+    private String name(String s) {
+        return quote(HasName.NAME) + " : " + quote(s);
+    }
+
+    private String property(String key, Object value) {
+        return quote(key) + " : " + (value instanceof String ? quote((String) value) : value);
+    }
+
+    private String column(String name, Class<? extends TypeMapper<?, ?>> typeMapper, Class<?> databaseType, boolean nullable, boolean autoIncrement) {
+        return object(
+            name(name),
+            property(Column.TYPE_MAPPER, typeMapper.getName()),
+            property(Column.DATABASE_TYPE, databaseType.getName()),
+            property(HasNullable.NULLABLE, nullable),
+            property(Column.AUTO_INCREMENT, autoIncrement)
+        );
+    }
+
+    private String array(String name, String... s) {
+        return quote(name) + " : [\n" + indent(Stream.of(s).collect(joining(",\n"))) + "\n]";
+    }
+
+    private String objectWithKey(String name, String... s) {
+        return quote(name) + " : " + object(s);
+    }
+
+    private String object(String... s) {
+        return "{\n" + indent(Stream.of(s).collect(joining(",\n"))) + "\n}";
+    }
+
+    @Before
+    public void userModelSetUp() {
+        final String json = "{"
+            + objectWithKey(DocumentTranscoder.ROOT,
+                name("myProject"),
+                array(Project.DBMSES,
+                    object(
+                        name(DBMS_NAME),
+                        property(Dbms.TYPE_NAME, dbmsTypeName()),
+                        property(Dbms.IP_ADDRESS, "localhost"),
+                        property(Dbms.PORT, 1234),
+                        property(Dbms.USERNAME, "root"),
+                        array(Dbms.SCHEMAS,
+                            object(
+                                name(SCHEMA_NAME),
+                                array(Schema.TABLES,
+                                    object(
+                                        name(TABLE_NAME),
+                                        array(Table.COLUMNS,
+                                            column("id", LongIdentityMapper.class, Long.class, false, true),
+                                            column("name", StringIdentityMapper.class, String.class, true, false),
+                                            column("age", IntegerIdentityMapper.class, Integer.class, true, false),
+                                            column("score", DoubleIdentityMapper.class, Double.class, true, false)
+                                        ),
+                                        array(Table.PRIMARY_KEY_COLUMNS,
+                                            object(name("id"))
+                                        ),
+                                        array(Table.INDEXES,
+                                            object(
+                                                name("name_unique"),
+                                                property(Index.UNIQUE, true),
+                                                array(Index.INDEX_COLUMNS,
+                                                    object(name("name"))
+                                                )
+                                            )
+                                        )
+                                    )
+                                )
+                            )
+                        )
+                    )
+                )
+            )
+            + "}";
+
+        database = new MockDatabase();
+        speedment = new DefaultSpeedmentApplicationLifecycle(json)
+            .withCheckDatabaseConnectivity(false)
+            .withValidateRuntimeConfig(false)
+            .withPrintWelcomeMessage(false)
+            .with(s -> new ConnectionPoolComponentImpl(s) {
+                @Override
+                public Connection newConnection(String uri, String user, String password) {
+                    return database.newConnection();
+                }
+            })
+            .build();
+
+        users = new UserManager(speedment);
+        speedment.getManagerComponent().put(users);
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.platform.component.impl;
+
+import com.speedment.Speedment;
+import com.speedment.internal.core.runtime.DefaultSpeedmentApplicationLifecycle;
+import com.speedment.internal.core.stream.builder.action.reference.FilterAction;
+import com.speedment.internal.core.stream.builder.action.reference.LimitAction;
+import com.speedment.internal.core.stream.builder.action.reference.PeekAction;
+import com.speedment.internal.core.stream.builder.action.reference.SkipAction;
+import com.speedment.internal.core.stream.builder.action.reference.SortedAction;
+import com.speedment.internal.core.stream.builder.pipeline.PipelineImpl;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class PipelineOptimizerComponentImplTest {
+
+    private PipelineOptimizerComponentImpl instance;
+
+    @Before
+    public void setUp() {
+        final Speedment speedment = new DefaultSpeedmentApplicationLifecycle()
+            .withCheckDatabaseConnectivity(false)
+            .withValidateRuntimeConfig(false)
+            .withPrintWelcomeMessage(false)
+            .build();
+        instance = new PipelineOptimizerComponentImpl(speedment);
+    }
+
+    @Test
+    public void testFilterBeforeSortedAndPeek() {
+        final List<Integer> peeked = new ArrayList<>();
+        final PipelineImpl<Integer> pipeline = pipeline();
+        pipeline.add(new SortedAction<>());
+        pipeline.add(new PeekAction<Integer>(peeked::add));
+        pipeline.add(new FilterAction<Integer>(i -> i % 2 == 0));
+        pipeline.add(new FilterAction<Integer>(i -> i > 2));
+
+        instance.optimize(pipeline, true);
+
+        assertEquals(3, pipeline.size());
+        assertTrue(pipeline.get(0) instanceof FilterAction);
+        assertTrue(pipeline.get(1) instanceof SortedAction);
+        assertTrue(pipeline.get(2) instanceof PeekAction);
+        assertEquals(Arrays.asList(4, 6), pipeline.getAsReferenceStream().collect(Collectors.toList()));
+        assertEquals(Arrays.asList(4, 6), peeked);
+    }
+
+    @Test
+    public void testCollapseSkipsAndLimits() {
+        final PipelineImpl<Integer> pipeline = pipeline();
+        pipeline.add(new SkipAction<>(1));
+        pipeline.add(new SkipAction<>(2));
+        pipeline.add(new LimitAction<>(5));
+        pipeline.add(new LimitAction<>(2));
+
+        instance.optimize(pipeline, true);
+
+        assertEquals(2, pipeline.size());
+        assertEquals(3, ((SkipAction<?>) pipeline.get(0)).getSkip());
+        assertEquals(2, ((LimitAction<?>) pipeline.get(1)).getLimit());
+        assertEquals(Arrays.asList(6, 4), pipeline.getAsReferenceStream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testRemoveUnorderedSorted() {
+        final PipelineImpl<Integer> ordered = pipeline();
+        ordered.add(new SortedAction<>());
+        instance.optimize(ordered, true);
+        assertEquals(1, ordered.size());
+
+        final PipelineImpl<Integer> limited = pipeline();
+        limited.add(new SortedAction<>());
+        limited.add(new LimitAction<>(2));
+        instance.optimize(limited, false);
+        assertEquals(2, limited.size());
+
+        final PipelineImpl<Integer> unordered = pipeline();
+        unordered.add(new SortedAction<>());
+        instance.optimize(unordered, false);
+        assertTrue(unordered.isEmpty());
+    }
+
+    @Test
+    public void testInstall() {
+        final long before = instance.rules().count();
+        instance.install((pipeline, orderSensitive) -> false);
+        assertEquals(before + 1, instance.rules().count());
+    }
+
+    private static PipelineImpl<Integer> pipeline() {
+        return new PipelineImpl<>(() -> Stream.of(5, 3, 1, 6, 4, 2));
+    }
+
+}
@@ -0,0 +1,93 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.pool.impl;
+
+import com.speedment.internal.core.manager.sql.MockDatabase;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class PoolableConnectionImplTest {
+
+    private static final int MAX_CACHED_STATEMENTS = 64;
+
+    private MockDatabase database;
+    private PoolableConnectionImpl connection;
+
+    @Before
+    public void setUp() {
+        database = new MockDatabase();
+        connection = new PoolableConnectionImpl("jdbc:mock", "user", "password", database.newConnection(), Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testStatementIsReused() throws SQLException {
+        final PreparedStatement first = connection.prepareCachedStatement("SELECT 1");
+        assertSame(first, connection.prepareCachedStatement("SELECT 1"));
+        assertNotSame(first, connection.prepareCachedStatement("SELECT 2"));
+        assertEquals(2, database.statements());
+    }
+
+    @Test
+    public void testClosedStatementIsPreparedAgain() throws SQLException {
+        final PreparedStatement first = connection.prepareCachedStatement("SELECT 1");
+        first.close();
+        final PreparedStatement second = connection.prepareCachedStatement("SELECT 1");
+        assertNotSame(first, second);
+        assertFalse(second.isClosed());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedStatementIsEvicted() throws SQLException {
+        final List<PreparedStatement> statements = new ArrayList<>();
+        for (int i = 0; i < MAX_CACHED_STATEMENTS; i++) {
+            statements.add(connection.prepareCachedStatement("SELECT " + i));
+        }
+
+        // Use the first statement so that the second becomes the eldest
+        assertSame(statements.get(0), connection.prepareCachedStatement("SELECT 0"));
+        connection.prepareCachedStatement("SELECT " + MAX_CACHED_STATEMENTS);
+
+        assertFalse(statements.get(0).isClosed());
+        assertTrue(statements.get(1).isClosed());
+        assertSame(statements.get(0), connection.prepareCachedStatement("SELECT 0"));
+        assertSame(statements.get(2), connection.prepareCachedStatement("SELECT 2"));
+        assertNotSame(statements.get(1), connection.prepareCachedStatement("SELECT 1"));
+    }
+
+    @Test
+    public void testRawCloseClosesCachedStatements() throws SQLException {
+        final PreparedStatement first = connection.prepareCachedStatement("SELECT 1");
+        final PreparedStatement second = connection.prepareCachedStatement("SELECT 2");
+        connection.rawClose();
+        assertTrue(first.isClosed());
+        assertTrue(second.isClosed());
+        assertTrue(connection.isClosed());
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream;
+
+import com.speedment.exception.SpeedmentException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class ReadAheadIteratorTest {
+
+    @Test
+    public void testAll() {
+        final List<Integer> expected = IntStream.range(0, 10_000).boxed().collect(toList());
+        final List<Integer> result = new ArrayList<>();
+        try (final ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(expected.iterator(), 100)) {
+            iterator.forEachRemaining(result::add);
+            assertFalse(iterator.hasNext());
+        }
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testClose() {
+        final AtomicInteger read = new AtomicInteger();
+        final Iterator<Integer> endless = new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return read.incrementAndGet();
+            }
+        };
+
+        final ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(endless, 16);
+        assertEquals(Integer.valueOf(1), iterator.next());
+        iterator.close();
+
+        final int readWhenClosed = read.get();
+        assertTrue(readWhenClosed <= 1 + 2 * 16);
+        assertFalse(iterator.hasNext());
+        assertEquals(readWhenClosed, read.get());
+    }
+
+    @Test(expected = SpeedmentException.class)
+    public void testError() {
+        final Iterator<Integer> failing = new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                throw new IllegalStateException();
+            }
+        };
+
+        try (final ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(failing, 16)) {
+            iterator.hasNext();
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void testErrorIsHandedOver() {
+        final Iterator<Integer> failing = new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                throw new StackOverflowError();
+            }
+        };
+
+        try (final ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(failing, 16)) {
+            iterator.hasNext();
+            fail("Expected the error of the reader to be thrown.");
+        } catch (final SpeedmentException ex) {
+            assertTrue(ex.getCause() instanceof StackOverflowError);
+        }
+    }
+}
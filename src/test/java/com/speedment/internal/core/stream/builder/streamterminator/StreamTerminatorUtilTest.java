@@ -0,0 +1,55 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream.builder.streamterminator;
+
+import com.speedment.field.methods.ToLongFieldGetter;
+import com.speedment.internal.core.stream.builder.action.reference.MapAction;
+import com.speedment.internal.core.stream.builder.action.reference.MapToLongAction;
+import com.speedment.internal.field.BaseFieldTest;
+import com.speedment.internal.field.Entity;
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class StreamTerminatorUtilTest extends BaseFieldTest {
+
+    @Test
+    public void testMappedField() {
+        final ToLongFieldGetter<Entity> getter = ToLongFieldGetter.of(ID);
+        final long expected = entities.stream().filter(e -> e.getId() != null).mapToLong(Entity::getId).sum();
+        assertEquals(expected, entities.stream().filter(e -> e.getId() != null).mapToLong(getter).sum());
+        assertEquals(ID, StreamTerminatorUtil.mappedField(new MapToLongAction<>(getter)).get());
+        assertFalse(StreamTerminatorUtil.mappedField(new MapToLongAction<Entity>(e -> 1L)).isPresent());
+    }
+
+    @Test
+    public void testProjectedField() {
+        assertEquals(
+            entities.stream().map(Entity::getName).collect(toList()),
+            entities.stream().map(NAME.getter()).collect(toList())
+        );
+        assertEquals(NAME.getIdentifier(), StreamTerminatorUtil.projectedField(new MapAction<>(NAME.getter())).get().getIdentifier());
+        assertFalse(StreamTerminatorUtil.projectedField(new MapAction<Entity, String>(Entity::getName)).isPresent());
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.internal.core.stream.parallelstrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class PartitionSpliteratorTest {
+
+    private static final int PARTITIONS = 8;
+    private static final int PARTITION_SIZE = 1000;
+
+    @Test
+    public void testParallelSum() {
+        final AtomicInteger closed = new AtomicInteger();
+        final Queue<Stream<Integer>> opened = new ConcurrentLinkedQueue<>();
+
+        final long sum = StreamSupport.stream(
+            new PartitionSpliterator<>(partitions(closed), opened::add, Spliterator.NONNULL), 
+            true
+        ).mapToLong(i -> i).sum();
+
+        final long n = PARTITIONS * PARTITION_SIZE;
+        assertEquals(n * (n - 1) / 2, sum);
+        assertEquals(PARTITIONS, opened.size());
+        assertEquals(PARTITIONS, closed.get());
+    }
+
+    @Test
+    public void testTrySplit() {
+        final Spliterator<Integer> instance = new PartitionSpliterator<>(partitions(new AtomicInteger()), s -> {}, Spliterator.NONNULL);
+        final Spliterator<Integer> split = instance.trySplit();
+        assertNotNull(split);
+        assertEquals(Integer.valueOf(0), next(instance));
+        assertEquals(Integer.valueOf(PARTITIONS / 2 * PARTITION_SIZE), next(split));
+
+        // The first partition has been started so three are left to split:
+        // 3 -> 2 -> 1
+        assertNotNull(instance.trySplit());
+        assertNotNull(instance.trySplit());
+        assertNull(instance.trySplit());
+    }
+
+    private static Integer next(Spliterator<Integer> spliterator) {
+        final List<Integer> result = new ArrayList<>();
+        spliterator.tryAdvance(result::add);
+        return result.get(0);
+    }
+
+    private static List<Supplier<Stream<Integer>>> partitions(AtomicInteger closed) {
+        final List<Supplier<Stream<Integer>>> result = new ArrayList<>();
+        for (int i = 0; i < PARTITIONS; i++) {
+            final int from = i * PARTITION_SIZE;
+            result.add(() -> IntStream.range(from, from + PARTITION_SIZE).boxed().onClose(closed::incrementAndGet));
+        }
+        return result;
+    }
+}
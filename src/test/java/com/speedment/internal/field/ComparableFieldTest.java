@@ -21,6 +21,10 @@ import static com.speedment.field.Inclusion.START_EXCLUSIVE_END_INCLUSIVE;
 import static com.speedment.field.Inclusion.START_INCLUSIVE_END_INCLUSIVE;
 import static com.speedment.internal.field.Entity.ID;
 import static com.speedment.internal.field.Entity.NAME;
+import com.speedment.internal.comparator.impl.CombinedSpeedmentComparator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.nullsFirst;
 import static java.util.Comparator.nullsLast;
@@ -30,6 +34,7 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import java.util.stream.Stream;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
 /**
@@ -64,6 +69,29 @@ public class ComparableFieldTest extends BaseFieldTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    public void testReferenceFieldComparatorReversed() throws Exception {
+        final Comparator<Entity> comparator = NAME.comparatorNullFieldsFirst().thenComparing(ID.comparator());
+        final List<Entity> result = entities.stream().sorted(comparator.reversed()).collect(toList());
+        final List<Entity> expected = entities.stream()
+            .sorted(
+                comparing(Entity::getName, nullsFirst(String::compareTo))
+                .thenComparing(comparing(Entity::getId, nullsFirst(Integer::compareTo)))
+                .reversed()
+            )
+            .collect(toList());
+
+        assertEquals(expected, result);
+        assertTrue(comparator instanceof CombinedSpeedmentComparator);
+        assertEquals(2, ((CombinedSpeedmentComparator<Entity>) comparator).stream().count());
+
+        // Reversing a comparator must not modify the original
+        final List<Entity> unreversed = entities.stream().sorted(comparator).collect(toList());
+        final List<Entity> expectedUnreversed = new ArrayList<>(expected);
+        Collections.reverse(expectedUnreversed);
+        assertEquals(expectedUnreversed, unreversed);
+    }
+
     @Test
     public void testEqual() throws Exception {
         assertEquals(collect(e -> "a".equals(e.getName())).size(), collect(NAME.equal("a")).size());
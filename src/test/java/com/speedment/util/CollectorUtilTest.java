@@ -0,0 +1,52 @@
+/**
+ *
+ * Copyright (c) 2006-2016, Speedment, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); You may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at:
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.speedment.util;
+
+import com.speedment.internal.field.BaseFieldTest;
+import static com.speedment.internal.field.Entity.ID;
+import static com.speedment.internal.field.Entity.NAME;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author pemi
+ */
+public class CollectorUtilTest extends BaseFieldTest {
+
+    @Test
+    public void testGroupingBy() {
+        final Map<String, Long> counts = entities.stream().collect(CollectorUtil.groupingBy(NAME, CollectorUtil.count()));
+        assertEquals(Long.valueOf(4), counts.get(null));
+        assertEquals(Long.valueOf(3), counts.get("a"));
+        assertEquals(Long.valueOf(1), counts.get("b"));
+
+        final Map<String, Long> sums = entities.stream().collect(CollectorUtil.groupingBy(NAME, CollectorUtil.sumLong(ID)));
+        assertEquals(Long.valueOf(1 + 2 + 3), sums.get("a"));
+
+        final Map<String, Optional<Integer>> max = entities.stream().collect(CollectorUtil.groupingBy(NAME, CollectorUtil.max(ID)));
+        assertEquals(Optional.of(15), max.get(null));
+
+        final Map<List<Object>, Double> averages = entities.parallelStream().collect(CollectorUtil.groupingBy(Arrays.asList(NAME, ID), CollectorUtil.average(ID)));
+        assertEquals(entities.size(), averages.size());
+        assertEquals(Double.valueOf(2), averages.get(Arrays.asList("a", 2)));
+    }
+}